@@ -165,6 +165,9 @@ public static CharSet getInstance(final String... setStrs) {
     /** The set of CharRange objects. */
     private final Set<CharRange> set = Collections.synchronizedSet(new HashSet<>());
 
+    /** The membership of the ASCII characters as a 128 bit mask, computed lazily and reset when the set changes. */
+    private transient volatile long[] asciiMask;
+
     /**
      * Constructs a new CharSet using the set syntax.
      * Each string is merged in with the set.
@@ -208,6 +211,10 @@ protected void add(final String str) {
                 pos += 1;
             }
         }
+        synchronized (set) {
+            // After the ranges are added, so that a mask computed concurrently cannot outlive them.
+            asciiMask = null;
+        }
     }
 
     /**
@@ -218,11 +225,37 @@ protected void add(final String str) {
      * @return {@code true} if the set contains the characters
      */
     public boolean contains(final char ch) {
+        if (ch < 128) {
+            long[] mask = asciiMask;
+            if (mask == null) {
+                mask = asciiMask();
+            }
+            return (mask[ch >> 6] & 1L << ch) != 0;
+        }
         synchronized (set) {
             return set.stream().anyMatch(range -> range.contains(ch));
         }
     }
 
+    /**
+     * Computes the membership of the ASCII characters, so that {@link #contains(char)} tests them with a single lookup.
+     *
+     * @return the 128 bit mask, the bit {@code ch} being set when the set contains {@code ch}.
+     */
+    private long[] asciiMask() {
+        final long[] mask = new long[2];
+        synchronized (set) {
+            for (char ch = 0; ch < 128; ch++) {
+                final char c = ch;
+                if (set.stream().anyMatch(range -> range.contains(c))) {
+                    mask[ch >> 6] |= 1L << ch;
+                }
+            }
+            asciiMask = mask;
+        }
+        return mask;
+    }
+
     // Basics
     /**
      * Compares two {@link CharSet} objects, returning true if they represent
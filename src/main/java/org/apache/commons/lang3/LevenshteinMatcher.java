@@ -0,0 +1,431 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.lang3;
+
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.IntStream;
+
+/**
+ * Computes the Levenshtein distance between a query, compiled once, and many texts, like {@link StringUtils#getLevenshteinDistance(CharSequence, CharSequence)}.
+ * <p>
+ * The query is compiled into one bit mask per distinct character, and the distances are computed with Myers' bit-parallel algorithm, which processes 64
+ * characters of the query per machine word: a query of up to 64 characters costs a handful of operations per character of the text. When a threshold is
+ * given, the computation stops as soon as the distance is known to exceed it, and long queries with small thresholds only compute the diagonal band of the
+ * cost table that can stay under the threshold.
+ * </p>
+ *
+ * <pre>{@code
+ * final LevenshteinMatcher matcher = LevenshteinMatcher.of("kitten");
+ * matcher.distance("sitting"); // 3
+ * matcher.distance("sitting", 2); // -1
+ * matcher.distances(new String[] { "kitten", "mitten", "sitting" }); // [0, 1, 3]
+ * }</pre>
+ * <p>
+ * An instance reuses its scratch buffers from one text to the next, so it is not thread-safe: use one instance per thread, or the
+ * {@link #parallelDistances(CharSequence[], int) parallel batch methods} which give each of their tasks its own buffers.
+ * </p>
+ *
+ * @see StringUtils#getLevenshteinDistance(CharSequence, CharSequence)
+ * @see StringUtils#getLevenshteinDistance(CharSequence, CharSequence, int)
+ * @since 3.18.0
+ */
+public final class LevenshteinMatcher {
+
+    /** The threshold of the methods without threshold. */
+    private static final int NO_THRESHOLD = Integer.MAX_VALUE;
+
+    /** The number of chunks per thread of the common pool in the parallel batch methods. */
+    private static final int CHUNKS_PER_THREAD = 4;
+
+    /**
+     * The number of diagonals of the band per block of the query under which the banded computation is used: a cell of the band costs about a quarter of
+     * the bit-parallel processing of a block.
+     */
+    private static final int BAND_PER_BLOCK = 4;
+
+    /** The row of the mask table of the ASCII characters, followed by the other characters of the query and a last row for all other characters. */
+    private static final int ASCII = 128;
+
+    /**
+     * Compiles the given query.
+     *
+     * @param query the query to compute the distance of texts to, not null.
+     * @return a new matcher.
+     * @throws NullPointerException if {@code query} is {@code null}.
+     */
+    public static LevenshteinMatcher of(final CharSequence query) {
+        return new LevenshteinMatcher(Objects.requireNonNull(query, "query").toString());
+    }
+
+    /** The query. */
+    private final String query;
+
+    /** The number of 64 bit blocks of the query. */
+    private final int blocks;
+
+    /** The bit of the last character of the query in its block. */
+    private final long lastBit;
+
+    /** The sorted non-ASCII characters of the query. */
+    private final char[] otherChars;
+
+    /**
+     * The masks of the characters, {@link #blocks} per character: ASCII characters first, then {@link #otherChars}, then zeros. Bit {@code i} of block
+     * {@code b} is set when the query has the character at index {@code 64 * b + i}.
+     */
+    private final long[] masks;
+
+    /** The positive vertical deltas of the bit-parallel computation, per block. */
+    private final long[] positive;
+
+    /** The negative vertical deltas of the bit-parallel computation, per block. */
+    private final long[] negative;
+
+    /** The previous row of the banded computation, allocated on first use. */
+    private int[] previousRow;
+
+    /** The current row of the banded computation, allocated on first use. */
+    private int[] currentRow;
+
+    private LevenshteinMatcher(final LevenshteinMatcher matcher) {
+        this.query = matcher.query;
+        this.blocks = matcher.blocks;
+        this.lastBit = matcher.lastBit;
+        this.otherChars = matcher.otherChars;
+        this.masks = matcher.masks;
+        this.positive = new long[blocks];
+        this.negative = new long[blocks];
+    }
+
+    private LevenshteinMatcher(final String query) {
+        final int length = query.length();
+        this.query = query;
+        this.blocks = (length + Long.SIZE - 1) / Long.SIZE;
+        this.lastBit = 1L << (length - 1 & Long.SIZE - 1);
+        final int[] others = query.chars().filter(ch -> ch >= ASCII).distinct().sorted().toArray();
+        this.otherChars = new char[others.length];
+        for (int i = 0; i < others.length; i++) {
+            otherChars[i] = (char) others[i];
+        }
+        this.masks = new long[(ASCII + otherChars.length + 1) * blocks];
+        for (int i = 0; i < length; i++) {
+            masks[row(query.charAt(i)) * blocks + i / Long.SIZE] |= 1L << i;
+        }
+        this.positive = new long[blocks];
+        this.negative = new long[blocks];
+    }
+
+    /**
+     * Computes the distance with a diagonal band of the cost table, like {@link StringUtils#getLevenshteinDistance(CharSequence, CharSequence, int)}.
+     *
+     * @param text the text, not empty.
+     * @param threshold the threshold, at least the difference of the lengths.
+     * @return the distance, -1 if it is greater than the threshold.
+     */
+    private int banded(final CharSequence text, final int threshold) {
+        final int n = query.length();
+        final int m = text.length();
+        if (previousRow == null) {
+            previousRow = new int[n + 1];
+            currentRow = new int[n + 1];
+        }
+        int[] p = previousRow;
+        int[] d = currentRow;
+        final int boundary = Math.min(n, threshold) + 1;
+        for (int i = 0; i < boundary; i++) {
+            p[i] = i;
+        }
+        // The values above the rightmost cell of the band and left of the leftmost one must be ignored.
+        Arrays.fill(p, boundary, p.length, Integer.MAX_VALUE);
+        Arrays.fill(d, Integer.MAX_VALUE);
+        for (int j = 1; j <= m; j++) {
+            final char ch = text.charAt(j - 1);
+            d[0] = j;
+            final int min = Math.max(1, j - threshold);
+            final int max = j > Integer.MAX_VALUE - threshold ? n : Math.min(n, j + threshold);
+            if (min > max) {
+                return -1;
+            }
+            if (min > 1) {
+                d[min - 1] = Integer.MAX_VALUE;
+            }
+            int rowMin = j;
+            for (int i = min; i <= max; i++) {
+                final int cost = query.charAt(i - 1) == ch ? p[i - 1] : 1 + Math.min(Math.min(d[i - 1], p[i]), p[i - 1]);
+                d[i] = cost;
+                rowMin = Math.min(rowMin, cost);
+            }
+            if (rowMin > threshold) {
+                // The distance is at least the minimum of any row.
+                return -1;
+            }
+            final int[] tmp = p;
+            p = d;
+            d = tmp;
+        }
+        return p[n] <= threshold ? p[n] : -1;
+    }
+
+    /**
+     * Computes the distance with the bit-parallel algorithm for queries of more than 64 characters, processing the blocks of each column in turn.
+     *
+     * @param text the text.
+     * @param threshold the threshold.
+     * @return the distance, -1 if it is greater than the threshold.
+     */
+    private int blocks(final CharSequence text, final int threshold) {
+        final long[] pv = positive;
+        final long[] mv = negative;
+        Arrays.fill(pv, -1L);
+        Arrays.fill(mv, 0L);
+        final int n = text.length();
+        final int last = blocks - 1;
+        int score = query.length();
+        for (int j = 0; j < n; j++) {
+            final int row = row(text.charAt(j)) * blocks;
+            // The horizontal delta entering the top of the block, +1 in the first row of the cost table.
+            int carry = 1;
+            for (int b = 0; b < blocks; b++) {
+                long eq = masks[row + b];
+                final long p = pv[b];
+                final long m = mv[b];
+                final long xv = eq | m;
+                if (carry < 0) {
+                    eq |= 1L;
+                }
+                final long xh = ((eq & p) + p ^ p) | eq;
+                long ph = m | ~(xh | p);
+                long mh = p & xh;
+                final long high = b == last ? lastBit : Long.MIN_VALUE;
+                final int out = (ph & high) != 0 ? 1 : (mh & high) != 0 ? -1 : 0;
+                ph <<= 1;
+                mh <<= 1;
+                if (carry < 0) {
+                    mh |= 1L;
+                } else if (carry > 0) {
+                    ph |= 1L;
+                }
+                pv[b] = mh | ~(xv | ph);
+                mv[b] = ph & xv;
+                carry = out;
+            }
+            score += carry;
+            // Each remaining character lowers the distance by one at most.
+            if (score - (n - j - 1) > threshold) {
+                return -1;
+            }
+        }
+        return score <= threshold ? score : -1;
+    }
+
+    /**
+     * Computes the Levenshtein distance between the query and the given text.
+     *
+     * @param text the text, not null.
+     * @return the distance.
+     * @throws NullPointerException if {@code text} is {@code null}.
+     * @see StringUtils#getLevenshteinDistance(CharSequence, CharSequence)
+     */
+    public int distance(final CharSequence text) {
+        return distanceOf(Objects.requireNonNull(text, "text"), NO_THRESHOLD);
+    }
+
+    /**
+     * Computes the Levenshtein distance between the query and the given text if it is less than or equal to the given threshold.
+     *
+     * @param text the text, not null.
+     * @param threshold the threshold, not negative.
+     * @return the distance, -1 if it is greater than the threshold.
+     * @throws NullPointerException if {@code text} is {@code null}.
+     * @throws IllegalArgumentException if {@code threshold} is negative.
+     * @see StringUtils#getLevenshteinDistance(CharSequence, CharSequence, int)
+     */
+    public int distance(final CharSequence text, final int threshold) {
+        Objects.requireNonNull(text, "text");
+        Validate.isTrue(threshold >= 0, "threshold must not be negative: %d", threshold);
+        return distanceOf(text, threshold);
+    }
+
+    private int distanceOf(final CharSequence text, final int threshold) {
+        final int n = query.length();
+        final int m = text.length();
+        if (Math.abs(n - m) > threshold) {
+            return -1;
+        }
+        if (n == 0 || m == 0) {
+            return Math.max(n, m);
+        }
+        if (blocks == 1) {
+            return word(text, threshold);
+        }
+        if (threshold < blocks * BAND_PER_BLOCK) {
+            return banded(text, threshold);
+        }
+        return blocks(text, threshold);
+    }
+
+    /**
+     * Computes the Levenshtein distances between the query and the given texts.
+     *
+     * @param texts the texts, not null and without null elements.
+     * @return the distances, in the order of the texts.
+     * @throws NullPointerException if {@code texts} is {@code null}.
+     * @throws IllegalArgumentException if one of the texts is {@code null}.
+     */
+    public int[] distances(final CharSequence[] texts) {
+        return distances(texts, NO_THRESHOLD);
+    }
+
+    /**
+     * Computes the Levenshtein distances between the query and the given texts if they are less than or equal to the given threshold.
+     *
+     * @param texts the texts, not null and without null elements.
+     * @param threshold the threshold, not negative.
+     * @return the distances, in the order of the texts, -1 for those greater than the threshold.
+     * @throws NullPointerException if {@code texts} is {@code null}.
+     * @throws IllegalArgumentException if one of the texts is {@code null} or {@code threshold} is negative.
+     */
+    public int[] distances(final CharSequence[] texts, final int threshold) {
+        final int[] distances = new int[validate(texts, threshold).length];
+        distances(texts, threshold, distances, 0, texts.length);
+        return distances;
+    }
+
+    private void distances(final CharSequence[] texts, final int threshold, final int[] distances, final int from, final int to) {
+        for (int i = from; i < to; i++) {
+            distances[i] = distanceOf(texts[i], threshold);
+        }
+    }
+
+    /**
+     * Gets the query.
+     *
+     * @return the query.
+     */
+    public String getQuery() {
+        return query;
+    }
+
+    /**
+     * Computes the Levenshtein distances between the query and the given texts, in parallel in the {@link ForkJoinPool#commonPool() common fork-join pool}.
+     *
+     * @param texts the texts, not null and without null elements.
+     * @return the distances, in the order of the texts.
+     * @throws NullPointerException if {@code texts} is {@code null}.
+     * @throws IllegalArgumentException if one of the texts is {@code null}.
+     */
+    public int[] parallelDistances(final CharSequence[] texts) {
+        return parallelDistances(texts, NO_THRESHOLD);
+    }
+
+    /**
+     * Computes the Levenshtein distances between the query and the given texts if they are less than or equal to the given threshold, in parallel in the
+     * {@link ForkJoinPool#commonPool() common fork-join pool}.
+     * <p>
+     * The texts are split in chunks, each processed with its own scratch buffers; when the common pool has a single thread, this is the same as
+     * {@link #distances(CharSequence[], int)}.
+     * </p>
+     *
+     * @param texts the texts, not null and without null elements.
+     * @param threshold the threshold, not negative.
+     * @return the distances, in the order of the texts, -1 for those greater than the threshold.
+     * @throws NullPointerException if {@code texts} is {@code null}.
+     * @throws IllegalArgumentException if one of the texts is {@code null} or {@code threshold} is negative.
+     */
+    public int[] parallelDistances(final CharSequence[] texts, final int threshold) {
+        final int parallelism = ForkJoinPool.getCommonPoolParallelism();
+        return parallelDistances(texts, threshold, parallelism < 2 ? 1 : parallelism * CHUNKS_PER_THREAD);
+    }
+
+    int[] parallelDistances(final CharSequence[] texts, final int threshold, final int chunks) {
+        final int[] distances = new int[validate(texts, threshold).length];
+        if (chunks < 2 || texts.length < chunks) {
+            distances(texts, threshold, distances, 0, texts.length);
+        } else {
+            IntStream.range(0, chunks).parallel().forEach(chunk -> new LevenshteinMatcher(this).distances(texts, threshold, distances,
+                    (int) ((long) texts.length * chunk / chunks), (int) ((long) texts.length * (chunk + 1) / chunks)));
+        }
+        return distances;
+    }
+
+    /**
+     * Gets the row of the mask table of a character.
+     *
+     * @param ch the character.
+     * @return the row of the character.
+     */
+    private int row(final char ch) {
+        if (ch < ASCII) {
+            return ch;
+        }
+        final int index = Arrays.binarySearch(otherChars, ch);
+        return ASCII + (index < 0 ? otherChars.length : index);
+    }
+
+    /**
+     * Gets a string representation of this matcher.
+     *
+     * @return a string representation of this matcher.
+     */
+    @Override
+    public String toString() {
+        return "LevenshteinMatcher[" + query + "]";
+    }
+
+    private CharSequence[] validate(final CharSequence[] texts, final int threshold) {
+        Validate.noNullElements(texts);
+        Validate.isTrue(threshold >= 0, "threshold must not be negative: %d", threshold);
+        return texts;
+    }
+
+    /**
+     * Computes the distance with the bit-parallel algorithm for queries of up to 64 characters, the whole column of the cost table in a single word.
+     *
+     * @param text the text.
+     * @param threshold the threshold.
+     * @return the distance, -1 if it is greater than the threshold.
+     */
+    private int word(final CharSequence text, final int threshold) {
+        final int n = text.length();
+        long pv = -1L;
+        long mv = 0L;
+        int score = query.length();
+        for (int j = 0; j < n; j++) {
+            final long eq = masks[row(text.charAt(j))];
+            final long xv = eq | mv;
+            final long xh = ((eq & pv) + pv ^ pv) | eq;
+            long ph = mv | ~(xh | pv);
+            long mh = pv & xh;
+            if ((ph & lastBit) != 0) {
+                score++;
+            } else if ((mh & lastBit) != 0) {
+                score--;
+            }
+            // The first row of the cost table grows by one per character.
+            ph = ph << 1 | 1L;
+            mh <<= 1;
+            pv = mh | ~(xv | ph);
+            mv = ph & xv;
+            if (score - (n - j - 1) > threshold) {
+                return -1;
+            }
+        }
+        return score <= threshold ? score : -1;
+    }
+}
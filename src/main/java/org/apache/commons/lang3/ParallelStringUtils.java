@@ -0,0 +1,282 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.lang3;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.IntStream;
+
+/**
+ * Parallel versions of {@link StringUtils} bulk operations for very large inputs.
+ * <p>
+ * Each method gives the same result as the {@link StringUtils} method of the same name. Inputs at or above {@link #THRESHOLD} chars, or array elements for
+ * {@link #join(Object[], String)}, are split in chunks processed in parallel in the {@link ForkJoinPool#commonPool() common fork-join pool}; a match
+ * crossing a chunk boundary is found by the chunk where it starts. Smaller inputs are processed sequentially by {@link StringUtils}, as splitting them
+ * costs more than it gains, and so are all inputs when the common pool has too few threads to make up for the cost of chunking: a single thread, or fewer
+ * than three for {@link #replace(String, String, String)}, which copies each chunk twice.
+ * </p>
+ * <p>
+ * Search strings with a border, a proper prefix that is also a suffix like {@code "aa"} or {@code "abab"}, can have overlapping occurrences whose
+ * non-overlapping count depends on all the previous ones. {@link #countMatches(CharSequence, CharSequence)} and {@link #replace(String, String, String)}
+ * process them sequentially.
+ * </p>
+ *
+ * @see StringUtils
+ * @since 3.18.0
+ */
+public final class ParallelStringUtils {
+
+    /**
+     * The number of chars, or array elements, from which the methods of this class work in parallel: {@value}.
+     */
+    public static final int THRESHOLD = 1 << 20;
+
+    /** The number of chunks per thread of the common pool, to balance the load when some threads are busy. */
+    private static final int CHUNKS_PER_THREAD = 4;
+
+    /**
+     * The smallest parallelism of the common pool from which {@link #replace(String, String, String)} works in parallel: {@value}. On one thread, the
+     * chunked replace takes about twice the time of {@link StringUtils#replace(String, String, String)}, the other methods about the same time.
+     */
+    static final int REPLACE_MIN_PARALLELISM = 3;
+
+    /**
+     * Gets the number of chunks to split an input of the given size in.
+     *
+     * @param size the size of the input.
+     * @param minParallelism the smallest parallelism of the common pool from which to split the input.
+     * @return the number of chunks, 1 to process the input sequentially.
+     */
+    private static int chunks(final int size, final int minParallelism) {
+        final int parallelism = ForkJoinPool.getCommonPoolParallelism();
+        return size < THRESHOLD || parallelism < minParallelism ? 1 : parallelism * CHUNKS_PER_THREAD;
+    }
+
+    /**
+     * Gets the start index of a chunk.
+     *
+     * @param size the size of the input.
+     * @param chunks the number of chunks.
+     * @param chunk the index of the chunk, {@code chunks} for the end of the input.
+     * @return the start index of the chunk.
+     */
+    private static int chunkStart(final int size, final int chunks, final int chunk) {
+        return (int) ((long) size * chunk / chunks);
+    }
+
+    /**
+     * Tests if the CharSequence contains any character in the given set of characters, in parallel for large inputs.
+     *
+     * @param cs the CharSequence to check, may be null.
+     * @param searchChars the chars to search for, may be null.
+     * @return the {@code true} if any of the chars are found, {@code false} if no match or null input.
+     * @see StringUtils#containsAny(CharSequence, char...)
+     */
+    public static boolean containsAny(final CharSequence cs, final char... searchChars) {
+        return containsAny(cs, searchChars, chunks(StringUtils.length(cs), 2));
+    }
+
+    static boolean containsAny(final CharSequence cs, final char[] searchChars, final int chunks) {
+        if (chunks < 2 || StringUtils.isEmpty(cs) || ArrayUtils.isEmpty(searchChars)) {
+            return StringUtils.containsAny(cs, searchChars);
+        }
+        final int length = cs.length();
+        return IntStream.range(0, chunks).parallel()
+                .anyMatch(chunk -> StringUtils.containsAny(cs, chunkStart(length, chunks, chunk), chunkStart(length, chunks, chunk + 1), searchChars));
+    }
+
+    /**
+     * Counts how many times the substring appears in the larger string, in parallel for large inputs.
+     *
+     * @param str the CharSequence to check, may be null.
+     * @param sub the substring to count, may be null.
+     * @return the number of occurrences, 0 if either CharSequence is {@code null}.
+     * @see StringUtils#countMatches(CharSequence, CharSequence)
+     */
+    public static int countMatches(final CharSequence str, final CharSequence sub) {
+        return countMatches(str, sub, chunks(StringUtils.length(str), 2));
+    }
+
+    static int countMatches(final CharSequence str, final CharSequence sub, final int chunks) {
+        if (chunks < 2 || StringUtils.isEmpty(str) || StringUtils.isEmpty(sub) || hasBorder(sub)) {
+            return StringUtils.countMatches(str, sub);
+        }
+        final String text = str.toString();
+        final String search = sub.toString();
+        final int length = text.length();
+        final int searchLength = search.length();
+        return IntStream.range(0, chunks).parallel().map(chunk -> {
+            final int start = chunkStart(length, chunks, chunk);
+            final int chunkLength = chunkStart(length, chunks, chunk + 1) - start;
+            // Occurrences cannot overlap, each is counted by the chunk where it starts.
+            final String window = window(text, start, start + chunkLength, searchLength);
+            int count = 0;
+            for (int i = window.indexOf(search); i >= 0 && i < chunkLength; i = window.indexOf(search, i + searchLength)) {
+                count++;
+            }
+            return count;
+        }).sum();
+    }
+
+    /**
+     * Tests whether the given string has a border, a proper prefix that is also a suffix, that is whether two of its occurrences can overlap.
+     *
+     * @param str the string to test, not empty.
+     * @return whether the string has a border.
+     */
+    private static boolean hasBorder(final CharSequence str) {
+        // The last value of the Knuth-Morris-Pratt failure function is the length of the longest border.
+        final int length = str.length();
+        int border = 0;
+        final int[] failure = new int[length];
+        for (int i = 1; i < length; i++) {
+            while (border > 0 && str.charAt(i) != str.charAt(border)) {
+                border = failure[border - 1];
+            }
+            if (str.charAt(i) == str.charAt(border)) {
+                border++;
+            }
+            failure[i] = border;
+        }
+        return border > 0;
+    }
+
+    /**
+     * Searches a CharSequence to find the first index of any character in the given set of characters, in parallel for large inputs.
+     * <p>
+     * The chunks after the one holding the first match are abandoned.
+     * </p>
+     *
+     * @param cs the CharSequence to check, may be null.
+     * @param searchChars the chars to search for, may be null.
+     * @return the index of any of the chars, -1 if no match or null input.
+     * @see StringUtils#indexOfAny(CharSequence, char...)
+     */
+    public static int indexOfAny(final CharSequence cs, final char... searchChars) {
+        return indexOfAny(cs, searchChars, chunks(StringUtils.length(cs), 2));
+    }
+
+    static int indexOfAny(final CharSequence cs, final char[] searchChars, final int chunks) {
+        if (chunks < 2 || StringUtils.isEmpty(cs) || ArrayUtils.isEmpty(searchChars)) {
+            return StringUtils.indexOfAny(cs, searchChars);
+        }
+        final int length = cs.length();
+        return IntStream.range(0, chunks).parallel()
+                .map(chunk -> StringUtils.indexOfAny(cs, chunkStart(length, chunks, chunk), chunkStart(length, chunks, chunk + 1), searchChars))
+                .filter(index -> index >= 0).findFirst().orElse(StringUtils.INDEX_NOT_FOUND);
+    }
+
+    /**
+     * Joins the elements of the provided array into a single String containing the provided list of elements, in parallel for large arrays.
+     *
+     * @param array the array of values to join together, may be null.
+     * @param delimiter the separator character to use, null treated as "".
+     * @return the joined String, {@code null} if null array input.
+     * @see StringUtils#join(Object[], String)
+     */
+    public static String join(final Object[] array, final String delimiter) {
+        return join(array, delimiter, chunks(ArrayUtils.getLength(array), 2));
+    }
+
+    static String join(final Object[] array, final String delimiter, final int chunks) {
+        if (chunks < 2 || array == null || array.length < chunks) {
+            return StringUtils.join(array, delimiter);
+        }
+        final String separator = StringUtils.defaultString(delimiter);
+        final String[] joined = IntStream.range(0, chunks).parallel()
+                .mapToObj(chunk -> StringUtils.join(array, separator, chunkStart(array.length, chunks, chunk), chunkStart(array.length, chunks, chunk + 1)))
+                .toArray(String[]::new);
+        return StringUtils.join(joined, separator);
+    }
+
+    /**
+     * Replaces all occurrences of a String within another String, in parallel for large inputs.
+     *
+     * @param text text to search and replace in, may be null.
+     * @param searchString the String to search for, may be null.
+     * @param replacement the String to replace it with, may be null.
+     * @return the text with any replacements processed, {@code null} if null String input.
+     * @see StringUtils#replace(String, String, String)
+     */
+    public static String replace(final String text, final String searchString, final String replacement) {
+        return replace(text, searchString, replacement, chunks(StringUtils.length(text), REPLACE_MIN_PARALLELISM));
+    }
+
+    static String replace(final String text, final String searchString, final String replacement, final int chunks) {
+        if (chunks < 2 || StringUtils.isEmpty(text) || StringUtils.isEmpty(searchString) || replacement == null || hasBorder(searchString)
+                || text.length() / chunks < searchString.length()) {
+            return StringUtils.replace(text, searchString, replacement);
+        }
+        final int length = text.length();
+        final int searchLength = searchString.length();
+        final String[] replaced = IntStream.range(0, chunks).parallel().mapToObj(chunk -> {
+            final int start = chunkStart(length, chunks, chunk);
+            final int windowStart = Math.max(0, start - searchLength + 1);
+            final String window = window(text, windowStart, chunkStart(length, chunks, chunk + 1), searchLength);
+            // The indices in the window of the start and the end of the chunk.
+            final int from = start - windowStart;
+            final int end = chunkStart(length, chunks, chunk + 1) - windowStart;
+            // Occurrences cannot overlap: skip the end of one starting in the previous chunk, which that chunk replaces.
+            final int previous = window.indexOf(searchString);
+            int pos = previous >= 0 && previous < from ? previous + searchLength : from;
+            int index = window.indexOf(searchString, pos);
+            if (index < 0 || index >= end) {
+                // null when the chunk is unchanged.
+                return pos == from ? null : window.substring(Math.min(pos, end), end);
+            }
+            final StringBuilder builder = new StringBuilder(end - from);
+            while (index >= 0 && index < end) {
+                builder.append(window, pos, index).append(replacement);
+                pos = index + searchLength;
+                index = window.indexOf(searchString, pos);
+            }
+            if (pos < end) {
+                builder.append(window, pos, end);
+            }
+            return builder.toString();
+        }).toArray(String[]::new);
+        if (ObjectUtils.allNull((Object[]) replaced)) {
+            return text;
+        }
+        final StringBuilder builder = new StringBuilder(length);
+        for (int chunk = 0; chunk < chunks; chunk++) {
+            if (replaced[chunk] == null) {
+                builder.append(text, chunkStart(length, chunks, chunk), chunkStart(length, chunks, chunk + 1));
+            } else {
+                builder.append(replaced[chunk]);
+            }
+        }
+        return builder.toString();
+    }
+
+    /**
+     * Gets the part of a text holding all the occurrences of a string starting in a range, so that they can be found with the {@link String#indexOf(String)}
+     * intrinsic.
+     *
+     * @param text the text.
+     * @param start the start of the range.
+     * @param end the end of the range.
+     * @param searchLength the length of the string.
+     * @return the range extended by the length of the string minus one, within the text.
+     */
+    private static String window(final String text, final int start, final int end, final int searchLength) {
+        return text.substring(start, Math.min(text.length(), end + searchLength - 1));
+    }
+
+    private ParallelStringUtils() {
+        // no instances
+    }
+}
@@ -20,23 +20,82 @@
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
+import org.apache.commons.lang3.util.CacheStatistics;
+import org.apache.commons.lang3.util.EvictingCache;
+
 /**
  * Helpers to process Strings using regular expressions.
  *
+ * <p>The methods that take a regular expression as a String compile it through a shared cache of patterns keyed by the expression and its flags, so that
+ * calling them in a loop with the same expression does not compile it again on each call. The cache is bounded, see
+ * {@link #setPatternCacheMaximumSize(int)}, and can be monitored with {@link #getPatternCacheStatistics()}.</p>
+ *
  * @see java.util.regex.Pattern
  * @since 3.8
  */
 public class RegExUtils {
 
+    /**
+     * The key of a cached pattern.
+     */
+    private static final class PatternKey {
+
+        private final String regex;
+        private final int flags;
+
+        PatternKey(final String regex, final int flags) {
+            this.regex = regex;
+            this.flags = flags;
+        }
+
+        @Override
+        public boolean equals(final Object obj) {
+            if (this == obj) {
+                return true;
+            }
+            if (!(obj instanceof PatternKey)) {
+                return false;
+            }
+            final PatternKey other = (PatternKey) obj;
+            return flags == other.flags && regex.equals(other.regex);
+        }
+
+        @Override
+        public int hashCode() {
+            return regex.hashCode() * 31 + flags;
+        }
+    }
+
+    /** The default maximum number of cached patterns. */
+    private static final int DEFAULT_PATTERN_CACHE_MAXIMUM_SIZE = 256;
+
+    /** The patterns compiled from String expressions; a flood of one-off expressions does not push out the ones used in a loop. */
+    private static final EvictingCache<PatternKey, Pattern> PATTERNS = new EvictingCache<>(DEFAULT_PATTERN_CACHE_MAXIMUM_SIZE);
+
+    /**
+     * Compiles the given regular expression with the given flags through the pattern cache.
+     *
+     * @param regex The expression to be compiled.
+     * @param flags The match flags.
+     * @return the compiled pattern.
+     * @throws java.util.regex.PatternSyntaxException if the expression's syntax is invalid.
+     */
+    static Pattern compile(final String regex, final int flags) {
+        // An invalid expression throws and is never cached.
+        return PATTERNS.computeIfAbsent(new PatternKey(regex, flags), key -> Pattern.compile(key.regex, key.flags));
+    }
+
     /**
      * Compiles the given regular expression into a pattern with the {@link Pattern#DOTALL} flag.
      *
+     * <p>The pattern comes from the pattern cache, see {@link #setPatternCacheMaximumSize(int)}.</p>
+     *
      * @param regex The expression to be compiled
      * @return the given regular expression compiled into a pattern with the {@link Pattern#DOTALL} flag.
      * @since 3.13.0
      */
     public static Pattern dotAll(final String regex) {
-        return Pattern.compile(regex, Pattern.DOTALL);
+        return compile(regex, Pattern.DOTALL);
     }
 
     /**
@@ -67,6 +126,27 @@ public static Matcher dotAllMatcher(final String regex, final String text) {
         return dotAll(regex).matcher(text);
     }
 
+    /**
+     * Gets the maximum number of patterns in the pattern cache.
+     *
+     * @return the maximum size of the pattern cache, 0 if the cache is disabled.
+     * @see #setPatternCacheMaximumSize(int)
+     * @since 3.18.0
+     */
+    public static int getPatternCacheMaximumSize() {
+        return PATTERNS.getMaximumSize();
+    }
+
+    /**
+     * Gets a snapshot of the statistics of the pattern cache.
+     *
+     * @return the statistics of the pattern cache.
+     * @since 3.18.0
+     */
+    public static CacheStatistics getPatternCacheStatistics() {
+        return PATTERNS.getStatistics();
+    }
+
     /**
      * Removes each substring of the text String that matches the given regular expression pattern.
      *
@@ -509,7 +589,7 @@ public static String replaceAll(final String text, final String regex, final Str
         if (ObjectUtils.anyNull(text, regex, replacement)) {
             return text;
         }
-        return text.replaceAll(regex, replacement);
+        return compile(regex, 0).matcher(text).replaceAll(replacement);
     }
 
     /**
@@ -647,7 +727,7 @@ public static String replaceFirst(final String text, final String regex, final S
         if (text == null || regex == null || replacement == null) {
             return text;
         }
-        return text.replaceFirst(regex, replacement);
+        return compile(regex, 0).matcher(text).replaceFirst(replacement);
     }
 
     /**
@@ -738,6 +818,21 @@ public static String replacePattern(final String text, final String regex, final
         return replacePattern((CharSequence) text, regex, replacement);
     }
 
+    /**
+     * Sets the maximum number of patterns in the pattern cache, evicting patterns if the cache is larger. The default is 256.
+     * <p>
+     * The cache holds the patterns compiled by the methods that take a regular expression as a String. A maximum size of 0 disables the cache, each call
+     * then compiles its pattern again.
+     * </p>
+     *
+     * @param maximumSize the maximum size, 0 to disable the cache.
+     * @throws IllegalArgumentException if the maximum size is negative.
+     * @since 3.18.0
+     */
+    public static void setPatternCacheMaximumSize(final int maximumSize) {
+        PATTERNS.setMaximumSize(maximumSize);
+    }
+
     private static String toStringOrNull(final CharSequence text) {
         return Objects.toString(text, null);
     }
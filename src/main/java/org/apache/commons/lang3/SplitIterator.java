@@ -0,0 +1,382 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.lang3;
+
+import java.nio.CharBuffer;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * Splits a CharSequence lazily, like the {@code split} methods of {@link StringUtils}, returning each token as a view over the input instead of a copy.
+ * <p>
+ * The {@code split} methods of {@link StringUtils} copy every token into a new String and collect them in an array. When only some tokens are needed, for
+ * example a few columns of a delimited record, this iterator finds the tokens one at a time, on demand, and returns each as a read-only
+ * {@link CharBuffer} wrapping the input: no characters are copied until {@link CharSequence#toString()} is called on a token.
+ * </p>
+ *
+ * <pre>{@code
+ * SplitIterator columns = SplitIterator.splitPreserveAllTokens(line, "\t");
+ * columns.next(); // skips the first column without copying it
+ * String id = columns.next().toString();
+ * }</pre>
+ * <p>
+ * To avoid even the view, {@link #advance()} moves to the next token and {@link #start()} and {@link #end()} give its bounds in the input.
+ * </p>
+ * <p>
+ * The factory methods split exactly like the {@link StringUtils} methods of the same name, including the {@code max} argument, except that a {@code null}
+ * input gives no token instead of a {@code null} array. The input must not be modified while it is split.
+ * </p>
+ * <p>
+ * This class is not thread-safe.
+ * </p>
+ *
+ * @see StringUtils#split(String, String, int)
+ * @see StringUtils#splitPreserveAllTokens(String, String, int)
+ * @see StringUtils#splitByWholeSeparator(String, String, int)
+ * @see StringUtils#splitByWholeSeparatorPreserveAllTokens(String, String, int)
+ * @since 3.18.0
+ */
+public final class SplitIterator implements Iterator<CharSequence> {
+
+    /**
+     * Splits the provided text, separators specified.
+     *
+     * @param str the CharSequence to split, may be null.
+     * @param separatorChars the characters used as the delimiters, {@code null} splits on whitespace.
+     * @return an iterator over the tokens.
+     * @see StringUtils#split(String, String)
+     */
+    public static SplitIterator split(final CharSequence str, final String separatorChars) {
+        return split(str, separatorChars, -1);
+    }
+
+    /**
+     * Splits the provided text, separators specified, into a maximum of {@code max} tokens.
+     *
+     * @param str the CharSequence to split, may be null.
+     * @param separatorChars the characters used as the delimiters, {@code null} splits on whitespace.
+     * @param max the maximum number of tokens, a zero or negative value implies no limit.
+     * @return an iterator over the tokens.
+     * @see StringUtils#split(String, String, int)
+     */
+    public static SplitIterator split(final CharSequence str, final String separatorChars, final int max) {
+        return new SplitIterator(str, separatorChars, null, max, false);
+    }
+
+    /**
+     * Splits the provided text, separator string specified.
+     *
+     * @param str the CharSequence to split, may be null.
+     * @param separator the String used as the delimiter, {@code null} splits on whitespace.
+     * @return an iterator over the tokens.
+     * @see StringUtils#splitByWholeSeparator(String, String)
+     */
+    public static SplitIterator splitByWholeSeparator(final CharSequence str, final String separator) {
+        return splitByWholeSeparator(str, separator, -1);
+    }
+
+    /**
+     * Splits the provided text, separator string specified, into a maximum of {@code max} tokens.
+     *
+     * @param str the CharSequence to split, may be null.
+     * @param separator the String used as the delimiter, {@code null} splits on whitespace.
+     * @param max the maximum number of tokens, a zero or negative value implies no limit.
+     * @return an iterator over the tokens.
+     * @see StringUtils#splitByWholeSeparator(String, String, int)
+     */
+    public static SplitIterator splitByWholeSeparator(final CharSequence str, final String separator, final int max) {
+        return wholeSeparator(str, separator, max, false);
+    }
+
+    /**
+     * Splits the provided text, separator string specified, preserving all tokens, including empty tokens created by adjacent separators.
+     *
+     * @param str the CharSequence to split, may be null.
+     * @param separator the String used as the delimiter, {@code null} splits on whitespace.
+     * @return an iterator over the tokens.
+     * @see StringUtils#splitByWholeSeparatorPreserveAllTokens(String, String)
+     */
+    public static SplitIterator splitByWholeSeparatorPreserveAllTokens(final CharSequence str, final String separator) {
+        return splitByWholeSeparatorPreserveAllTokens(str, separator, -1);
+    }
+
+    /**
+     * Splits the provided text, separator string specified, into a maximum of {@code max} tokens, preserving all tokens, including empty tokens created
+     * by adjacent separators.
+     *
+     * @param str the CharSequence to split, may be null.
+     * @param separator the String used as the delimiter, {@code null} splits on whitespace.
+     * @param max the maximum number of tokens, a zero or negative value implies no limit.
+     * @return an iterator over the tokens.
+     * @see StringUtils#splitByWholeSeparatorPreserveAllTokens(String, String, int)
+     */
+    public static SplitIterator splitByWholeSeparatorPreserveAllTokens(final CharSequence str, final String separator, final int max) {
+        return wholeSeparator(str, separator, max, true);
+    }
+
+    /**
+     * Splits the provided text, separators specified, preserving all tokens, including empty tokens created by adjacent separators.
+     *
+     * @param str the CharSequence to split, may be null.
+     * @param separatorChars the characters used as the delimiters, {@code null} splits on whitespace.
+     * @return an iterator over the tokens.
+     * @see StringUtils#splitPreserveAllTokens(String, String)
+     */
+    public static SplitIterator splitPreserveAllTokens(final CharSequence str, final String separatorChars) {
+        return splitPreserveAllTokens(str, separatorChars, -1);
+    }
+
+    /**
+     * Splits the provided text, separators specified, into a maximum of {@code max} tokens, preserving all tokens, including empty tokens created by
+     * adjacent separators.
+     *
+     * @param str the CharSequence to split, may be null.
+     * @param separatorChars the characters used as the delimiters, {@code null} splits on whitespace.
+     * @param max the maximum number of tokens, a zero or negative value implies no limit.
+     * @return an iterator over the tokens.
+     * @see StringUtils#splitPreserveAllTokens(String, String, int)
+     */
+    public static SplitIterator splitPreserveAllTokens(final CharSequence str, final String separatorChars, final int max) {
+        return new SplitIterator(str, separatorChars, null, max, true);
+    }
+
+    private static SplitIterator wholeSeparator(final CharSequence str, final String separator, final int max, final boolean preserveAllTokens) {
+        // Like StringUtils, an empty separator splits on whitespace.
+        return StringUtils.isEmpty(separator) ? new SplitIterator(str, null, null, max, preserveAllTokens)
+                : new SplitIterator(str, null, separator, max, preserveAllTokens);
+    }
+
+    private final CharSequence str;
+    private final int len;
+    private final String separatorChars;
+
+    /** The whole separator, null to split on separator chars. */
+    private final String separator;
+    private final int max;
+    private final boolean preserveAllTokens;
+
+    /** The number of tokens found so far. */
+    private int count;
+
+    /** The index from which the next token is searched. */
+    private int pos;
+
+    /** For separator chars, the start index of the next token. */
+    private int tokenStart;
+
+    /** Whether the last token has been found. */
+    private boolean finished;
+
+    /** For separator chars, whether the chars since the last separator belong to a token, and whether the last char was a separator. */
+    private boolean match;
+    private boolean lastMatch;
+
+    /** The bounds of the next token if it has been found but not returned yet. */
+    private boolean pending;
+    private int pendingStart;
+    private int pendingEnd;
+
+    /** The bounds of the current token, -1 before the first one. */
+    private int start = -1;
+    private int end = -1;
+
+    private SplitIterator(final CharSequence str, final String separatorChars, final String separator, final int max, final boolean preserveAllTokens) {
+        this.str = str;
+        this.len = str == null ? 0 : str.length();
+        this.separatorChars = separatorChars;
+        this.separator = separator;
+        this.max = max;
+        this.preserveAllTokens = preserveAllTokens;
+    }
+
+    /**
+     * Moves to the next token without creating a view, its bounds are then given by {@link #start()} and {@link #end()}.
+     *
+     * @return whether there was a next token.
+     */
+    public boolean advance() {
+        if (!hasNext()) {
+            return false;
+        }
+        pending = false;
+        start = pendingStart;
+        end = pendingEnd;
+        return true;
+    }
+
+    /**
+     * Gets the end index, exclusive, of the current token in the input.
+     *
+     * @return the end index of the current token.
+     * @throws IllegalStateException if there is no current token yet.
+     */
+    public int end() {
+        Validate.validState(end >= 0, "No current token");
+        return end;
+    }
+
+    /**
+     * Finds the next token with the logic of {@code StringUtils.splitWorker}.
+     *
+     * @return whether there is a next token.
+     */
+    private boolean findCharsToken() {
+        int i = pos;
+        while (i < len) {
+            if (isSeparator(str.charAt(i))) {
+                if (match || preserveAllTokens) {
+                    lastMatch = true;
+                    if (++count == max) {
+                        i = len;
+                        lastMatch = false;
+                    }
+                    match = false;
+                    setPending(tokenStart, i);
+                    tokenStart = pos = i + 1;
+                    return true;
+                }
+                tokenStart = ++i;
+                continue;
+            }
+            lastMatch = false;
+            match = true;
+            i++;
+        }
+        pos = i;
+        finished = true;
+        if (match || preserveAllTokens && lastMatch) {
+            setPending(tokenStart, i);
+            return true;
+        }
+        return false;
+    }
+
+    /**
+     * Finds the next token with the logic of {@code StringUtils.splitByWholeSeparatorWorker}.
+     *
+     * @return whether there is a next token.
+     */
+    private boolean findWholeSeparatorToken() {
+        final int separatorLength = separator.length();
+        int beg = pos;
+        while (beg <= len) {
+            final int found = indexOfSeparator(beg);
+            if (found < 0) {
+                finished = true;
+                setPending(beg, len);
+                return true;
+            }
+            if (found > beg || preserveAllTokens) {
+                if (++count == max) {
+                    finished = true;
+                    setPending(beg, len);
+                } else {
+                    setPending(beg, found);
+                    pos = found + separatorLength;
+                }
+                return true;
+            }
+            // Skip consecutive separators.
+            beg = found + separatorLength;
+        }
+        return false;
+    }
+
+    /**
+     * Tests whether there is a next token.
+     *
+     * @return whether there is a next token.
+     */
+    @Override
+    public boolean hasNext() {
+        if (pending) {
+            return true;
+        }
+        if (finished || len == 0) {
+            return false;
+        }
+        if (separator != null) {
+            return findWholeSeparatorToken();
+        }
+        return findCharsToken();
+    }
+
+    private int indexOfSeparator(final int from) {
+        if (str instanceof String) {
+            return ((String) str).indexOf(separator, from);
+        }
+        final int last = len - separator.length();
+        final char first = separator.charAt(0);
+        for (int i = from; i <= last; i++) {
+            if (str.charAt(i) == first && CharSequenceUtils.regionMatches(str, false, i, separator, 0, separator.length())) {
+                return i;
+            }
+        }
+        return StringUtils.INDEX_NOT_FOUND;
+    }
+
+    private boolean isSeparator(final char c) {
+        if (separatorChars == null) {
+            return Character.isWhitespace(c);
+        }
+        return separatorChars.length() == 1 ? c == separatorChars.charAt(0) : separatorChars.indexOf(c) >= 0;
+    }
+
+    /**
+     * Gets the next token, a read-only view over the input.
+     *
+     * @return the next token.
+     * @throws NoSuchElementException if there is no next token.
+     */
+    @Override
+    public CharSequence next() {
+        if (!advance()) {
+            throw new NoSuchElementException();
+        }
+        return CharBuffer.wrap(str, start, end);
+    }
+
+    private void setPending(final int tokenStart, final int tokenEnd) {
+        pending = true;
+        pendingStart = tokenStart;
+        pendingEnd = tokenEnd;
+    }
+
+    /**
+     * Gets the start index of the current token in the input.
+     *
+     * @return the start index of the current token.
+     * @throws IllegalStateException if there is no current token yet.
+     */
+    public int start() {
+        Validate.validState(start >= 0, "No current token");
+        return start;
+    }
+
+    /**
+     * Gets a sequential stream of the remaining tokens.
+     *
+     * @return a stream of the remaining tokens.
+     */
+    public Stream<CharSequence> stream() {
+        return StreamSupport.stream(Spliterators.spliteratorUnknownSize(this, Spliterator.ORDERED | Spliterator.NONNULL), false);
+    }
+}
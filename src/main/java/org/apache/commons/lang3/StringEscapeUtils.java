@@ -52,6 +52,12 @@ static class CsvEscaper extends CharSequenceTranslator {
         private static final String CSV_QUOTE_STR = String.valueOf(CSV_QUOTE);
         private static final char[] CSV_SEARCH_CHARS = { CSV_DELIMITER, CSV_QUOTE, CharUtils.CR, CharUtils.LF };
 
+        @Override
+        protected int getLookahead() {
+            // Translates the input as a single CSV value.
+            return UNBOUNDED_LOOKAHEAD;
+        }
+
         @Override
         public int translate(final CharSequence input, final int index, final Writer out) throws IOException {
 
@@ -77,6 +83,12 @@ static class CsvUnescaper extends CharSequenceTranslator {
         private static final String CSV_QUOTE_STR = String.valueOf(CSV_QUOTE);
         private static final char[] CSV_SEARCH_CHARS = {CSV_DELIMITER, CSV_QUOTE, CharUtils.CR, CharUtils.LF};
 
+        @Override
+        protected int getLookahead() {
+            // Translates the input as a single CSV value.
+            return UNBOUNDED_LOOKAHEAD;
+        }
+
         @Override
         public int translate(final CharSequence input, final int index, final Writer out) throws IOException {
 
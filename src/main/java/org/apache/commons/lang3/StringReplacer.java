@@ -0,0 +1,349 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.lang3;
+
+import java.io.IOException;
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.Queue;
+
+/**
+ * Replaces all occurrences of a list of search strings, compiled once, like {@link StringUtils#replaceEach(String, String[], String[])}.
+ * <p>
+ * The search strings are compiled into an Aho-Corasick automaton, so a text is scanned once whatever the number of search strings, instead of once per
+ * search string. Keep an instance in a (static) variable to replace the same search strings in many texts, for example placeholders in templates:
+ * </p>
+ *
+ * <pre>{@code
+ * private static final StringReplacer REPLACER = StringReplacer.of(new String[] { "${name}", "${date}" }, new String[] { "World", "today" });
+ * ...
+ * REPLACER.replace("Hello ${name}, ${date}"); // "Hello World, today"
+ * REPLACER.replace(writer, template); // streams the result to a Writer
+ * }</pre>
+ * <p>
+ * The replacements are the same as those of {@link StringUtils#replaceEach(String, String[], String[])}: the text is searched left to right for the
+ * leftmost occurrence of any search string, an occurrence of the search string that comes first in the list wins over others starting at the same index,
+ * the text of an occurrence is never searched again, and {@code null} or empty search strings and {@code null} replacements are ignored.
+ * </p>
+ * <p>
+ * This class is immutable and thread-safe.
+ * </p>
+ *
+ * @see StringUtils#replaceEach(String, String[], String[])
+ * @see StringUtils#replaceEachRepeatedly(String, String[], String[])
+ * @since 3.18.0
+ */
+public final class StringReplacer {
+
+    /**
+     * A state of the automaton, the prefix of one or more search strings.
+     */
+    private static final class Node {
+
+        /** The chars of the transitions to the children, sorted for a binary search. */
+        private char[] chars = ArrayUtils.EMPTY_CHAR_ARRAY;
+
+        private Node[] children = {};
+
+        /** The state of the longest proper suffix of this prefix that is the prefix of a search string. */
+        private Node fail;
+
+        /** The length of this prefix. */
+        private final int depth;
+
+        /** The index of the longest search string ending this prefix, -1 if none. */
+        private int match = -1;
+
+        Node(final int depth) {
+            this.depth = depth;
+        }
+
+        /**
+         * Gets the child for the given char.
+         *
+         * @param c the char.
+         * @return the child or null.
+         */
+        Node get(final char c) {
+            final char[] cs = chars;
+            // Most nodes have one or two children, a linear scan beats the binary search there.
+            if (cs.length < 4) {
+                for (int i = 0; i < cs.length; i++) {
+                    if (cs[i] == c) {
+                        return children[i];
+                    }
+                }
+                return null;
+            }
+            final int i = Arrays.binarySearch(cs, c);
+            return i >= 0 ? children[i] : null;
+        }
+
+        /**
+         * Gets the child for the given char, adding it if needed.
+         *
+         * @param c the char.
+         * @return the child.
+         */
+        Node getOrAdd(final char c) {
+            final int i = Arrays.binarySearch(chars, c);
+            if (i >= 0) {
+                return children[i];
+            }
+            final int insert = -i - 1;
+            final Node child = new Node(depth + 1);
+            chars = ArrayUtils.insert(insert, chars, c);
+            children = ArrayUtils.insert(insert, children, child);
+            return child;
+        }
+    }
+
+    /**
+     * The number of passes {@link #replaceRepeatedly(String)} makes at least before deciding there is an endless loop.
+     */
+    private static final int DEFAULT_TTL = 5;
+
+    /**
+     * Creates a replacer of the given search strings.
+     *
+     * @param searchList the Strings to search for, {@code null} and empty Strings are ignored, may be null.
+     * @param replacementList the Strings to replace them with, {@code null} Strings are ignored, may be null.
+     * @return a new replacer.
+     * @throws IllegalArgumentException if the lengths of the arrays are not the same (null is ok, and/or size 0).
+     */
+    public static StringReplacer of(final String[] searchList, final String[] replacementList) {
+        return new StringReplacer(searchList, replacementList);
+    }
+
+    private final Node root = new Node(0);
+
+    /** The search strings, may contain ignored nulls. */
+    private final String[] searchList;
+
+    /** The replacement strings, may contain ignored nulls. */
+    private final String[] replacementList;
+
+    /** The transitions of the root for ASCII chars, they are taken for most chars of a text. */
+    private final Node[] rootAscii = new Node[128];
+
+    /** The guess of the output growth per char of a text. */
+    private final int increase;
+
+    /** The number of search strings that are not ignored. */
+    private final int size;
+
+    private StringReplacer(final String[] searchList, final String[] replacementList) {
+        this.searchList = ArrayUtils.nullToEmpty(searchList).clone();
+        this.replacementList = ArrayUtils.nullToEmpty(replacementList).clone();
+        final int length = ArrayUtils.isEmpty(searchList) || ArrayUtils.isEmpty(replacementList) ? 0 : searchList.length;
+        if (length > 0 && searchList.length != replacementList.length) {
+            throw new IllegalArgumentException("Search and Replace array lengths don't match: " + searchList.length + " vs " + replacementList.length);
+        }
+        int count = 0;
+        int greater = 0;
+        for (int i = 0; i < length; i++) {
+            final String search = this.searchList[i];
+            if (StringUtils.isEmpty(search) || this.replacementList[i] == null) {
+                continue;
+            }
+            count++;
+            greater += Math.max(this.replacementList[i].length() - search.length(), 0);
+            Node node = root;
+            for (int j = 0; j < search.length(); j++) {
+                node = node.getOrAdd(search.charAt(j));
+            }
+            // The first of equal search strings wins.
+            if (node.match < 0) {
+                node.match = i;
+            }
+        }
+        this.size = count;
+        // Like StringUtils.replaceEach, assume 3 matches.
+        this.increase = 3 * greater;
+        // Links each state to its longest proper suffix that is a state, breadth first so shorter states are linked first.
+        final Queue<Node> queue = new ArrayDeque<>();
+        root.fail = root;
+        for (final Node child : root.children) {
+            child.fail = root;
+            queue.add(child);
+        }
+        while (!queue.isEmpty()) {
+            final Node node = queue.remove();
+            for (int i = 0; i < node.chars.length; i++) {
+                final char c = node.chars[i];
+                final Node child = node.children[i];
+                Node fail = node.fail;
+                while (fail != root && fail.get(c) == null) {
+                    fail = fail.fail;
+                }
+                final Node next = fail.get(c);
+                child.fail = next != null ? next : root;
+                if (child.match < 0) {
+                    child.match = child.fail.match;
+                }
+                queue.add(child);
+            }
+        }
+        for (char c = 0; c < rootAscii.length; c++) {
+            rootAscii[c] = root.get(c);
+        }
+    }
+
+    /**
+     * Gets the state after reading a char.
+     *
+     * @param state the current state.
+     * @param c the char read.
+     * @return the next state.
+     */
+    private Node next(Node state, final char c) {
+        while (state != root) {
+            final Node next = state.get(c);
+            if (next != null) {
+                return next;
+            }
+            state = state.fail;
+        }
+        final Node next = c < rootAscii.length ? rootAscii[c] : root.get(c);
+        return next != null ? next : root;
+    }
+
+    /**
+     * Appends a text to an {@link Appendable}, replacing all occurrences of the search strings.
+     * <p>
+     * The text is streamed to the Appendable, unchanged parts with {@link Appendable#append(CharSequence, int, int)}.
+     * </p>
+     *
+     * @param <A> the type of the Appendable.
+     * @param appendable the Appendable to append to.
+     * @param text the text to search and replace in, null appends nothing.
+     * @return the given Appendable.
+     * @throws IOException if the Appendable throws an IOException.
+     */
+    public <A extends Appendable> A replace(final A appendable, final CharSequence text) throws IOException {
+        Objects.requireNonNull(appendable, "appendable");
+        if (text != null) {
+            replace(text, appendable, 0);
+        }
+        return appendable;
+    }
+
+    /**
+     * Appends a text to an {@link Appendable}, replacing all occurrences of the search strings.
+     *
+     * @param text the text to search and replace in.
+     * @param appendable the Appendable to append to, null to create a {@link StringBuilder} at the first occurrence.
+     * @param capacity the capacity of a created StringBuilder.
+     * @return the Appendable, null if none was given and there is no occurrence.
+     * @throws IOException if the Appendable throws an IOException.
+     */
+    private Appendable replace(final CharSequence text, Appendable appendable, final int capacity) throws IOException {
+        final int length = text.length();
+        // The index of the first char not appended yet.
+        int start = 0;
+        int pos = 0;
+        Node state = root;
+        int best = -1;
+        int bestStart = 0;
+        while (true) {
+            if (pos < length) {
+                state = next(state, text.charAt(pos++));
+                final int match = state.match;
+                if (match >= 0) {
+                    final int matchStart = pos - searchList[match].length();
+                    if (best < 0 || matchStart < bestStart || matchStart == bestStart && match < best) {
+                        best = match;
+                        bestStart = matchStart;
+                    }
+                }
+                // No occurrence starting before pos - state.depth can end later, so the best occurrence is the leftmost one.
+                if (best < 0 || bestStart >= pos - state.depth) {
+                    continue;
+                }
+            } else if (best < 0) {
+                break;
+            }
+            if (appendable == null) {
+                appendable = new StringBuilder(capacity);
+            }
+            appendable.append(text, start, bestStart).append(replacementList[best]);
+            // Occurrences overlapping the replaced one are dropped, search again from its end.
+            start = pos = bestStart + searchList[best].length();
+            state = root;
+            best = -1;
+        }
+        if (appendable != null) {
+            appendable.append(text, start, length);
+        }
+        return appendable;
+    }
+
+    /**
+     * Replaces all occurrences of the search strings in a text.
+     *
+     * <pre>
+     *  StringReplacer.of(new String[]{"ab", "d"}, new String[]{"w", "t"}).replace(null)    = null
+     *  StringReplacer.of(new String[]{"ab", "d"}, new String[]{"w", "t"}).replace("abcde") = "wcte"
+     *  StringReplacer.of(new String[]{"ab", "d"}, new String[]{"d", "t"}).replace("abcde") = "dcte"
+     * </pre>
+     *
+     * @param text the text to search and replace in, may be null.
+     * @return the text with any replacements processed, the same text if there are none, {@code null} if null String input.
+     * @see StringUtils#replaceEach(String, String[], String[])
+     */
+    public String replace(final String text) {
+        if (StringUtils.isEmpty(text) || size == 0) {
+            return text;
+        }
+        try {
+            final Appendable result = replace(text, null, text.length() + Math.min(increase, text.length() / 5));
+            return result != null ? result.toString() : text;
+        } catch (final IOException e) {
+            // this should never happen while appending to a StringBuilder
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * Replaces all occurrences of the search strings in a text, then in the result, until there are none.
+     *
+     * <pre>
+     *  StringReplacer.of(new String[]{"ab", "d"}, new String[]{"d", "t"}).replaceRepeatedly("abcde")  = "tcte"
+     *  StringReplacer.of(new String[]{"ab", "d"}, new String[]{"d", "ab"}).replaceRepeatedly("abcde") = IllegalStateException
+     * </pre>
+     *
+     * @param text the text to search and replace in, may be null.
+     * @return the text with any replacements processed, {@code null} if null String input.
+     * @throws IllegalStateException if there is an endless loop due to outputs of one being inputs to another.
+     * @see StringUtils#replaceEachRepeatedly(String, String[], String[])
+     */
+    public String replaceRepeatedly(final String text) {
+        String result = text;
+        for (int timeToLive = Math.max(searchList.length, DEFAULT_TTL); !StringUtils.isEmpty(result) && size > 0; timeToLive--) {
+            if (timeToLive < 0) {
+                throw new IllegalStateException("Aborting to protect against StackOverflowError - output of one loop is the input of another");
+            }
+            final String next = replace(result);
+            if (next == result) {
+                break;
+            }
+            result = next;
+        }
+        return result;
+    }
+}
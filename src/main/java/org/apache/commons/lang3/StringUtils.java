@@ -61,11 +61,13 @@
  *  <li><strong>SubstringBefore/SubstringAfter/SubstringBetween</strong>
  *      - substring extraction relative to other strings</li>
  *  <li><strong>Split/Join</strong>
- *      - splits a String into an array of substrings and vice versa</li>
+ *      - splits a String into an array of substrings and vice versa;
+ *      {@link SplitIterator} splits lazily, without copying every token</li>
  *  <li><strong>Remove/Delete</strong>
  *      - removes part of a String</li>
  *  <li><strong>Replace/Overlay</strong>
- *      - Searches a String and replaces one String with another</li>
+ *      - Searches a String and replaces one String with another;
+ *      {@link StringReplacer} compiles the search strings of replaceEach once to replace them in many texts</li>
  *  <li><strong>Chomp/Chop</strong>
  *      - removes the last part of a String</li>
  *  <li><strong>AppendIfMissing</strong>
@@ -1024,11 +1026,23 @@ public static boolean containsAny(final CharSequence cs, final char... searchCha
         if (isEmpty(cs) || ArrayUtils.isEmpty(searchChars)) {
             return false;
         }
-        final int csLength = cs.length();
+        return containsAny(cs, 0, cs.length(), searchChars);
+    }
+
+    /**
+     * Performs the logic of {@link #containsAny(CharSequence, char...)} for the characters in the given range.
+     *
+     * @param cs  the CharSequence to check, not empty
+     * @param start  the index of the first character to check
+     * @param end  the index after the last character to check
+     * @param searchChars  the chars to search for, not empty
+     * @return the {@code true} if any of the chars are found, {@code false} if no match
+     */
+    static boolean containsAny(final CharSequence cs, final int start, final int end, final char[] searchChars) {
         final int searchLength = searchChars.length;
-        final int csLast = csLength - 1;
+        final int csLast = cs.length() - 1;
         final int searchLast = searchLength - 1;
-        for (int i = 0; i < csLength; i++) {
+        for (int i = start; i < end; i++) {
             final char ch = cs.charAt(i);
             for (int j = 0; j < searchLength; j++) {
                 if (searchChars[j] == ch) {
@@ -2696,11 +2710,23 @@ public static int indexOfAny(final CharSequence cs, final char... searchChars) {
         if (isEmpty(cs) || ArrayUtils.isEmpty(searchChars)) {
             return INDEX_NOT_FOUND;
         }
-        final int csLen = cs.length();
-        final int csLast = csLen - 1;
+        return indexOfAny(cs, 0, cs.length(), searchChars);
+    }
+
+    /**
+     * Performs the logic of {@link #indexOfAny(CharSequence, char...)} for the characters in the given range.
+     *
+     * @param cs  the CharSequence to check, not empty
+     * @param start  the index of the first character to check
+     * @param end  the index after the last character to check
+     * @param searchChars  the chars to search for, not empty
+     * @return the index of any of the chars, -1 if no match
+     */
+    static int indexOfAny(final CharSequence cs, final int start, final int end, final char[] searchChars) {
+        final int csLast = cs.length() - 1;
         final int searchLen = searchChars.length;
         final int searchLast = searchLen - 1;
-        for (int i = 0; i < csLen; i++) {
+        for (int i = start; i < end; i++) {
             final char ch = cs.charAt(i);
             for (int j = 0; j < searchLen; j++) {
                 if (searchChars[j] == ch) {
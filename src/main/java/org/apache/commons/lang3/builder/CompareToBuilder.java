@@ -16,9 +16,6 @@
  */
 package org.apache.commons.lang3.builder;
 
-import java.lang.reflect.AccessibleObject;
-import java.lang.reflect.Field;
-import java.lang.reflect.Modifier;
 import java.util.Collection;
 import java.util.Comparator;
 import java.util.Objects;
@@ -115,17 +112,11 @@ private static void reflectionAppend(
         final boolean useTransients,
         final String[] excludeFields) {
 
-        final Field[] fields = clazz.getDeclaredFields();
-        AccessibleObject.setAccessible(fields, true);
+        final FieldAccessor[] fields = Reflection.getFields(clazz, Reflection.FieldUse.COMPARE_TO, useTransients);
         for (int i = 0; i < fields.length && builder.comparison == 0; i++) {
-            final Field field = fields[i];
-            if (!ArrayUtils.contains(excludeFields, field.getName())
-                && !field.getName().contains("$")
-                && (useTransients || !Modifier.isTransient(field.getModifiers()))
-                && !Modifier.isStatic(field.getModifiers())) {
-                // IllegalAccessException can't happen. Would get a Security exception instead.
-                // Throw a runtime exception in case the impossible happens.
-                builder.append(Reflection.getUnchecked(field, lhs), Reflection.getUnchecked(field, rhs));
+            final FieldAccessor field = fields[i];
+            if (!ArrayUtils.contains(excludeFields, field.getField().getName())) {
+                field.appendTo(builder, lhs, rhs);
             }
         }
     }
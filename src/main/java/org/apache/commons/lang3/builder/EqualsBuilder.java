@@ -16,9 +16,7 @@
  */
 package org.apache.commons.lang3.builder;
 
-import java.lang.reflect.AccessibleObject;
 import java.lang.reflect.Field;
-import java.lang.reflect.Modifier;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.HashSet;
@@ -999,16 +997,11 @@ private void reflectionAppend(
 
         try {
             register(lhs, rhs);
-            final Field[] fields = clazz.getDeclaredFields();
-            AccessibleObject.setAccessible(fields, true);
+            final FieldAccessor[] fields = Reflection.getFields(clazz, Reflection.FieldUse.EQUALS, testTransients);
             for (int i = 0; i < fields.length && isEquals; i++) {
-                final Field field = fields[i];
-                if (!ArrayUtils.contains(excludeFields, field.getName())
-                    && !field.getName().contains("$")
-                    && (testTransients || !Modifier.isTransient(field.getModifiers()))
-                    && !Modifier.isStatic(field.getModifiers())
-                    && !field.isAnnotationPresent(EqualsExclude.class)) {
-                    append(Reflection.getUnchecked(field, lhs), Reflection.getUnchecked(field, rhs));
+                final FieldAccessor field = fields[i];
+                if (!ArrayUtils.contains(excludeFields, field.getField().getName())) {
+                    field.appendTo(this, lhs, rhs);
                 }
             }
         } finally {
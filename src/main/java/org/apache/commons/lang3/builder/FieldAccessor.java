@@ -0,0 +1,334 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.lang3.builder;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+
+import org.apache.commons.lang3.exception.ExceptionUtils;
+
+/**
+ * Reads a field through a {@link MethodHandle}, primitive values without boxing them.
+ * <p>
+ * The handles are created once per field, reading a field then skips the access checks of {@link Field#get(Object)}. Fields that cannot be made
+ * accessible are read with {@link Field#get(Object)}, which throws the same exception as before.
+ * </p>
+ */
+final class FieldAccessor {
+
+    private static final int REFERENCE = 0;
+    private static final int BOOLEAN = 1;
+    private static final int BYTE = 2;
+    private static final int CHAR = 3;
+    private static final int SHORT = 4;
+    private static final int INT = 5;
+    private static final int LONG = 6;
+    private static final int FLOAT = 7;
+    private static final int DOUBLE = 8;
+
+    private static MethodHandle getter(final Field field) {
+        try {
+            field.setAccessible(true);
+            final MethodHandle getter = MethodHandles.lookup().unreflectGetter(field);
+            final Class<?> type = field.getType();
+            // Normalize to (Object)type, the receiver of a static field is ignored.
+            return Modifier.isStatic(field.getModifiers()) ? MethodHandles.dropArguments(getter, 0, Object.class)
+                    : getter.asType(MethodType.methodType(type, Object.class));
+        } catch (final IllegalAccessException | RuntimeException e) {
+            // For example, a field of a JDK class in a package that is not open, let Field.get(Object) throw.
+            return null;
+        }
+    }
+
+    private static int kind(final Class<?> type) {
+        if (!type.isPrimitive()) {
+            return REFERENCE;
+        }
+        if (type == int.class) {
+            return INT;
+        }
+        if (type == long.class) {
+            return LONG;
+        }
+        if (type == boolean.class) {
+            return BOOLEAN;
+        }
+        if (type == double.class) {
+            return DOUBLE;
+        }
+        if (type == float.class) {
+            return FLOAT;
+        }
+        if (type == char.class) {
+            return CHAR;
+        }
+        if (type == byte.class) {
+            return BYTE;
+        }
+        return SHORT;
+    }
+
+    /**
+     * Rethrows a failure to read a field like {@link Field#get(Object)} would.
+     *
+     * @param t the failure.
+     * @return never returns.
+     */
+    private static RuntimeException rethrow(final Throwable t) {
+        if (t instanceof ClassCastException) {
+            // The object is not an instance of the class declaring the field.
+            throw new IllegalArgumentException(t);
+        }
+        return ExceptionUtils.rethrow(t);
+    }
+
+    private final Field field;
+
+    /** The kind of value read by {@link #typedGetter}, see {@link #kind(Class)}. */
+    private final int kind;
+
+    /** Reads a boxed value, typed (Object)Object, null if the field is not accessible. */
+    private final MethodHandle getter;
+
+    /** Reads an unboxed value, typed (Object)type, null if the field is not accessible. */
+    private final MethodHandle typedGetter;
+
+    /**
+     * Constructs a new instance.
+     *
+     * @param field the field to read.
+     */
+    FieldAccessor(final Field field) {
+        this.field = field;
+        this.typedGetter = getter(field);
+        this.getter = typedGetter != null ? typedGetter.asType(MethodType.methodType(Object.class, Object.class)) : null;
+        this.kind = typedGetter != null ? kind(field.getType()) : REFERENCE;
+    }
+
+    /**
+     * Appends the field of two objects to a {@link CompareToBuilder}.
+     *
+     * @param builder the builder to append to.
+     * @param lhs the left-hand side object.
+     * @param rhs the right-hand side object.
+     */
+    void appendTo(final CompareToBuilder builder, final Object lhs, final Object rhs) {
+        switch (kind) {
+        case BOOLEAN:
+            builder.append(getBoolean(lhs), getBoolean(rhs));
+            break;
+        case BYTE:
+            builder.append(getByte(lhs), getByte(rhs));
+            break;
+        case CHAR:
+            builder.append(getChar(lhs), getChar(rhs));
+            break;
+        case SHORT:
+            builder.append(getShort(lhs), getShort(rhs));
+            break;
+        case INT:
+            builder.append(getInt(lhs), getInt(rhs));
+            break;
+        case LONG:
+            builder.append(getLong(lhs), getLong(rhs));
+            break;
+        case FLOAT:
+            builder.append(getFloat(lhs), getFloat(rhs));
+            break;
+        case DOUBLE:
+            builder.append(getDouble(lhs), getDouble(rhs));
+            break;
+        default:
+            builder.append(get(lhs), get(rhs));
+        }
+    }
+
+    /**
+     * Appends the field of two objects to an {@link EqualsBuilder}.
+     *
+     * @param builder the builder to append to.
+     * @param lhs the left-hand side object.
+     * @param rhs the right-hand side object.
+     */
+    void appendTo(final EqualsBuilder builder, final Object lhs, final Object rhs) {
+        switch (kind) {
+        case BOOLEAN:
+            builder.append(getBoolean(lhs), getBoolean(rhs));
+            break;
+        case BYTE:
+            builder.append(getByte(lhs), getByte(rhs));
+            break;
+        case CHAR:
+            builder.append(getChar(lhs), getChar(rhs));
+            break;
+        case SHORT:
+            builder.append(getShort(lhs), getShort(rhs));
+            break;
+        case INT:
+            builder.append(getInt(lhs), getInt(rhs));
+            break;
+        case LONG:
+            builder.append(getLong(lhs), getLong(rhs));
+            break;
+        case FLOAT:
+            builder.append(getFloat(lhs), getFloat(rhs));
+            break;
+        case DOUBLE:
+            builder.append(getDouble(lhs), getDouble(rhs));
+            break;
+        default:
+            builder.append(get(lhs), get(rhs));
+        }
+    }
+
+    /**
+     * Appends the field of an object to a {@link HashCodeBuilder}.
+     * <p>
+     * Primitive values are appended as the hash code of their wrapper, like {@link HashCodeBuilder#append(Object)} does for a value read with
+     * {@link Field#get(Object)}.
+     * </p>
+     *
+     * @param builder the builder to append to.
+     * @param object the object.
+     */
+    void appendTo(final HashCodeBuilder builder, final Object object) {
+        switch (kind) {
+        case BOOLEAN:
+            builder.append(Boolean.hashCode(getBoolean(object)));
+            break;
+        case BYTE:
+            builder.append(Byte.hashCode(getByte(object)));
+            break;
+        case CHAR:
+            builder.append(Character.hashCode(getChar(object)));
+            break;
+        case SHORT:
+            builder.append(Short.hashCode(getShort(object)));
+            break;
+        case INT:
+            builder.append(getInt(object));
+            break;
+        case LONG:
+            builder.append(Long.hashCode(getLong(object)));
+            break;
+        case FLOAT:
+            builder.append(Float.hashCode(getFloat(object)));
+            break;
+        case DOUBLE:
+            builder.append(Double.hashCode(getDouble(object)));
+            break;
+        default:
+            builder.append(get(object));
+        }
+    }
+
+    /**
+     * Reads the field of an object, boxing a primitive value.
+     *
+     * @param object the object, ignored for a static field.
+     * @return the value of the field.
+     * @throws IllegalArgumentException if the object is not an instance of the class declaring the field.
+     */
+    Object get(final Object object) {
+        if (getter == null) {
+            // Throws the exception that kept the field from being made accessible.
+            field.setAccessible(true);
+            return Reflection.getUnchecked(field, object);
+        }
+        try {
+            return getter.invokeExact(object);
+        } catch (final Throwable t) {
+            throw rethrow(t);
+        }
+    }
+
+    private boolean getBoolean(final Object object) {
+        try {
+            return (boolean) typedGetter.invokeExact(object);
+        } catch (final Throwable t) {
+            throw rethrow(t);
+        }
+    }
+
+    private byte getByte(final Object object) {
+        try {
+            return (byte) typedGetter.invokeExact(object);
+        } catch (final Throwable t) {
+            throw rethrow(t);
+        }
+    }
+
+    private char getChar(final Object object) {
+        try {
+            return (char) typedGetter.invokeExact(object);
+        } catch (final Throwable t) {
+            throw rethrow(t);
+        }
+    }
+
+    private short getShort(final Object object) {
+        try {
+            return (short) typedGetter.invokeExact(object);
+        } catch (final Throwable t) {
+            throw rethrow(t);
+        }
+    }
+
+    private int getInt(final Object object) {
+        try {
+            return (int) typedGetter.invokeExact(object);
+        } catch (final Throwable t) {
+            throw rethrow(t);
+        }
+    }
+
+    private long getLong(final Object object) {
+        try {
+            return (long) typedGetter.invokeExact(object);
+        } catch (final Throwable t) {
+            throw rethrow(t);
+        }
+    }
+
+    private float getFloat(final Object object) {
+        try {
+            return (float) typedGetter.invokeExact(object);
+        } catch (final Throwable t) {
+            throw rethrow(t);
+        }
+    }
+
+    private double getDouble(final Object object) {
+        try {
+            return (double) typedGetter.invokeExact(object);
+        } catch (final Throwable t) {
+            throw rethrow(t);
+        }
+    }
+
+    /**
+     * Gets the field.
+     *
+     * @return the field.
+     */
+    Field getField() {
+        return field;
+    }
+}
@@ -17,16 +17,11 @@
 
 package org.apache.commons.lang3.builder;
 
-import java.lang.reflect.AccessibleObject;
-import java.lang.reflect.Field;
-import java.lang.reflect.Modifier;
 import java.util.Collection;
-import java.util.Comparator;
 import java.util.HashSet;
 import java.util.Objects;
 import java.util.Set;
 
-import org.apache.commons.lang3.ArraySorter;
 import org.apache.commons.lang3.ArrayUtils;
 import org.apache.commons.lang3.ObjectUtils;
 import org.apache.commons.lang3.Validate;
@@ -182,16 +177,9 @@ private static void reflectionAppend(final Object object, final Class<?> clazz,
         }
         try {
             register(object);
-            // The elements in the returned array are not sorted and are not in any particular order.
-            final Field[] fields = ArraySorter.sort(clazz.getDeclaredFields(), Comparator.comparing(Field::getName));
-            AccessibleObject.setAccessible(fields, true);
-            for (final Field field : fields) {
-                if (!ArrayUtils.contains(excludeFields, field.getName())
-                    && !field.getName().contains("$")
-                    && (useTransients || !Modifier.isTransient(field.getModifiers()))
-                    && !Modifier.isStatic(field.getModifiers())
-                    && !field.isAnnotationPresent(HashCodeExclude.class)) {
-                    builder.append(Reflection.getUnchecked(field, object));
+            for (final FieldAccessor field : Reflection.getFields(clazz, Reflection.FieldUse.HASH_CODE, useTransients)) {
+                if (!ArrayUtils.contains(excludeFields, field.getField().getName())) {
+                    field.appendTo(builder, object);
                 }
             }
         } finally {
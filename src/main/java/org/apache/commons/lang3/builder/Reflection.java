@@ -17,14 +17,122 @@
 
 package org.apache.commons.lang3.builder;
 
+import java.lang.annotation.Annotation;
 import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.Comparator;
 import java.util.Objects;
+import java.util.stream.Stream;
+
+import org.apache.commons.lang3.ArraySorter;
 
 /**
  * Package-private reflection code.
  */
 final class Reflection {
 
+    /**
+     * The fields of a class used by the reflection builders.
+     * <p>
+     * The fields are looked up, filtered and given an accessor once per class, the builders then only check the field names
+     * they are asked to exclude.
+     * </p>
+     */
+    private static final class ClassFields {
+
+        /** The fields for each {@link FieldUse}, without and with transient fields. */
+        private final FieldAccessor[][] fields = new FieldAccessor[FieldUse.values().length * 2][];
+
+        ClassFields(final Class<?> clazz) {
+            // The elements in the returned array are not sorted and are not in any particular order.
+            final FieldAccessor[] declaredFields = Stream.of(clazz.getDeclaredFields()).map(FieldAccessor::new).toArray(FieldAccessor[]::new);
+            final FieldAccessor[] sortedFields = ArraySorter.sort(declaredFields.clone(), Comparator.comparing(accessor -> accessor.getField().getName()));
+            for (final FieldUse use : FieldUse.values()) {
+                final FieldAccessor[] useFields = use.sorted ? sortedFields : declaredFields;
+                fields[use.ordinal() * 2] = select(useFields, use, false);
+                fields[use.ordinal() * 2 + 1] = select(useFields, use, true);
+            }
+        }
+
+        private static FieldAccessor[] select(final FieldAccessor[] declaredFields, final FieldUse use, final boolean useTransients) {
+            if (!use.filtered) {
+                return declaredFields;
+            }
+            return Stream.of(declaredFields)
+                    .filter(accessor -> {
+                        final Field field = accessor.getField();
+                        return !field.getName().contains("$")
+                            && (useTransients || !Modifier.isTransient(field.getModifiers()))
+                            && !Modifier.isStatic(field.getModifiers())
+                            && (use.exclude == null || !field.isAnnotationPresent(use.exclude));
+                    })
+                    .toArray(FieldAccessor[]::new);
+        }
+
+        FieldAccessor[] get(final FieldUse use, final boolean useTransients) {
+            return fields[use.ordinal() * 2 + (useTransients ? 1 : 0)];
+        }
+    }
+
+    /**
+     * A use of the fields of a class by a reflection builder.
+     */
+    enum FieldUse {
+
+        /** Fields compared by {@link CompareToBuilder}, in declaration order. */
+        COMPARE_TO(null, false, true),
+
+        /** Fields compared by {@link ReflectionDiffBuilder}, in declaration order. */
+        DIFF(DiffExclude.class, false, true),
+
+        /** Fields compared by {@link EqualsBuilder}, in declaration order. */
+        EQUALS(EqualsExclude.class, false, true),
+
+        /** Fields hashed by {@link HashCodeBuilder}, sorted by name. */
+        HASH_CODE(HashCodeExclude.class, true, true),
+
+        /** All fields, sorted by name, {@link ReflectionToStringBuilder#accept(Field)} filters them. */
+        TO_STRING(null, true, false);
+
+        /** The annotation excluding a field, may be null. */
+        private final Class<? extends Annotation> exclude;
+
+        /** Whether the fields are sorted by name. */
+        private final boolean sorted;
+
+        /** Whether static fields, fields with {@code $} in their name and transient fields unless asked for are dropped. */
+        private final boolean filtered;
+
+        FieldUse(final Class<? extends Annotation> exclude, final boolean sorted, final boolean filtered) {
+            this.exclude = exclude;
+            this.sorted = sorted;
+            this.filtered = filtered;
+        }
+    }
+
+    /**
+     * The fields of each class, a {@link ClassValue} does not keep classes and their class loaders from being unloaded.
+     */
+    private static final ClassValue<ClassFields> CLASS_FIELDS = new ClassValue<ClassFields>() {
+        @Override
+        protected ClassFields computeValue(final Class<?> type) {
+            return new ClassFields(type);
+        }
+    };
+
+    /**
+     * Gets the accessors of the fields of a class a reflection builder uses.
+     * The returned array is shared and must not be modified.
+     *
+     * @param clazz The class declaring the fields.
+     * @param use The use of the fields.
+     * @param useTransients Whether to include transient fields.
+     * @return The field accessors, not to be modified.
+     */
+    static FieldAccessor[] getFields(final Class<?> clazz, final FieldUse use, final boolean useTransients) {
+        return CLASS_FIELDS.get(clazz).get(use, useTransients);
+    }
+
     /**
      * Delegates to {@link Field#get(Object)} and rethrows {@link IllegalAccessException} as {@link IllegalArgumentException}.
      *
@@ -17,13 +17,10 @@
 package org.apache.commons.lang3.builder;
 
 import java.lang.reflect.Field;
-import java.lang.reflect.Modifier;
 import java.util.Arrays;
 
 import org.apache.commons.lang3.ArraySorter;
 import org.apache.commons.lang3.ArrayUtils;
-import org.apache.commons.lang3.ClassUtils;
-import org.apache.commons.lang3.reflect.FieldUtils;
 
 /**
  * Assists in implementing {@link Diffable#diff(Object)} methods.
@@ -177,20 +174,9 @@ public ReflectionDiffBuilder(final T left, final T right, final ToStringStyle st
     }
 
     private boolean accept(final Field field) {
-        if (field.getName().indexOf(ClassUtils.INNER_CLASS_SEPARATOR_CHAR) != -1) {
-            return false;
-        }
-        if (Modifier.isTransient(field.getModifiers())) {
-            return false;
-        }
-        if (Modifier.isStatic(field.getModifiers())) {
-            return false;
-        }
-        if (this.excludeFieldNames != null && Arrays.binarySearch(this.excludeFieldNames, field.getName()) >= 0) {
-            // Reject fields from the getExcludeFieldNames list.
-            return false;
-        }
-        return !field.isAnnotationPresent(DiffExclude.class);
+        // Inner class, transient, static and @DiffExclude fields are rejected by Reflection.getFields().
+        // Reject fields from the getExcludeFieldNames list.
+        return this.excludeFieldNames == null || Arrays.binarySearch(this.excludeFieldNames, field.getName()) < 0;
     }
 
     /**
@@ -200,14 +186,11 @@ private boolean accept(final Field field) {
      * @see SecurityManager#checkPermission
      */
     private void appendFields(final Class<?> clazz) {
-        for (final Field field : FieldUtils.getAllFields(clazz)) {
-            if (accept(field)) {
-                try {
-                    diffBuilder.append(field.getName(), readField(field, getLeft()), readField(field, getRight()));
-                } catch (final IllegalAccessException e) {
-                    // this can't happen. Would get a Security exception instead
-                    // throw a runtime exception in case the impossible happens.
-                    throw new IllegalArgumentException("Unexpected IllegalAccessException: " + e.getMessage(), e);
+        for (Class<?> c = clazz; c != null; c = c.getSuperclass()) {
+            for (final FieldAccessor accessor : Reflection.getFields(c, Reflection.FieldUse.DIFF, false)) {
+                final Field field = accessor.getField();
+                if (accept(field)) {
+                    diffBuilder.append(field.getName(), accessor.get(getLeft()), accessor.get(getRight()));
                 }
             }
         }
@@ -246,25 +229,6 @@ private T getRight() {
         return diffBuilder.getRight();
     }
 
-    /**
-     * Reads a {@link Field}, forcing access if needed.
-     *
-     * @param field
-     *            the field to use
-     * @param target
-     *            the object to call on, may be {@code null} for {@code static} fields
-     * @return the field value
-     * @throws NullPointerException
-     *             if the field is {@code null}
-     * @throws IllegalAccessException
-     *             if the field is not made accessible
-     * @throws SecurityException if an underlying accessible object's method denies the request.
-     * @see SecurityManager#checkPermission
-     */
-    private Object readField(final Field field, final Object target) throws IllegalAccessException {
-        return FieldUtils.readField(field, target, true);
-    }
-
     /**
      * Sets the field names to exclude.
      *
@@ -17,12 +17,10 @@
 
 package org.apache.commons.lang3.builder;
 
-import java.lang.reflect.AccessibleObject;
 import java.lang.reflect.Field;
 import java.lang.reflect.Modifier;
 import java.util.Arrays;
 import java.util.Collection;
-import java.util.Comparator;
 import java.util.Objects;
 
 import org.apache.commons.lang3.ArraySorter;
@@ -100,6 +98,24 @@
  */
 public class ReflectionToStringBuilder extends ToStringBuilder {
 
+    /**
+     * Whether a class overrides {@link #getValue(Field)}, the fields of the others are read through their {@link FieldAccessor}.
+     */
+    private static final ClassValue<Boolean> GET_VALUE_OVERRIDDEN = new ClassValue<Boolean>() {
+        @Override
+        protected Boolean computeValue(final Class<?> type) {
+            for (Class<?> c = type; c != ReflectionToStringBuilder.class; c = c.getSuperclass()) {
+                try {
+                    c.getDeclaredMethod("getValue", Field.class);
+                    return Boolean.TRUE;
+                } catch (final NoSuchMethodException e) {
+                    // keep looking
+                }
+            }
+            return Boolean.FALSE;
+        }
+    };
+
     /**
      * Converts the given Collection into an array of Strings. The returned array does not contain {@code null}
      * entries. Note that {@link Arrays#sort(Object[])} will throw an {@link NullPointerException} if an array element
@@ -644,16 +660,14 @@ protected void appendFieldsIn(final Class<?> clazz) {
             reflectionAppendArray(getObject());
             return;
         }
-        // The elements in the returned array are not sorted and are not in any particular order.
-        final Field[] fields = ArraySorter.sort(clazz.getDeclaredFields(), Comparator.comparing(Field::getName));
-        AccessibleObject.setAccessible(fields, true);
-        for (final Field field : fields) {
+        final boolean getValueOverridden = GET_VALUE_OVERRIDDEN.get(getClass());
+        for (final FieldAccessor accessor : Reflection.getFields(clazz, Reflection.FieldUse.TO_STRING, true)) {
+            final Field field = accessor.getField();
             final String fieldName = field.getName();
             if (accept(field)) {
                 try {
-                    // Warning: Field.get(Object) creates wrappers objects
-                    // for primitive types.
-                    final Object fieldValue = getValue(field);
+                    // Warning: primitive values are boxed.
+                    final Object fieldValue = getValueOverridden ? getValue(field) : accessor.get(getObject());
                     if (!excludeNullValues || fieldValue != null) {
                         this.append(fieldName, fieldValue, !field.isAnnotationPresent(ToStringSummary.class));
                     }
@@ -0,0 +1,135 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.lang3.concurrent;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * A base class for {@link RateLimiter} implementations computing the permits from {@link System#nanoTime()}.
+ *
+ * <p>
+ * Subclasses implement {@link #tryAcquireNanos(int, long)}, which acquires permits at a given time, or tells how long to wait for them. This class
+ * implements the waiting on top of it: a waiting thread sleeps for the estimated time, then tries again. Waiting threads are not served in order.
+ * </p>
+ *
+ * @since 3.18.0
+ */
+public abstract class AbstractRateLimiter implements RateLimiter {
+
+    /** The maximum number of permits that can be acquired at once. */
+    private final long maximumPermits;
+
+    /**
+     * Constructs a new instance.
+     *
+     * @param maximumPermits the maximum number of permits that can be acquired at once
+     */
+    protected AbstractRateLimiter(final long maximumPermits) {
+        this.maximumPermits = maximumPermits;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void acquire(final int permits) throws InterruptedException {
+        validatePermits(permits);
+        long wait;
+        while ((wait = tryAcquireNanos(permits, nanoTime())) > 0) {
+            sleepNanos(wait);
+        }
+    }
+
+    /**
+     * Gets the maximum number of permits that can be acquired at once.
+     *
+     * @return the maximum number of permits that can be acquired at once
+     */
+    public long getMaximumPermits() {
+        return maximumPermits;
+    }
+
+    /**
+     * Gets the current time, in nanoseconds, overridden by tests.
+     *
+     * @return the current time, in nanoseconds
+     */
+    long nanoTime() {
+        return System.nanoTime();
+    }
+
+    /**
+     * Sleeps while waiting for permits, overridden by tests.
+     *
+     * @param nanos the time to sleep, in nanoseconds
+     * @throws InterruptedException if the thread gets interrupted
+     */
+    void sleepNanos(final long nanos) throws InterruptedException {
+        TimeUnit.NANOSECONDS.sleep(nanos);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean tryAcquire(final int permits) {
+        validatePermits(permits);
+        return tryAcquireNanos(permits, nanoTime()) == 0;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean tryAcquire(final int permits, final long timeout, final TimeUnit unit) throws InterruptedException {
+        validatePermits(permits);
+        final long timeoutNanos = unit.toNanos(timeout);
+        final long start = nanoTime();
+        long now = start;
+        long wait;
+        while ((wait = tryAcquireNanos(permits, now)) > 0) {
+            if (wait > timeoutNanos - (now - start)) {
+                return false;
+            }
+            sleepNanos(wait);
+            now = nanoTime();
+        }
+        return true;
+    }
+
+    /**
+     * Acquires a number of permits at a given time if they are all available, or estimates how long to wait for them otherwise.
+     *
+     * @param permits the number of permits, between 1 and the maximum number of permits
+     * @param now the current time, in nanoseconds
+     * @return 0 if the permits were acquired; the estimated time to wait for them otherwise, in nanoseconds, positive
+     */
+    protected abstract long tryAcquireNanos(int permits, long now);
+
+    /**
+     * Validates a number of permits to acquire.
+     *
+     * @param permits the number of permits
+     * @throws IllegalArgumentException if the number of permits is out of range
+     */
+    private void validatePermits(final int permits) {
+        // not Validate.isTrue() to avoid boxing on every call
+        if (permits <= 0 || permits > maximumPermits) {
+            throw new IllegalArgumentException("permits must be between 1 and " + maximumPermits + ": " + permits);
+        }
+    }
+}
@@ -16,6 +16,7 @@
  */
 package org.apache.commons.lang3.concurrent;
 
+import java.util.Objects;
 import java.util.concurrent.ConcurrentMap;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.Future;
@@ -356,6 +357,21 @@ public static <K, V> V putIfAbsent(final ConcurrentMap<K, V> map, final K key, f
         return result != null ? result : value;
     }
 
+    /**
+     * Converts a positive duration to nanoseconds, for the builders of this package.
+     *
+     * @param duration the duration, positive
+     * @param unit the unit of the duration, not null
+     * @param name the name of the duration, for the exception message
+     * @return the duration, in nanoseconds
+     * @throws IllegalArgumentException if the duration is not positive
+     * @throws NullPointerException if the unit is null
+     */
+    static long toPositiveNanos(final long duration, final TimeUnit unit, final String name) {
+        Validate.isTrue(duration > 0, "%s must be positive: %d", name, duration);
+        return Objects.requireNonNull(unit, "unit").toNanos(duration);
+    }
+
     /**
      * Private constructor so that no instances can be created. This class
      * contains only static utility methods.
@@ -0,0 +1,711 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.lang3.concurrent;
+
+import java.beans.PropertyChangeListener;
+import java.beans.PropertyChangeSupport;
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Predicate;
+
+import org.apache.commons.lang3.Validate;
+import org.apache.commons.lang3.concurrent.SlidingWindowCounter.Snapshot;
+import org.apache.commons.lang3.concurrent.SlidingWindowCounter.Window;
+import org.apache.commons.lang3.function.FailableCallable;
+import org.apache.commons.lang3.function.FailableSupplier;
+
+/**
+ * A circuit breaker opening on the rate of failed calls and the rate of slow calls over a sliding window, and probing the protected resource with a
+ * bounded number of calls before closing again.
+ *
+ * <p>
+ * Each call to the protected resource asks for a {@link Permission} with {@link #tryAcquirePermission()}, and reports its outcome and duration with
+ * {@link #recordSuccess(Permission, long)} or {@link #recordFailure(Permission, long, Throwable)}. The decorators {@link #decorateSupplier(FailableSupplier)}
+ * and {@link #decorateCallable(FailableCallable)} do all of this, throwing a {@link CircuitBreakingException} when the permission is denied. An outcome
+ * is only recorded if the circuit breaker is still in the state in which it granted the permission, so that the calls permitted before a state transition
+ * do not count after it. The circuit breaker has three states:
+ * </p>
+ * <ul>
+ * <li><em>closed</em>: all calls are permitted, and their outcomes are counted over a sliding window. Once the window counts the minimum number of calls,
+ * the circuit breaker opens if the rate of failed calls or the rate of calls slower than the slow call duration reaches its threshold.</li>
+ * <li><em>open</em>: calls are denied for the open duration, then the circuit breaker switches to half-open.</li>
+ * <li><em>half-open</em>: a bounded number of probe calls are permitted, and the others denied. Once the outcomes of all the probe calls are recorded, the
+ * circuit breaker opens again if their failure rate or slow call rate reaches its threshold, and closes otherwise. If some probe calls have not recorded
+ * their outcome after the half-open duration, the next call asking for a permission opens the circuit breaker again.</li>
+ * </ul>
+ * <pre>
+ * FailureRateCircuitBreaker breaker = FailureRateCircuitBreaker.builder()
+ *     .failureRateThreshold(0.5)
+ *     .slowCallDuration(2, TimeUnit.SECONDS)
+ *     .slowCallRateThreshold(0.8)
+ *     .openDuration(30, TimeUnit.SECONDS)
+ *     .build();
+ * FailableSupplier&lt;Quote, IOException&gt; quotes = breaker.decorateSupplier(service::fetchQuote);
+ * ...
+ * Quote quote = quotes.get(); // throws CircuitBreakingException while the circuit breaker is open
+ * </pre>
+ * <p>
+ * Registered {@link PropertyChangeListener} objects are notified of each state transition, with the property name {@link #PROPERTY_NAME} and the old and
+ * new {@link State}. This class is thread-safe and non-blocking: the calls are counted in a ring of time buckets with striped counters, and concurrent
+ * state transitions are resolved with compare-and-set. The calls of the past buckets of the window are summed once, when a bucket starts, so that
+ * recording a call only adds the counts of the current bucket. A call counted in a past bucket after its bucket ended, by a thread that read the time
+ * just before, is not counted until the next bucket.
+ * </p>
+ *
+ * @see EventCountCircuitBreaker
+ * @since 3.18.0
+ */
+public class FailureRateCircuitBreaker {
+
+    /**
+     * A <em>builder</em> class for creating instances of {@link FailureRateCircuitBreaker}.
+     */
+    public static class Builder implements org.apache.commons.lang3.builder.Builder<FailureRateCircuitBreaker> {
+
+        /** The failure rate threshold. */
+        private double failureRateThreshold = 0.5;
+
+        /** The slow call rate threshold. */
+        private double slowCallRateThreshold = 1;
+
+        /** The slow call duration, in nanoseconds. */
+        private long slowCallNanos = TimeUnit.MINUTES.toNanos(1);
+
+        /** The duration of the sliding window, in nanoseconds. */
+        private long windowNanos = TimeUnit.MINUTES.toNanos(1);
+
+        /** The number of buckets of the sliding window. */
+        private int buckets = 10;
+
+        /** The minimum number of calls of the sliding window. */
+        private int minimumCalls = 100;
+
+        /** The open duration, in nanoseconds. */
+        private long openNanos = TimeUnit.MINUTES.toNanos(1);
+
+        /** The number of probe calls in half-open state. */
+        private int halfOpenCalls = 10;
+
+        /** The maximum half-open duration, in nanoseconds. */
+        private long halfOpenNanos = TimeUnit.MINUTES.toNanos(1);
+
+        /** The test of the exceptions recorded as failures. */
+        private Predicate<? super Throwable> failurePredicate = t -> true;
+
+        private Builder() {
+            // use FailureRateCircuitBreaker.builder()
+        }
+
+        /**
+         * Creates a new {@link FailureRateCircuitBreaker} with the configuration options set on this builder.
+         *
+         * @return the new {@link FailureRateCircuitBreaker}
+         */
+        @Override
+        public FailureRateCircuitBreaker build() {
+            return new FailureRateCircuitBreaker(this);
+        }
+
+        /**
+         * Sets the number of time buckets dividing the sliding window, 10 by default. More buckets make the window slide more smoothly, but calls slower.
+         *
+         * @param buckets the number of buckets, positive
+         * @return a reference to this {@link Builder}
+         * @throws IllegalArgumentException if the number of buckets is not positive
+         */
+        public Builder buckets(final int buckets) {
+            Validate.isTrue(buckets > 0, "buckets must be positive: %d", buckets);
+            this.buckets = buckets;
+            return this;
+        }
+
+        /**
+         * Sets the test of the exceptions recorded as failures, all exceptions by default. The calls failing with other exceptions are recorded as
+         * successful.
+         *
+         * @param failurePredicate the test of the exceptions recorded as failures, not null
+         * @return a reference to this {@link Builder}
+         * @throws NullPointerException if the predicate is null
+         */
+        public Builder failurePredicate(final Predicate<? super Throwable> failurePredicate) {
+            this.failurePredicate = Objects.requireNonNull(failurePredicate, "failurePredicate");
+            return this;
+        }
+
+        /**
+         * Sets the rate of failed calls at which the circuit breaker opens, 0.5 by default.
+         *
+         * @param failureRateThreshold the failure rate threshold, greater than 0 and at most 1
+         * @return a reference to this {@link Builder}
+         * @throws IllegalArgumentException if the threshold is out of range
+         */
+        public Builder failureRateThreshold(final double failureRateThreshold) {
+            Validate.isTrue(failureRateThreshold > 0 && failureRateThreshold <= 1, "failureRateThreshold must be in (0, 1]: %f", failureRateThreshold);
+            this.failureRateThreshold = failureRateThreshold;
+            return this;
+        }
+
+        /**
+         * Sets the number of probe calls permitted in half-open state, 10 by default.
+         *
+         * @param halfOpenCalls the number of probe calls, positive
+         * @return a reference to this {@link Builder}
+         * @throws IllegalArgumentException if the number of calls is not positive
+         */
+        public Builder halfOpenCalls(final int halfOpenCalls) {
+            Validate.isTrue(halfOpenCalls > 0, "halfOpenCalls must be positive: %d", halfOpenCalls);
+            this.halfOpenCalls = halfOpenCalls;
+            return this;
+        }
+
+        /**
+         * Sets the time after which a half-open circuit breaker still waiting for the outcomes of its probe calls opens again, 1 minute by default.
+         *
+         * @param duration the maximum half-open duration, positive
+         * @param unit the unit of the duration, not null
+         * @return a reference to this {@link Builder}
+         * @throws IllegalArgumentException if the duration is not positive
+         */
+        public Builder halfOpenDuration(final long duration, final TimeUnit unit) {
+            this.halfOpenNanos = ConcurrentUtils.toPositiveNanos(duration, unit, "halfOpenDuration");
+            return this;
+        }
+
+        /**
+         * Sets the minimum number of calls of the sliding window for the circuit breaker to open, 100 by default.
+         *
+         * @param minimumCalls the minimum number of calls, positive
+         * @return a reference to this {@link Builder}
+         * @throws IllegalArgumentException if the number of calls is not positive
+         */
+        public Builder minimumCalls(final int minimumCalls) {
+            Validate.isTrue(minimumCalls > 0, "minimumCalls must be positive: %d", minimumCalls);
+            this.minimumCalls = minimumCalls;
+            return this;
+        }
+
+        /**
+         * Sets the time during which the open circuit breaker denies all calls before switching to half-open, 1 minute by default.
+         *
+         * @param duration the open duration, positive
+         * @param unit the unit of the duration, not null
+         * @return a reference to this {@link Builder}
+         * @throws IllegalArgumentException if the duration is not positive
+         */
+        public Builder openDuration(final long duration, final TimeUnit unit) {
+            this.openNanos = ConcurrentUtils.toPositiveNanos(duration, unit, "openDuration");
+            return this;
+        }
+
+        /**
+         * Sets the duration from which a call is slow, 1 minute by default.
+         *
+         * @param duration the slow call duration, positive
+         * @param unit the unit of the duration, not null
+         * @return a reference to this {@link Builder}
+         * @throws IllegalArgumentException if the duration is not positive
+         */
+        public Builder slowCallDuration(final long duration, final TimeUnit unit) {
+            this.slowCallNanos = ConcurrentUtils.toPositiveNanos(duration, unit, "slowCallDuration");
+            return this;
+        }
+
+        /**
+         * Sets the rate of slow calls at which the circuit breaker opens, 1 by default.
+         *
+         * @param slowCallRateThreshold the slow call rate threshold, greater than 0 and at most 1
+         * @return a reference to this {@link Builder}
+         * @throws IllegalArgumentException if the threshold is out of range
+         */
+        public Builder slowCallRateThreshold(final double slowCallRateThreshold) {
+            Validate.isTrue(slowCallRateThreshold > 0 && slowCallRateThreshold <= 1, "slowCallRateThreshold must be in (0, 1]: %f", slowCallRateThreshold);
+            this.slowCallRateThreshold = slowCallRateThreshold;
+            return this;
+        }
+
+        /**
+         * Sets the duration of the sliding window counting the calls in closed state, 1 minute by default.
+         *
+         * @param duration the duration of the sliding window, positive
+         * @param unit the unit of the duration, not null
+         * @return a reference to this {@link Builder}
+         * @throws IllegalArgumentException if the duration is not positive
+         */
+        public Builder window(final long duration, final TimeUnit unit) {
+            this.windowNanos = ConcurrentUtils.toPositiveNanos(duration, unit, "window");
+            return this;
+        }
+    }
+
+    /**
+     * A permission to call the protected resource, granted by {@link FailureRateCircuitBreaker#tryAcquirePermission()}. The outcome of the call is recorded
+     * with the permission, and ignored if the circuit breaker left the state in which it granted the permission.
+     */
+    public static final class Permission {
+
+        /** The phase which granted the permission. */
+        private final Phase phase;
+
+        private Permission(final Phase phase) {
+            this.phase = phase;
+        }
+    }
+
+    /**
+     * The state of a {@link FailureRateCircuitBreaker}.
+     */
+    public enum State {
+
+        /** The closed state, permitting all calls. */
+        CLOSED,
+
+        /** The open state, denying all calls. */
+        OPEN,
+
+        /** The half-open state, permitting a bounded number of probe calls. */
+        HALF_OPEN
+    }
+
+    /**
+     * A state of the circuit breaker, from a transition to the next.
+     */
+    private static final class Phase {
+
+        /** The state. */
+        private final State state;
+
+        /** The numbering of the buckets counting calls in the state, from the time of the transition to the state. */
+        private final Window window;
+
+        /** The permits, calls, failures and slow calls of the probes, in half-open state only. */
+        private final AtomicIntegerArray probes;
+
+        /** The permission granted to all the calls of the phase. */
+        private final Permission permission = new Permission(this);
+
+        Phase(final State state, final Window window) {
+            this.state = state;
+            this.window = window;
+            this.probes = state == State.HALF_OPEN ? new AtomicIntegerArray(4) : null;
+        }
+    }
+
+    /** The name of the <em>state</em> property as it is passed to registered change listeners. */
+    public static final String PROPERTY_NAME = "state";
+
+    /** The index of the number of calls, in each bucket or in the probes. */
+    private static final int CALLS = 0;
+
+    /** The index of the number of failed calls, in each bucket or in the probes. */
+    private static final int FAILURES = 1;
+
+    /** The index of the number of slow calls, in each bucket or in the probes. */
+    private static final int SLOW_CALLS = 2;
+
+    /** The index of the number of permits, in the probes. */
+    private static final int PERMITS = 3;
+
+    /**
+     * Creates a new builder.
+     *
+     * @return a new builder
+     */
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /** The failure rate threshold. */
+    private final double failureRateThreshold;
+
+    /** The slow call rate threshold. */
+    private final double slowCallRateThreshold;
+
+    /** The slow call duration, in nanoseconds. */
+    private final long slowCallNanos;
+
+    /** The minimum number of calls of the sliding window. */
+    private final int minimumCalls;
+
+    /** The open duration, in nanoseconds. */
+    private final long openNanos;
+
+    /** The number of probe calls in half-open state. */
+    private final int halfOpenCalls;
+
+    /** The maximum half-open duration, in nanoseconds. */
+    private final long halfOpenNanos;
+
+    /** The test of the exceptions recorded as failures. */
+    private final Predicate<? super Throwable> failurePredicate;
+
+    /** The calls, failures and slow calls of the sliding window. */
+    private final SlidingWindowCounter callCounter;
+
+    /** The current state. */
+    private final AtomicReference<Phase> phase;
+
+    /** An object for managing change listeners registered at this instance. */
+    private final PropertyChangeSupport changeSupport = new PropertyChangeSupport(this);
+
+    /**
+     * Constructs a new instance.
+     *
+     * @param builder the builder with the configuration options, not null
+     */
+    protected FailureRateCircuitBreaker(final Builder builder) {
+        failureRateThreshold = builder.failureRateThreshold;
+        slowCallRateThreshold = builder.slowCallRateThreshold;
+        slowCallNanos = builder.slowCallNanos;
+        minimumCalls = builder.minimumCalls;
+        openNanos = builder.openNanos;
+        halfOpenCalls = builder.halfOpenCalls;
+        halfOpenNanos = builder.halfOpenNanos;
+        failurePredicate = builder.failurePredicate;
+        callCounter = new SlidingWindowCounter((builder.windowNanos + builder.buckets - 1) / builder.buckets, builder.buckets, 3, builder.buckets);
+        phase = new AtomicReference<>(new Phase(State.CLOSED, callCounter.firstWindow(nanoTime())));
+    }
+
+    /**
+     * Adds a change listener to this circuit breaker. This listener is notified whenever the state of this circuit breaker changes. If the listener is
+     * <strong>null</strong>, it is silently ignored.
+     *
+     * @param listener the listener to be added
+     */
+    public void addChangeListener(final PropertyChangeListener listener) {
+        changeSupport.addPropertyChangeListener(listener);
+    }
+
+    /**
+     * Closes this circuit breaker, starting a new sliding window. This method has no effect on the registered listeners if this circuit breaker is
+     * already closed.
+     */
+    public void close() {
+        transition(phase.get(), State.CLOSED, true);
+    }
+
+    /**
+     * Counts the calls of the sliding window.
+     *
+     * @param currentSnapshot the current bucket and the calls of the past buckets
+     * @param index the index of the counts
+     * @return the number of calls, failed calls or slow calls of the sliding window
+     */
+    private long count(final Snapshot currentSnapshot, final int index) {
+        return callCounter.count(currentSnapshot, 0, index);
+    }
+
+    /**
+     * Decorates a callable so that each call asks this circuit breaker for a permission, and records its outcome and duration.
+     *
+     * @param <T> the type of the result of the callable
+     * @param <E> the type of the exception thrown by the callable
+     * @param callable the callable to decorate, not null
+     * @return the decorated callable, throwing a {@link CircuitBreakingException} when the permission is denied
+     * @throws NullPointerException if the callable is null
+     */
+    public <T, E extends Throwable> FailableCallable<T, E> decorateCallable(final FailableCallable<T, E> callable) {
+        Objects.requireNonNull(callable, "callable");
+        return () -> execute(callable::call);
+    }
+
+    /**
+     * Decorates a supplier so that each call asks this circuit breaker for a permission, and records its outcome and duration.
+     *
+     * @param <T> the type of the result of the supplier
+     * @param <E> the type of the exception thrown by the supplier
+     * @param supplier the supplier to decorate, not null
+     * @return the decorated supplier, throwing a {@link CircuitBreakingException} when the permission is denied
+     * @throws NullPointerException if the supplier is null
+     */
+    public <T, E extends Throwable> FailableSupplier<T, E> decorateSupplier(final FailableSupplier<T, E> supplier) {
+        Objects.requireNonNull(supplier, "supplier");
+        return () -> execute(supplier);
+    }
+
+    /**
+     * Calls a supplier if this circuit breaker permits it, and records its outcome and duration.
+     *
+     * @param <T> the type of the result of the supplier
+     * @param <E> the type of the exception thrown by the supplier
+     * @param supplier the supplier to call
+     * @return the result of the supplier
+     * @throws E if the supplier fails
+     * @throws CircuitBreakingException if the permission is denied
+     */
+    private <T, E extends Throwable> T execute(final FailableSupplier<T, E> supplier) throws E {
+        final Permission permission = tryAcquirePermission();
+        if (permission == null) {
+            throw new CircuitBreakingException("Circuit breaker is " + getState());
+        }
+        final long start = nanoTime();
+        final T result;
+        try {
+            result = supplier.get();
+        } catch (final Throwable t) {
+            recordFailure(permission, nanoTime() - start, t);
+            throw t;
+        }
+        recordSuccess(permission, nanoTime() - start);
+        return result;
+    }
+
+    /**
+     * Gets the rate of failed calls of the sliding window in closed state, or of the recorded probe calls in half-open state.
+     *
+     * @return the failure rate, 0 without calls
+     */
+    public double getFailureRate() {
+        return rate(FAILURES);
+    }
+
+    /**
+     * Gets the rate of slow calls of the sliding window in closed state, or of the recorded probe calls in half-open state.
+     *
+     * @return the slow call rate, 0 without calls
+     */
+    public double getSlowCallRate() {
+        return rate(SLOW_CALLS);
+    }
+
+    /**
+     * Gets the current state of this circuit breaker. An open circuit breaker is reported as such until a call asks for a permission after the open
+     * duration.
+     *
+     * @return the current state
+     */
+    public State getState() {
+        return phase.get().state;
+    }
+
+    /**
+     * Tests whether this circuit breaker is closed.
+     *
+     * @return whether this circuit breaker is closed
+     */
+    public boolean isClosed() {
+        return getState() == State.CLOSED;
+    }
+
+    /**
+     * Tests whether this circuit breaker is open.
+     *
+     * @return whether this circuit breaker is open
+     */
+    public boolean isOpen() {
+        return getState() == State.OPEN;
+    }
+
+    /**
+     * Tests whether recorded calls reach a threshold.
+     *
+     * @param calls the number of calls
+     * @param failures the number of failed calls
+     * @param slowCalls the number of slow calls
+     * @return whether the failure rate or the slow call rate reaches its threshold
+     */
+    private boolean isOverThreshold(final long calls, final long failures, final long slowCalls) {
+        return failures >= failureRateThreshold * calls || slowCalls >= slowCallRateThreshold * calls;
+    }
+
+    /**
+     * Returns the current time in nanoseconds, overridden by tests.
+     *
+     * @return the current time in nanoseconds
+     */
+    long nanoTime() {
+        return System.nanoTime();
+    }
+
+    /**
+     * Opens this circuit breaker, denying calls for the open duration from now. This method has no effect on the registered listeners if this circuit
+     * breaker is already open.
+     */
+    public void open() {
+        transition(phase.get(), State.OPEN, true);
+    }
+
+    /**
+     * Computes a rate of the current phase.
+     *
+     * @param index the index of the counts
+     * @return the rate, 0 without calls
+     */
+    private double rate(final int index) {
+        final Phase current = phase.get();
+        if (current.state == State.HALF_OPEN) {
+            final int calls = current.probes.get(CALLS);
+            return calls == 0 ? 0 : (double) current.probes.get(index) / calls;
+        }
+        final Snapshot currentSnapshot = callCounter.snapshot(current.window, nanoTime());
+        final long calls = count(currentSnapshot, CALLS);
+        return calls == 0 ? 0 : (double) count(currentSnapshot, index) / calls;
+    }
+
+    /**
+     * Records the outcome of a call.
+     *
+     * @param permission the permission of the call
+     * @param durationNanos the duration of the call, in nanoseconds
+     * @param failed whether the call failed
+     */
+    private void record(final Permission permission, final long durationNanos, final boolean failed) {
+        final boolean slow = durationNanos >= slowCallNanos;
+        final Phase current = permission.phase;
+        if (current != phase.get()) {
+            // the call was permitted before the last state transition
+            return;
+        }
+        if (current.state == State.CLOSED) {
+            final Snapshot currentSnapshot = callCounter.snapshot(current.window, nanoTime());
+            if (!callCounter.prepare(currentSnapshot)) {
+                return;
+            }
+            if (failed) {
+                callCounter.add(currentSnapshot, FAILURES, 1);
+            }
+            if (slow) {
+                callCounter.add(currentSnapshot, SLOW_CALLS, 1);
+            }
+            callCounter.add(currentSnapshot, CALLS, 1);
+            final long calls = count(currentSnapshot, CALLS);
+            if (calls >= minimumCalls && isOverThreshold(calls, count(currentSnapshot, FAILURES), count(currentSnapshot, SLOW_CALLS))) {
+                transition(current, State.OPEN, false);
+            }
+        } else if (current.state == State.HALF_OPEN) {
+            final AtomicIntegerArray probes = current.probes;
+            if (failed) {
+                probes.incrementAndGet(FAILURES);
+            }
+            if (slow) {
+                probes.incrementAndGet(SLOW_CALLS);
+            }
+            // the failures and slow calls are counted before the calls, so the last probe sees the outcomes of all the others
+            if (probes.incrementAndGet(CALLS) == halfOpenCalls) {
+                final boolean over = isOverThreshold(halfOpenCalls, probes.get(FAILURES), probes.get(SLOW_CALLS));
+                transition(current, over ? State.OPEN : State.CLOSED, false);
+            }
+        }
+    }
+
+    /**
+     * Records a failed call. If the exception is not recorded as a failure by the failure predicate, the call is recorded as successful. The call is
+     * ignored if this circuit breaker changed state since it granted the permission.
+     *
+     * @param permission the permission of the call, not null
+     * @param durationNanos the duration of the call, in nanoseconds
+     * @param throwable the exception thrown by the call
+     * @throws NullPointerException if the permission is null
+     */
+    public void recordFailure(final Permission permission, final long durationNanos, final Throwable throwable) {
+        record(Objects.requireNonNull(permission, "permission"), durationNanos, failurePredicate.test(throwable));
+    }
+
+    /**
+     * Records a successful call. The call is ignored if this circuit breaker changed state since it granted the permission.
+     *
+     * @param permission the permission of the call, not null
+     * @param durationNanos the duration of the call, in nanoseconds
+     * @throws NullPointerException if the permission is null
+     */
+    public void recordSuccess(final Permission permission, final long durationNanos) {
+        record(Objects.requireNonNull(permission, "permission"), durationNanos, false);
+    }
+
+    /**
+     * Removes the specified change listener from this circuit breaker.
+     *
+     * @param listener the listener to be removed
+     */
+    public void removeChangeListener(final PropertyChangeListener listener) {
+        changeSupport.removePropertyChangeListener(listener);
+    }
+
+    /**
+     * Changes the state of this circuit breaker, notifying the registered listeners.
+     *
+     * @param current the phase to leave
+     * @param newState the new state
+     * @param force whether to change the state even if the phase was left meanwhile, for manual transitions
+     */
+    private void transition(final Phase current, final State newState, final boolean force) {
+        Phase from = current;
+        while (true) {
+            final Phase next = new Phase(newState, callCounter.nextWindow(from.window, nanoTime()));
+            if (phase.compareAndSet(from, next)) {
+                changeSupport.firePropertyChange(PROPERTY_NAME, from.state, newState);
+                return;
+            }
+            if (!force) {
+                return;
+            }
+            from = phase.get();
+        }
+    }
+
+    /**
+     * Takes one of the probe permits of the half-open state, if some are left. The number of permits taken never goes past the number of probe calls, however
+     * many calls are denied.
+     *
+     * @param probes the counts of the probes
+     * @return whether a permit was taken
+     */
+    private boolean tryAcquireProbe(final AtomicIntegerArray probes) {
+        while (true) {
+            final int permits = probes.get(PERMITS);
+            if (permits >= halfOpenCalls) {
+                return false;
+            }
+            if (probes.compareAndSet(PERMITS, permits, permits + 1)) {
+                return true;
+            }
+        }
+    }
+
+    /**
+     * Asks for the permission to call the protected resource. A permitted call must record its outcome with {@link #recordSuccess(Permission, long)} or
+     * {@link #recordFailure(Permission, long, Throwable)}, so that a half-open circuit breaker can decide whether to close or open again.
+     *
+     * @return the permission, or {@code null} if the call is denied
+     */
+    public Permission tryAcquirePermission() {
+        while (true) {
+            final Phase current = phase.get();
+            switch (current.state) {
+            case CLOSED:
+                return current.permission;
+            case OPEN:
+                if (nanoTime() - current.window.getStart() < openNanos) {
+                    return null;
+                }
+                transition(current, State.HALF_OPEN, false);
+                break;
+            default:
+                if (tryAcquireProbe(current.probes)) {
+                    return current.permission;
+                }
+                if (nanoTime() - current.window.getStart() < halfOpenNanos) {
+                    return null;
+                }
+                // some probe calls never recorded their outcome
+                transition(current, State.OPEN, false);
+                break;
+            }
+        }
+    }
+}
@@ -16,24 +16,47 @@
  */
 package org.apache.commons.lang3.concurrent;
 
+import java.lang.ref.Reference;
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.SoftReference;
+import java.lang.ref.WeakReference;
+import java.util.Objects;
+import java.util.Queue;
 import java.util.concurrent.CancellationException;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.concurrent.ConcurrentMap;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.BiFunction;
 import java.util.function.Function;
 
+import org.apache.commons.lang3.Validate;
 import org.apache.commons.lang3.exception.ExceptionUtils;
+import org.apache.commons.lang3.function.TriConsumer;
 
 /**
  * Definition of an interface for a wrapper around a calculation that takes a single parameter and returns a result. The
  * results for the calculation will be cached for future requests.
  *
  * <p>
- * This is not a fully functional cache, there is no way of limiting or removing results once they have been generated.
- * However, it is possible to get the implementation to regenerate the result for a given parameter, if an error was
- * thrown during the previous calculation, by setting the option during the construction of the class. If this is not
- * set the class will return the cached exception.
+ * By default, results are cached forever. A Memoizer created with a {@link #builder() builder} can bound its cache
+ * with a maximum number of results, expire results a fixed time after they were computed or last returned, and hold
+ * results with weak or soft references so that the garbage collector can reclaim them. Evicted results are reported to
+ * an optional eviction listener.
+ * </p>
+ * <p>
+ * It is possible to get the implementation to regenerate the result for a given parameter, if an error was thrown
+ * during the previous calculation, by setting the option during the construction of the class. If this is not set the
+ * class will return the cached exception.
+ * </p>
+ * <p>
+ * Concurrent calls for the same parameter share a single calculation. The numbers of cache hits and misses, and the
+ * total time spent calculating, are counted.
  * </p>
  * <p>
  * Thanks go to Brian Goetz, Tim Peierls and the members of JCP JSR-166 Expert Group for coming up with the
@@ -46,9 +69,437 @@
  */
 public class Memoizer<I, O> implements Computable<I, O> {
 
-    private final ConcurrentMap<I, Future<O>> cache = new ConcurrentHashMap<>();
-    private final Function<? super I, ? extends Future<O>> mappingFunction;
+    /**
+     * A <em>builder</em> class for creating instances of {@link Memoizer}.
+     *
+     * <pre>
+     * Memoizer&lt;String, Report&gt; reports = Memoizer.&lt;String, Report&gt;builder()
+     *     .function(this::buildReport)
+     *     .maximumSize(10_000)
+     *     .expireAfterWrite(10, TimeUnit.MINUTES)
+     *     .build();
+     * </pre>
+     *
+     * @param <I> the type of the input to the calculation
+     * @param <O> the type of the output of the calculation
+     * @since 3.18.0
+     */
+    public static class Builder<I, O> implements org.apache.commons.lang3.builder.Builder<Memoizer<I, O>> {
+
+        /** The calculation. */
+        private Computable<I, O> computable;
+
+        /** Whether to recalculate failed calculations. */
+        private boolean recalculate;
+
+        /** The maximum number of cached results. */
+        private long maximumSize = Long.MAX_VALUE;
+
+        /** The time to live of the results after their calculation, in nanoseconds, 0 for no expiration. */
+        private long expireAfterWriteNanos;
+
+        /** The time to live of the results after their last access, in nanoseconds, 0 for no expiration. */
+        private long expireAfterAccessNanos;
+
+        /** The strength of the references to the results. */
+        private ValueStrength valueStrength = ValueStrength.STRONG;
+
+        /** The eviction listener, may be null. */
+        private TriConsumer<? super I, ? super O, EvictionCause> evictionListener;
+
+        private Builder() {
+            // use Memoizer.builder()
+        }
+
+        /**
+         * Creates a new {@link Memoizer} with the configuration options set on this builder.
+         *
+         * @return the new {@link Memoizer}
+         * @throws NullPointerException if no calculation was set
+         */
+        @Override
+        public Memoizer<I, O> build() {
+            return new Memoizer<>(this);
+        }
+
+        /**
+         * Sets the calculation whose results should be memorized.
+         *
+         * @param computable the calculation, not null
+         * @return a reference to this {@link Builder}
+         * @throws NullPointerException if the calculation is null
+         */
+        public Builder<I, O> computable(final Computable<I, O> computable) {
+            this.computable = Objects.requireNonNull(computable, "computable");
+            return this;
+        }
+
+        /**
+         * Sets a listener notified of each evicted result with its input, its output, null if it was reclaimed or its
+         * calculation failed, and the cause of the eviction. The listener is called by the thread evicting the result,
+         * and should return quickly.
+         *
+         * @param evictionListener the listener, not null
+         * @return a reference to this {@link Builder}
+         * @throws NullPointerException if the listener is null
+         */
+        public Builder<I, O> evictionListener(final TriConsumer<? super I, ? super O, EvictionCause> evictionListener) {
+            this.evictionListener = Objects.requireNonNull(evictionListener, "evictionListener");
+            return this;
+        }
+
+        /**
+         * Sets the time after which a result expires once it was last returned, no expiration by default.
+         *
+         * @param duration the time to live, positive
+         * @param unit the unit of the time to live, not null
+         * @return a reference to this {@link Builder}
+         * @throws IllegalArgumentException if the duration is not positive
+         */
+        public Builder<I, O> expireAfterAccess(final long duration, final TimeUnit unit) {
+            this.expireAfterAccessNanos = ConcurrentUtils.toPositiveNanos(duration, unit, "expireAfterAccess");
+            return this;
+        }
+
+        /**
+         * Sets the time after which a result expires once it was calculated, no expiration by default.
+         *
+         * @param duration the time to live, positive
+         * @param unit the unit of the time to live, not null
+         * @return a reference to this {@link Builder}
+         * @throws IllegalArgumentException if the duration is not positive
+         */
+        public Builder<I, O> expireAfterWrite(final long duration, final TimeUnit unit) {
+            this.expireAfterWriteNanos = ConcurrentUtils.toPositiveNanos(duration, unit, "expireAfterWrite");
+            return this;
+        }
+
+        /**
+         * Sets the function whose results should be memorized.
+         *
+         * @param function the function, not null
+         * @return a reference to this {@link Builder}
+         * @throws NullPointerException if the function is null
+         */
+        public Builder<I, O> function(final Function<I, O> function) {
+            Objects.requireNonNull(function, "function");
+            this.computable = function::apply;
+            return this;
+        }
+
+        /**
+         * Sets the maximum number of cached results, unbounded by default. When a new result exceeds it, the results
+         * not returned for the longest time are evicted first, approximately.
+         *
+         * @param maximumSize the maximum number of cached results, positive
+         * @return a reference to this {@link Builder}
+         * @throws IllegalArgumentException if the maximum size is not positive
+         */
+        public Builder<I, O> maximumSize(final long maximumSize) {
+            Validate.isTrue(maximumSize > 0, "maximumSize must be positive: %d", maximumSize);
+            this.maximumSize = maximumSize;
+            return this;
+        }
+
+        /**
+         * Sets whether a calculation that failed should be recalculated on subsequent calls, rather than returning the
+         * same cached exception, false by default.
+         *
+         * @param recalculate whether to recalculate failed calculations
+         * @return a reference to this {@link Builder}
+         */
+        public Builder<I, O> recalculate(final boolean recalculate) {
+            this.recalculate = recalculate;
+            return this;
+        }
+
+        /**
+         * Holds the results with soft references, reclaimed by the garbage collector when memory runs low.
+         *
+         * @return a reference to this {@link Builder}
+         */
+        public Builder<I, O> softValues() {
+            this.valueStrength = ValueStrength.SOFT;
+            return this;
+        }
+
+        /**
+         * Holds the results with weak references, reclaimed by the garbage collector once no longer used elsewhere.
+         *
+         * @return a reference to this {@link Builder}
+         */
+        public Builder<I, O> weakValues() {
+            this.valueStrength = ValueStrength.WEAK;
+            return this;
+        }
+    }
+
+    /**
+     * A cached calculation.
+     *
+     * @param <I> the type of the input to the calculation
+     * @param <O> the type of the output of the calculation
+     */
+    private static final class Entry<I, O> {
+
+        /** The input. */
+        private final I key;
+
+        /** The calculation, null if its result is held by {@link #reference}. */
+        private final Future<O> future;
+
+        /** The reference to the result, null if the calculation is held by {@link #future}. */
+        private final Reference<O> reference;
+
+        /** The time the result was calculated, in nanoseconds. */
+        private final long writeTime;
+
+        /** The time the result was last returned, in nanoseconds. */
+        private volatile long accessTime;
+
+        /** Whether the result was returned since the eviction last went past it. */
+        private volatile boolean accessed;
+
+        Entry(final I key, final Future<O> future, final long time) {
+            this.key = key;
+            this.future = future;
+            this.reference = null;
+            this.writeTime = time;
+            this.accessTime = time;
+        }
+
+        Entry(final I key, final O value, final ValueStrength strength, final ReferenceQueue<O> queue, final long time) {
+            this.key = key;
+            this.future = null;
+            this.reference = strength == ValueStrength.WEAK ? new WeakValue<>(value, this, queue) : new SoftValue<>(value, this, queue);
+            this.writeTime = time;
+            this.accessTime = time;
+        }
+
+        /**
+         * Tests whether the result was reclaimed by the garbage collector.
+         *
+         * @return whether the result was reclaimed
+         */
+        boolean isCollected() {
+            return reference != null && reference.get() == null;
+        }
+
+        /**
+         * Gets the result if it is available.
+         *
+         * @return the result, null if it was reclaimed or the calculation failed
+         */
+        O getNow() {
+            if (reference != null) {
+                return reference.get();
+            }
+            if (!future.isDone() || future.isCancelled()) {
+                return null;
+            }
+            try {
+                return future.get();
+            } catch (final ExecutionException e) {
+                return null;
+            } catch (final InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return null;
+            }
+        }
+    }
+
+    /**
+     * The cause of the eviction of a result.
+     *
+     * @since 3.18.0
+     */
+    public enum EvictionCause {
+
+        /** The result was evicted to respect the maximum size. */
+        SIZE,
+
+        /** The result expired. */
+        EXPIRED,
+
+        /** The result was reclaimed by the garbage collector. */
+        COLLECTED
+    }
+
+    /**
+     * Calculates the result of an input missing from the cache, or replaces an expired or reclaimed one.
+     */
+    private final class Loader implements BiFunction<I, Entry<I, O>, Entry<I, O>> {
+
+        /** The time of the call, in nanoseconds. */
+        private final long now;
+
+        /** Whether the result was calculated. */
+        private boolean loaded;
+
+        /** The calculated result, held until it is returned. */
+        private O value;
+
+        /** The expired or reclaimed entry replaced, null if none. */
+        private Entry<I, O> replaced;
+
+        Loader(final long now) {
+            this.now = now;
+        }
+
+        @Override
+        public Entry<I, O> apply(final I key, final Entry<I, O> cached) {
+            if (cached != null) {
+                if (isLive(cached, now)) {
+                    return cached;
+                }
+                replaced = cached;
+            }
+            loaded = true;
+            final long start = nanoTime();
+            final Future<O> future = FutureTasks.run(() -> computable.compute(key));
+            final long end = nanoTime();
+            missCount.increment();
+            totalLoadTime.add(end - start);
+            final Entry<I, O> entry = new Entry<>(key, future, end);
+            if (valueStrength != ValueStrength.STRONG) {
+                value = entry.getNow();
+                if (value != null) {
+                    return new Entry<>(key, value, valueStrength, references, end);
+                }
+            }
+            return entry;
+        }
+    }
+
+    /**
+     * A soft reference to a result.
+     *
+     * @param <I> the type of the input to the calculation
+     * @param <O> the type of the output of the calculation
+     */
+    private static final class SoftValue<I, O> extends SoftReference<O> implements ValueReference<I, O> {
+
+        /** The entry holding this reference. */
+        private final Entry<I, O> entry;
+
+        SoftValue(final O value, final Entry<I, O> entry, final ReferenceQueue<O> queue) {
+            super(value, queue);
+            this.entry = entry;
+        }
+
+        @Override
+        public Entry<I, O> getEntry() {
+            return entry;
+        }
+    }
+
+    /**
+     * A reference to a result, knowing the entry holding it.
+     *
+     * @param <I> the type of the input to the calculation
+     * @param <O> the type of the output of the calculation
+     */
+    private interface ValueReference<I, O> {
+
+        /**
+         * Gets the entry holding this reference.
+         *
+         * @return the entry
+         */
+        Entry<I, O> getEntry();
+    }
+
+    /**
+     * The strength of the references to the results.
+     */
+    private enum ValueStrength {
+        STRONG, SOFT, WEAK
+    }
+
+    /**
+     * A weak reference to a result.
+     *
+     * @param <I> the type of the input to the calculation
+     * @param <O> the type of the output of the calculation
+     */
+    private static final class WeakValue<I, O> extends WeakReference<O> implements ValueReference<I, O> {
+
+        /** The entry holding this reference. */
+        private final Entry<I, O> entry;
+
+        WeakValue(final O value, final Entry<I, O> entry, final ReferenceQueue<O> queue) {
+            super(value, queue);
+            this.entry = entry;
+        }
+
+        @Override
+        public Entry<I, O> getEntry() {
+            return entry;
+        }
+    }
+
+    /**
+     * Creates a new builder.
+     *
+     * @param <I> the type of the input to the calculation
+     * @param <O> the type of the output of the calculation
+     * @return a new builder
+     * @since 3.18.0
+     */
+    public static <I, O> Builder<I, O> builder() {
+        return new Builder<>();
+    }
+
+    /**
+     * The number of live results a clean-up looks past to find the results expired after access. Each clean-up resumes where the previous one stopped,
+     * so the whole cache is scanned while it grows by one result per clean-up.
+     */
+    private static final int ACCESS_EXPIRATION_SCANS = 4;
+
+    private final ConcurrentMap<I, Entry<I, O>> cache = new ConcurrentHashMap<>();
+    private final Computable<I, O> computable;
     private final boolean recalculate;
+    private final long maximumSize;
+    private final long expireAfterWriteNanos;
+    private final long expireAfterAccessNanos;
+    private final ValueStrength valueStrength;
+    private final TriConsumer<? super I, ? super O, EvictionCause> evictionListener;
+
+    /** The reclaimed references, null for strong values. */
+    private final ReferenceQueue<O> references;
+
+    /** The entries in calculation order, to find the entries to evict, null for an unbounded cache without expiration. */
+    private final Queue<Entry<I, O>> evictionOrder;
+
+    /** The length of {@link #evictionOrder}, including the entries already removed from the cache. */
+    private final AtomicInteger evictionOrderLength = new AtomicInteger();
+
+    /** The lock of the thread evicting entries, others skip the eviction. */
+    private final ReentrantLock evictionLock = new ReentrantLock();
+
+    private final LongAdder hitCount = new LongAdder();
+    private final LongAdder missCount = new LongAdder();
+    private final LongAdder evictionCount = new LongAdder();
+    private final LongAdder totalLoadTime = new LongAdder();
+
+    /**
+     * Constructs a Memoizer with the configuration options set on a builder.
+     *
+     * @param builder the builder with the configuration options, not null
+     * @throws NullPointerException if no calculation was set
+     * @since 3.18.0
+     */
+    protected Memoizer(final Builder<I, O> builder) {
+        this.computable = Objects.requireNonNull(builder.computable, "computable");
+        this.recalculate = builder.recalculate;
+        this.maximumSize = builder.maximumSize;
+        this.expireAfterWriteNanos = builder.expireAfterWriteNanos;
+        this.expireAfterAccessNanos = builder.expireAfterAccessNanos;
+        this.valueStrength = builder.valueStrength;
+        this.evictionListener = builder.evictionListener;
+        this.references = valueStrength != ValueStrength.STRONG ? new ReferenceQueue<>() : null;
+        this.evictionOrder = maximumSize != Long.MAX_VALUE || isExpiring() ? new ConcurrentLinkedQueue<>() : null;
+    }
 
     /**
      * Constructs a Memoizer for the provided Computable calculation.
@@ -73,8 +524,7 @@ public Memoizer(final Computable<I, O> computable) {
      *        failed
      */
     public Memoizer(final Computable<I, O> computable, final boolean recalculate) {
-        this.recalculate = recalculate;
-        this.mappingFunction = k -> FutureTasks.run(() -> computable.compute(k));
+        this(Memoizer.<I, O>builder().computable(computable).recalculate(recalculate));
     }
 
     /**
@@ -102,8 +552,70 @@ public Memoizer(final Function<I, O> function) {
      * @since 2.13.0
      */
      public Memoizer(final Function<I, O> function, final boolean recalculate) {
-        this.recalculate = recalculate;
-        this.mappingFunction = k -> FutureTasks.run(() -> function.apply(k));
+        this(Memoizer.<I, O>builder().function(function).recalculate(recalculate));
+    }
+
+    /**
+     * Removes the reclaimed results, and evicts the expired results and the results over the maximum size.
+     *
+     * @param now the current time, in nanoseconds
+     */
+    private void cleanUp(final long now) {
+        if (references != null) {
+            Reference<? extends O> reference;
+            while ((reference = references.poll()) != null) {
+                @SuppressWarnings("unchecked")
+                final Entry<I, O> entry = ((ValueReference<I, O>) reference).getEntry();
+                if (cache.remove(entry.key, entry)) {
+                    evicted(entry, EvictionCause.COLLECTED);
+                }
+            }
+        }
+        if (evictionOrder == null || !evictionLock.tryLock()) {
+            return;
+        }
+        try {
+            // bounds the rotations, while concurrent calls keep returning results
+            int rotations = evictionOrderLength.get();
+            int scans = ACCESS_EXPIRATION_SCANS;
+            Entry<I, O> entry;
+            while ((entry = evictionOrder.peek()) != null) {
+                final EvictionCause cause;
+                if (cache.get(entry.key) != entry) {
+                    // already removed
+                    cause = null;
+                } else if (isExpired(entry, now)) {
+                    cause = EvictionCause.EXPIRED;
+                } else if (entry.isCollected()) {
+                    cause = EvictionCause.COLLECTED;
+                } else if (cache.size() > maximumSize && (!entry.accessed || rotations <= 0)) {
+                    cause = EvictionCause.SIZE;
+                } else if (cache.size() > maximumSize) {
+                    // gives a recently returned result a second chance
+                    entry.accessed = false;
+                    evictionOrder.add(evictionOrder.poll());
+                    rotations--;
+                    continue;
+                } else if (evictionOrderLength.get() > 2L * cache.size() && rotations-- > 0) {
+                    // gets the entries already removed from the cache to the head
+                    evictionOrder.add(evictionOrder.poll());
+                    continue;
+                } else if (expireAfterAccessNanos > 0 && scans-- > 0 && rotations-- > 0) {
+                    // results expiring after access are not in expiration order, looks past a live result
+                    evictionOrder.add(evictionOrder.poll());
+                    continue;
+                } else {
+                    break;
+                }
+                evictionOrder.poll();
+                evictionOrderLength.decrementAndGet();
+                if (cause != null && cache.remove(entry.key, entry)) {
+                    evicted(entry, cause);
+                }
+            }
+        } finally {
+            evictionLock.unlock();
+        }
     }
 
     /**
@@ -114,6 +626,9 @@ public Memoizer(final Function<I, O> function, final boolean recalculate) {
      * constructor was set to {@code false}, or not set. Otherwise, if an exception happened on the previous calculation,
      * the method will attempt again to generate a value.
      * </p>
+     * <p>
+     * The result is calculated again if it was evicted, expired or reclaimed.
+     * </p>
      *
      * @param arg the argument for the calculation
      * @return the result of the calculation
@@ -122,20 +637,153 @@ public Memoizer(final Function<I, O> function, final boolean recalculate) {
     @Override
     public O compute(final I arg) throws InterruptedException {
         while (true) {
-            final Future<O> future = cache.computeIfAbsent(arg, mappingFunction);
+            final long now = isExpiring() ? nanoTime() : 0;
+            Entry<I, O> entry = cache.get(arg);
+            O value = null;
+            if (entry != null && isLive(entry, now)) {
+                hit(entry, now);
+            } else {
+                final Loader loader = new Loader(now);
+                entry = cache.compute(arg, loader);
+                if (loader.replaced != null) {
+                    evicted(loader.replaced, isExpired(loader.replaced, now) ? EvictionCause.EXPIRED : EvictionCause.COLLECTED);
+                }
+                if (loader.loaded) {
+                    value = loader.value;
+                    if (evictionOrder != null) {
+                        evictionOrder.add(entry);
+                        evictionOrderLength.incrementAndGet();
+                    }
+                    cleanUp(now);
+                } else {
+                    hit(entry, now);
+                }
+            }
+            if (entry.future == null) {
+                if (value == null) {
+                    value = entry.reference.get();
+                }
+                if (value != null) {
+                    return value;
+                }
+                // reclaimed meanwhile
+                continue;
+            }
             try {
-                return future.get();
+                return entry.future.get();
             } catch (final CancellationException e) {
-                cache.remove(arg, future);
+                cache.remove(arg, entry);
             } catch (final ExecutionException e) {
                 if (recalculate) {
-                    cache.remove(arg, future);
+                    cache.remove(arg, entry);
                 }
                 throw launderException(e.getCause());
             }
         }
     }
 
+    /**
+     * Counts and reports an evicted entry.
+     *
+     * @param entry the evicted entry
+     * @param cause the cause of the eviction
+     */
+    private void evicted(final Entry<I, O> entry, final EvictionCause cause) {
+        evictionCount.increment();
+        if (evictionListener != null) {
+            evictionListener.accept(entry.key, entry.getNow(), cause);
+        }
+    }
+
+    /**
+     * Gets the number of results evicted, because of the maximum size, their expiration, or the garbage collector.
+     *
+     * @return the number of evicted results
+     * @since 3.18.0
+     */
+    public long getEvictionCount() {
+        return evictionCount.sum();
+    }
+
+    /**
+     * Gets the number of calls returning a cached result, or sharing a concurrent calculation.
+     *
+     * @return the number of cache hits
+     * @since 3.18.0
+     */
+    public long getHitCount() {
+        return hitCount.sum();
+    }
+
+    /**
+     * Gets the number of calculations, successful or not.
+     *
+     * @return the number of cache misses
+     * @since 3.18.0
+     */
+    public long getMissCount() {
+        return missCount.sum();
+    }
+
+    /**
+     * Gets the total time spent calculating results, successfully or not.
+     *
+     * @param unit the unit of the returned time, not null
+     * @return the total calculation time
+     * @since 3.18.0
+     */
+    public long getTotalLoadTime(final TimeUnit unit) {
+        return unit.convert(totalLoadTime.sum(), TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * Counts a cache hit, and records the access to an entry for its expiration and eviction.
+     *
+     * @param entry the entry returned
+     * @param now the current time, in nanoseconds
+     */
+    private void hit(final Entry<I, O> entry, final long now) {
+        hitCount.increment();
+        if (expireAfterAccessNanos > 0) {
+            entry.accessTime = now;
+        }
+        if (evictionOrder != null && !entry.accessed) {
+            entry.accessed = true;
+        }
+    }
+
+    /**
+     * Tests whether an entry expired.
+     *
+     * @param entry the entry
+     * @param now the current time, in nanoseconds
+     * @return whether the entry expired
+     */
+    private boolean isExpired(final Entry<I, O> entry, final long now) {
+        return expireAfterWriteNanos > 0 && now - entry.writeTime >= expireAfterWriteNanos
+            || expireAfterAccessNanos > 0 && now - entry.accessTime >= expireAfterAccessNanos;
+    }
+
+    /**
+     * Tests whether the results expire.
+     *
+     * @return whether the results expire
+     */
+    private boolean isExpiring() {
+        return expireAfterWriteNanos > 0 || expireAfterAccessNanos > 0;
+    }
+
+    /**
+     * Tests whether an entry can be returned.
+     *
+     * @param entry the entry
+     * @param now the current time, in nanoseconds
+     * @return whether the entry neither expired nor was reclaimed
+     */
+    private boolean isLive(final Entry<I, O> entry, final long now) {
+        return !isExpired(entry, now) && !entry.isCollected();
+    }
+
     /**
      * This method launders a Throwable to either a RuntimeException, Error or any other Exception wrapped in an
      * IllegalStateException.
@@ -146,4 +794,13 @@ public O compute(final I arg) throws InterruptedException {
     private RuntimeException launderException(final Throwable throwable) {
         throw new IllegalStateException("Unchecked exception", ExceptionUtils.throwUnchecked(throwable));
     }
+
+    /**
+     * Returns the current time in nanoseconds, overridden by tests.
+     *
+     * @return the current time in nanoseconds
+     */
+    long nanoTime() {
+        return System.nanoTime();
+    }
 }
@@ -0,0 +1,96 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.lang3.concurrent;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * An interface describing a rate limiter, granting a maximum number of permits over time.
+ *
+ * <p>
+ * A <em>rate limiter</em> protects a resource, like a service called on behalf of a tenant, against more calls than it can handle. Each call acquires
+ * one or more permits: {@link #tryAcquire(int)} does not block and tells whether the permits were granted,
+ * {@link #tryAcquire(int, long, TimeUnit)} waits for them at most for a timeout, and {@link #acquire(int)} waits for them as long as needed.
+ * </p>
+ * <p>
+ * Unlike {@link TimedSemaphore}, the implementations of this package compute the permits from the time of the calls, without a timer thread, so that they
+ * are cheap enough to keep one per tenant.
+ * </p>
+ *
+ * @see TokenBucketRateLimiter
+ * @see SlidingWindowRateLimiter
+ * @since 3.18.0
+ */
+public interface RateLimiter {
+
+    /**
+     * Acquires a permit, waiting until it is granted.
+     *
+     * @throws InterruptedException if the thread gets interrupted while waiting
+     */
+    default void acquire() throws InterruptedException {
+        acquire(1);
+    }
+
+    /**
+     * Acquires a number of permits, waiting until they are granted.
+     *
+     * @param permits the number of permits, between 1 and the maximum number of permits this rate limiter can grant at once
+     * @throws IllegalArgumentException if the number of permits is out of range
+     * @throws InterruptedException if the thread gets interrupted while waiting
+     */
+    void acquire(int permits) throws InterruptedException;
+
+    /**
+     * Gets the number of permits that can be acquired now without waiting. There is no guarantee that they can still be acquired by a subsequent call,
+     * since other threads may have acquired permits in the meantime.
+     *
+     * @return the number of permits available now
+     */
+    long getAvailablePermits();
+
+    /**
+     * Acquires a permit if it is available now, without waiting.
+     *
+     * @return <strong>true</strong> if the permit was acquired; <strong>false</strong> otherwise
+     */
+    default boolean tryAcquire() {
+        return tryAcquire(1);
+    }
+
+    /**
+     * Acquires a number of permits if they are all available now, without waiting. No permit is acquired otherwise.
+     *
+     * @param permits the number of permits, between 1 and the maximum number of permits this rate limiter can grant at once
+     * @return <strong>true</strong> if the permits were acquired; <strong>false</strong> otherwise
+     * @throws IllegalArgumentException if the number of permits is out of range
+     */
+    boolean tryAcquire(int permits);
+
+    /**
+     * Acquires a number of permits, waiting at most for a timeout until they are granted. This method returns <strong>false</strong> without waiting if the
+     * permits cannot be granted before the timeout.
+     *
+     * @param permits the number of permits, between 1 and the maximum number of permits this rate limiter can grant at once
+     * @param timeout the maximum time to wait
+     * @param unit the unit of the timeout
+     * @return <strong>true</strong> if the permits were acquired; <strong>false</strong> otherwise
+     * @throws IllegalArgumentException if the number of permits is out of range
+     * @throws InterruptedException if the thread gets interrupted while waiting
+     */
+    boolean tryAcquire(int permits, long timeout, TimeUnit unit) throws InterruptedException;
+}
@@ -0,0 +1,344 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.lang3.concurrent;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.apache.commons.lang3.Validate;
+import org.apache.commons.lang3.concurrent.SlidingWindowCounter.Snapshot;
+import org.apache.commons.lang3.concurrent.SlidingWindowCounter.Window;
+
+/**
+ * A circuit breaker counting events in a sliding window, an alternative to {@link EventCountCircuitBreaker} for high event rates from many threads.
+ *
+ * <p>
+ * This circuit breaker has the same thresholds, intervals, state transitions and change notifications as {@link EventCountCircuitBreaker}: it opens
+ * when more events than the opening threshold are received in the opening interval, and closes again when fewer events than the closing threshold are
+ * received in the closing interval. It differs in how events are counted:
+ * </p>
+ * <ul>
+ * <li>The intervals slide with time instead of following each other: the events counted are always those of the last interval, so that a burst of events
+ * across the end of an interval is not split between two counts. The intervals are divided in a ring of buckets, each counting the events of a slice
+ * of time, so the sliding window moves by a bucket at a time, and covers between the interval minus a bucket and the interval.</li>
+ * <li>The events of a bucket are counted with a {@link LongAdder}, which spreads concurrent increments over several cells instead of contending on a
+ * single reference, and does not allocate once its cells exist.</li>
+ * <li>The events of the past buckets of the window are summed once, when a bucket starts, so that a check only sums the events of the current bucket.
+ * An event counted in a past bucket after its bucket ended, by a thread that read the time just before, is not counted until the next bucket.</li>
+ * </ul>
+ * <p>
+ * After a state transition, whether automatic or by {@link #open()} or {@link #close()}, only the events received since are counted, and an open
+ * circuit breaker only closes once a whole closing interval has passed.
+ * </p>
+ * <pre>
+ * SlidingWindowCircuitBreaker breaker = new SlidingWindowCircuitBreaker(1000, 1, TimeUnit.MINUTES, 800);
+ * ...
+ * if (breaker.incrementAndCheckState()) {
+ *     // actually handle this request
+ * }
+ * </pre>
+ * <p>
+ * Like {@link EventCountCircuitBreaker}, this class is thread-safe and non-blocking, and concurrent state transitions may race: the count of an event
+ * received at the time of a transition may be lost.
+ * </p>
+ *
+ * @see EventCountCircuitBreaker
+ * @since 3.18.0
+ */
+public class SlidingWindowCircuitBreaker extends AbstractCircuitBreaker<Integer> {
+
+    /** The default number of buckets. */
+    public static final int DEFAULT_BUCKETS = 10;
+
+    /** The index of the opening interval in the counter. */
+    private static final int OPENING = 0;
+
+    /** The index of the closing interval in the counter. */
+    private static final int CLOSING = 1;
+
+    /** The threshold for opening the circuit breaker. */
+    private final int openingThreshold;
+
+    /** The time interval for opening the circuit breaker. */
+    private final long openingInterval;
+
+    /** The threshold for closing the circuit breaker. */
+    private final int closingThreshold;
+
+    /** The time interval for closing the circuit breaker. */
+    private final long closingInterval;
+
+    /** The events of the sliding window. */
+    private final SlidingWindowCounter eventCounter;
+
+    /** The numbering of the buckets since the last state transition. */
+    private volatile Window window;
+
+    /**
+     * Creates a new instance which uses the same parameters for opening and closing checks.
+     *
+     * @param threshold the threshold for changing the status of the circuit breaker; if the number of events received in a check interval is greater than
+     * this value, the circuit breaker is opened; if it is lower than this value, it is closed again
+     * @param checkInterval the check interval for opening or closing the circuit breaker
+     * @param checkUnit the {@link TimeUnit} defining the check interval
+     * @throws IllegalArgumentException if the check interval is not positive
+     */
+    public SlidingWindowCircuitBreaker(final int threshold, final long checkInterval, final TimeUnit checkUnit) {
+        this(threshold, checkInterval, checkUnit, threshold);
+    }
+
+    /**
+     * Creates a new instance with the same interval for opening and closing checks.
+     *
+     * @param openingThreshold the threshold for opening the circuit breaker; if this number of events is received in the time span determined by the check
+     * interval, the circuit breaker is opened
+     * @param checkInterval the check interval for opening or closing the circuit breaker
+     * @param checkUnit the {@link TimeUnit} defining the check interval
+     * @param closingThreshold the threshold for closing the circuit breaker; if the number of events received in the time span determined by the check
+     * interval goes below this threshold, the circuit breaker is closed again
+     * @throws IllegalArgumentException if the check interval is not positive
+     */
+    public SlidingWindowCircuitBreaker(final int openingThreshold, final long checkInterval, final TimeUnit checkUnit, final int closingThreshold) {
+        this(openingThreshold, checkInterval, checkUnit, closingThreshold, checkInterval, checkUnit);
+    }
+
+    /**
+     * Creates a new instance with the default number of buckets.
+     *
+     * @param openingThreshold the threshold for opening the circuit breaker; if this number of events is received in the time span determined by the
+     * opening interval, the circuit breaker is opened
+     * @param openingInterval the interval for opening the circuit breaker
+     * @param openingUnit the {@link TimeUnit} defining the opening interval
+     * @param closingThreshold the threshold for closing the circuit breaker; if the number of events received in the time span determined by the closing
+     * interval goes below this threshold, the circuit breaker is closed again
+     * @param closingInterval the interval for closing the circuit breaker
+     * @param closingUnit the {@link TimeUnit} defining the closing interval
+     * @throws IllegalArgumentException if an interval is not positive
+     */
+    public SlidingWindowCircuitBreaker(final int openingThreshold, final long openingInterval, final TimeUnit openingUnit, final int closingThreshold,
+            final long closingInterval, final TimeUnit closingUnit) {
+        this(openingThreshold, openingInterval, openingUnit, closingThreshold, closingInterval, closingUnit, DEFAULT_BUCKETS);
+    }
+
+    /**
+     * Creates a new instance and initializes all properties for opening and closing it.
+     *
+     * @param openingThreshold the threshold for opening the circuit breaker; if this number of events is received in the time span determined by the
+     * opening interval, the circuit breaker is opened
+     * @param openingInterval the interval for opening the circuit breaker
+     * @param openingUnit the {@link TimeUnit} defining the opening interval
+     * @param closingThreshold the threshold for closing the circuit breaker; if the number of events received in the time span determined by the closing
+     * interval goes below this threshold, the circuit breaker is closed again
+     * @param closingInterval the interval for closing the circuit breaker
+     * @param closingUnit the {@link TimeUnit} defining the closing interval
+     * @param buckets the number of buckets dividing the longer interval, positive; more buckets make the window slide more smoothly, but are summed more often
+     * @throws IllegalArgumentException if an interval or the number of buckets is not positive
+     */
+    public SlidingWindowCircuitBreaker(final int openingThreshold, final long openingInterval, final TimeUnit openingUnit, final int closingThreshold,
+            final long closingInterval, final TimeUnit closingUnit, final int buckets) {
+        Validate.isTrue(openingInterval > 0, "openingInterval must be positive: %d", openingInterval);
+        Validate.isTrue(closingInterval > 0, "closingInterval must be positive: %d", closingInterval);
+        Validate.isTrue(buckets > 0, "buckets must be positive: %d", buckets);
+        this.openingThreshold = openingThreshold;
+        this.openingInterval = openingUnit.toNanos(openingInterval);
+        this.closingThreshold = closingThreshold;
+        this.closingInterval = closingUnit.toNanos(closingInterval);
+        final long longerInterval = Math.max(this.openingInterval, this.closingInterval);
+        final long bucketNanos = (longerInterval + buckets - 1) / buckets;
+        final int openingBuckets = (int) ((this.openingInterval + bucketNanos - 1) / bucketNanos);
+        final int closingBuckets = (int) ((this.closingInterval + bucketNanos - 1) / bucketNanos);
+        eventCounter = new SlidingWindowCounter(bucketNanos, buckets, 1, openingBuckets, closingBuckets);
+        window = eventCounter.firstWindow(nanoTime());
+    }
+
+    /**
+     * Changes the state of this circuit breaker and starts a new window.
+     *
+     * @param newState the new state to be set
+     */
+    private void changeStateAndStartNewWindow(final State newState) {
+        changeState(newState);
+        startNewWindow();
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * This implementation checks the count of the events of the sliding window against the threshold of the current state. This may cause a state change
+     * of this circuit breaker.
+     * </p>
+     */
+    @Override
+    public boolean checkState() {
+        return performStateCheck(0);
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * A new window is started. If too many events are received in the opening interval, the circuit breaker changes again to state open. If this circuit
+     * breaker is already closed, this method has no effect, except that a new window is started.
+     * </p>
+     */
+    @Override
+    public void close() {
+        super.close();
+        startNewWindow();
+    }
+
+    /**
+     * Counts the events of the last buckets of the window.
+     *
+     * @param currentSnapshot the current bucket and the events of the past buckets
+     * @param opening whether to count the buckets of the opening interval or of the closing interval
+     * @return the number of events
+     */
+    private long count(final Snapshot currentSnapshot, final boolean opening) {
+        return eventCounter.count(currentSnapshot, opening ? OPENING : CLOSING, 0);
+    }
+
+    /**
+     * Returns the interval (in nanoseconds) for checking for the closing threshold.
+     *
+     * @return the closing check interval
+     */
+    public long getClosingInterval() {
+        return closingInterval;
+    }
+
+    /**
+     * Returns the threshold value for closing the circuit breaker.
+     *
+     * @return the closing threshold
+     */
+    public int getClosingThreshold() {
+        return closingThreshold;
+    }
+
+    /**
+     * Returns the number of events received in the sliding window of the current state, the opening interval if this circuit breaker is closed, the
+     * closing interval if it is open.
+     *
+     * @return the number of events of the sliding window
+     */
+    public long getEventCount() {
+        return count(eventCounter.snapshot(window, nanoTime()), !isOpen());
+    }
+
+    /**
+     * Returns the interval (in nanoseconds) for checking for the opening threshold.
+     *
+     * @return the opening check interval
+     */
+    public long getOpeningInterval() {
+        return openingInterval;
+    }
+
+    /**
+     * Returns the threshold value for opening the circuit breaker.
+     *
+     * @return the opening threshold
+     */
+    public int getOpeningThreshold() {
+        return openingThreshold;
+    }
+
+    /**
+     * Increments the monitored value by <strong>1</strong> and performs a check of the current state of this circuit breaker. This method works like
+     * {@link #checkState()}, but the monitored value is incremented before the state check is performed.
+     *
+     * @return <strong>true</strong> if the circuit breaker is now closed; <strong>false</strong> otherwise
+     */
+    public boolean incrementAndCheckState() {
+        return performStateCheck(1);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean incrementAndCheckState(final Integer increment) {
+        return performStateCheck(increment);
+    }
+
+    /**
+     * Tests whether the events of the sliding window call for a transition out of a state.
+     *
+     * @param currentState the current state
+     * @param currentSnapshot the current bucket and the events of the past buckets
+     * @param now the current time, in nanoseconds
+     * @return a flag whether a state transition should be performed
+     */
+    private boolean isStateTransition(final State currentState, final Snapshot currentSnapshot, final long now) {
+        if (isOpen(currentState)) {
+            return now - currentSnapshot.getWindow().getStart() >= closingInterval && count(currentSnapshot, false) < closingThreshold;
+        }
+        return count(currentSnapshot, true) > openingThreshold;
+    }
+
+    /**
+     * Returns the current time in nanoseconds, overridden by tests.
+     *
+     * @return the current time in nanoseconds
+     */
+    long nanoTime() {
+        return System.nanoTime();
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * This circuit breaker may close itself again if the number of events received during a closing interval goes below the closing threshold. If this
+     * circuit breaker is already open, this method has no effect, except that a new window is started.
+     * </p>
+     */
+    @Override
+    public void open() {
+        super.open();
+        startNewWindow();
+    }
+
+    /**
+     * Actually checks the state of this circuit breaker and executes a state transition if necessary.
+     *
+     * @param increment the increment for the event count
+     * @return a flag whether the circuit breaker is now closed
+     */
+    private boolean performStateCheck(final int increment) {
+        final long now = nanoTime();
+        final Window currentWindow = window;
+        final Snapshot currentSnapshot = eventCounter.snapshot(currentWindow, now);
+        if (increment != 0 && eventCounter.prepare(currentSnapshot)) {
+            eventCounter.add(currentSnapshot, 0, increment);
+        }
+        State currentState = state.get();
+        // This might cause a race condition if other changes happen in between!
+        // Refer to the header comment!
+        if (isStateTransition(currentState, currentSnapshot, now)) {
+            currentState = currentState.oppositeState();
+            changeStateAndStartNewWindow(currentState);
+        }
+        return !isOpen(currentState);
+    }
+
+    /**
+     * Starts a new window, only counting the events received from now on.
+     */
+    private void startNewWindow() {
+        window = eventCounter.nextWindow(window, nanoTime());
+    }
+}
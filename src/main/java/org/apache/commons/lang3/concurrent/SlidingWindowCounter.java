@@ -0,0 +1,300 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.lang3.concurrent;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Counters over a sliding window of time, for the circuit breakers of this package.
+ * <p>
+ * The window is divided in a ring of buckets, each with the same number of {@link LongAdder} counters, so that concurrent increments are spread over
+ * several cells instead of contending on a single reference. The counts of one or more intervals, each ending with the current bucket, can be read. The
+ * counts of the past buckets of the intervals are summed once, when a bucket starts, into a {@link Snapshot}, so that a read only sums the counters of
+ * the current bucket. An increment of a past bucket after its bucket ended, by a thread that read the time just before, is not counted until the next
+ * bucket.
+ * </p>
+ * <p>
+ * The buckets are numbered from the start of a {@link Window}. A new window only counts from its start on, its buckets are numbered after all the
+ * buckets counted so far, so that the counters of the previous windows are reset before being counted again.
+ * </p>
+ * <p>
+ * This class is thread-safe and non-blocking.
+ * </p>
+ */
+final class SlidingWindowCounter {
+
+    /**
+     * The numbering of the buckets from the start of a window.
+     */
+    static final class Window {
+
+        /** The start time of the window, in nanoseconds. */
+        private final long start;
+
+        /** The number of the first bucket of the window, greater than the numbers of all the buckets before it. */
+        private final long firstBucket;
+
+        private Window(final long start, final long firstBucket) {
+            this.start = start;
+            this.firstBucket = firstBucket;
+        }
+
+        /**
+         * Gets the start time of the window.
+         *
+         * @return the start time of the window, in nanoseconds
+         */
+        long getStart() {
+            return start;
+        }
+    }
+
+    /**
+     * The current bucket and the counts of the past buckets of the intervals, summed when the bucket starts.
+     */
+    static final class Snapshot {
+
+        /** The numbering of the buckets. */
+        private final Window window;
+
+        /** The number of the current bucket. */
+        private final long bucket;
+
+        /** The start time of the current bucket. */
+        private final long start;
+
+        /** The slot of the ring counting the current bucket. */
+        private final int slot;
+
+        /** The counts of the past buckets, for each interval and counter. */
+        private final long[] pastCounts;
+
+        private Snapshot(final Window window, final long bucket, final long start, final int slot, final long[] pastCounts) {
+            this.window = window;
+            this.bucket = bucket;
+            this.start = start;
+            this.slot = slot;
+            this.pastCounts = pastCounts;
+        }
+
+        /**
+         * Gets the numbering of the buckets.
+         *
+         * @return the window of the snapshot
+         */
+        Window getWindow() {
+            return window;
+        }
+    }
+
+    /** The bucket number marking a bucket being reset. */
+    private static final long RESETTING = Long.MIN_VALUE;
+
+    /**
+     * Tests whether a snapshot is for a later bucket than another, so that a thread which read the time before another does not replace its snapshot.
+     *
+     * @param snapshot the new snapshot
+     * @param other the current snapshot, may be null
+     * @return whether the snapshot is newer
+     */
+    private static boolean isNewer(final Snapshot snapshot, final Snapshot other) {
+        if (other == null) {
+            return true;
+        }
+        if (snapshot.window == other.window) {
+            return snapshot.bucket > other.bucket;
+        }
+        // the buckets of a new window are numbered after those of the previous ones
+        return snapshot.window.firstBucket > other.window.firstBucket;
+    }
+
+    /** The duration of a bucket, in nanoseconds. */
+    private final long bucketNanos;
+
+    /** The number of counters of each bucket. */
+    private final int counters;
+
+    /** The number of buckets of each interval, including the current bucket. */
+    private final int[] intervalBuckets;
+
+    /** The number of the bucket counted by each slot of the ring. */
+    private final AtomicLongArray bucketNumbers;
+
+    /** The counters of each slot of the ring. */
+    private final LongAdder[] counts;
+
+    /** The current bucket and the counts of the past buckets, {@code null} until the first snapshot. */
+    private volatile Snapshot snapshot;
+
+    /**
+     * Creates a new instance.
+     *
+     * @param bucketNanos the duration of a bucket, in nanoseconds, positive
+     * @param buckets the number of buckets of the ring, positive
+     * @param counters the number of counters of each bucket, positive
+     * @param intervalBuckets the number of buckets of each interval, including the current bucket, at most {@code buckets}
+     */
+    SlidingWindowCounter(final long bucketNanos, final int buckets, final int counters, final int... intervalBuckets) {
+        this.bucketNanos = bucketNanos;
+        this.counters = counters;
+        this.intervalBuckets = intervalBuckets.clone();
+        bucketNumbers = new AtomicLongArray(buckets);
+        counts = new LongAdder[buckets * counters];
+        for (int i = 0; i < buckets; i++) {
+            bucketNumbers.set(i, -1);
+        }
+        for (int i = 0; i < counts.length; i++) {
+            counts[i] = new LongAdder();
+        }
+    }
+
+    /**
+     * Adds to a counter of the current bucket of a snapshot, after {@link #prepare(Snapshot)} returned true.
+     *
+     * @param currentSnapshot the current bucket
+     * @param index the index of the counter
+     * @param increment the increment
+     */
+    void add(final Snapshot currentSnapshot, final int index, final long increment) {
+        counts[currentSnapshot.slot * counters + index].add(increment);
+    }
+
+    /**
+     * Gets the number of a bucket.
+     *
+     * @param window the numbering of the buckets
+     * @param now the current time, in nanoseconds
+     * @return the number of the bucket of the time
+     */
+    private long bucket(final Window window, final long now) {
+        return window.firstBucket + Math.floorDiv(now - window.start, bucketNanos);
+    }
+
+    /**
+     * Counts an interval.
+     *
+     * @param currentSnapshot the current bucket and the counts of the past buckets
+     * @param interval the index of the interval
+     * @param index the index of the counter
+     * @return the count of the interval
+     */
+    long count(final Snapshot currentSnapshot, final int interval, final int index) {
+        final long count = currentSnapshot.pastCounts[interval * counters + index];
+        final int slot = currentSnapshot.slot;
+        return bucketNumbers.get(slot) == currentSnapshot.bucket ? count + counts[slot * counters + index].sum() : count;
+    }
+
+    /**
+     * Starts the first window.
+     *
+     * @param now the current time, in nanoseconds
+     * @return the first window
+     */
+    Window firstWindow(final long now) {
+        // System.nanoTime() has an arbitrary origin and may be negative
+        return new Window(now, 0);
+    }
+
+    /**
+     * Starts a new window, only counting from now on.
+     *
+     * @param window the current window
+     * @param now the current time, in nanoseconds
+     * @return the new window
+     */
+    Window nextWindow(final Window window, final long now) {
+        // number the new buckets after all the buckets counted so far
+        return new Window(now, Math.max(window.firstBucket, bucket(window, now)) + 1);
+    }
+
+    /**
+     * Prepares the slot of the ring of the current bucket of a snapshot for {@link #add(Snapshot, int, long)}, resetting it if it still counts an older
+     * bucket.
+     *
+     * @param currentSnapshot the current bucket
+     * @return whether the bucket can be counted, false if it is before the start of its window or if its slot already counts a newer bucket
+     */
+    boolean prepare(final Snapshot currentSnapshot) {
+        final long bucket = currentSnapshot.bucket;
+        if (bucket < currentSnapshot.window.firstBucket) {
+            return false;
+        }
+        final int slot = currentSnapshot.slot;
+        while (true) {
+            final long slotBucket = bucketNumbers.get(slot);
+            if (slotBucket == bucket) {
+                return true;
+            }
+            if (slotBucket > bucket) {
+                return false;
+            }
+            if (slotBucket != RESETTING && bucketNumbers.compareAndSet(slot, slotBucket, RESETTING)) {
+                for (int i = slot * counters; i < (slot + 1) * counters; i++) {
+                    counts[i].reset();
+                }
+                bucketNumbers.set(slot, bucket);
+            }
+        }
+    }
+
+    /**
+     * Gets the snapshot of the bucket of a time, taking a new one when the bucket of the current snapshot has ended.
+     *
+     * @param window the numbering of the buckets
+     * @param now the current time, in nanoseconds
+     * @return the current bucket and the counts of the past buckets
+     */
+    Snapshot snapshot(final Window window, final long now) {
+        final Snapshot currentSnapshot = snapshot;
+        if (currentSnapshot != null && currentSnapshot.window == window && now - currentSnapshot.start >= 0 && now - currentSnapshot.start < bucketNanos) {
+            return currentSnapshot;
+        }
+        final long bucket = bucket(window, now);
+        final Snapshot newSnapshot = new Snapshot(window, bucket, window.start + (bucket - window.firstBucket) * bucketNanos,
+                (int) Math.floorMod(bucket, (long) bucketNumbers.length()), sum(window, bucket));
+        if (isNewer(newSnapshot, snapshot)) {
+            snapshot = newSnapshot;
+        }
+        return newSnapshot;
+    }
+
+    /**
+     * Sums the counts of the past buckets of the intervals.
+     *
+     * @param window the numbering of the buckets
+     * @param bucket the number of the current bucket
+     * @return the counts of the past buckets, for each interval and counter
+     */
+    private long[] sum(final Window window, final long bucket) {
+        final long[] pastCounts = new long[intervalBuckets.length * counters];
+        for (int slot = 0; slot < bucketNumbers.length(); slot++) {
+            final long slotBucket = bucketNumbers.get(slot);
+            if (slotBucket < window.firstBucket || slotBucket >= bucket) {
+                continue;
+            }
+            for (int interval = 0; interval < intervalBuckets.length; interval++) {
+                if (slotBucket > bucket - intervalBuckets[interval]) {
+                    for (int index = 0; index < counters; index++) {
+                        pastCounts[interval * counters + index] += counts[slot * counters + index].sum();
+                    }
+                }
+            }
+        }
+        return pastCounts;
+    }
+}
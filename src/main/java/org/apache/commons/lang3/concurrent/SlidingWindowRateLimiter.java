@@ -0,0 +1,159 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.lang3.concurrent;
+
+import java.util.concurrent.TimeUnit;
+
+import org.apache.commons.lang3.Validate;
+
+/**
+ * A {@link RateLimiter} granting a maximum number of permits in any window of a given duration, with the <em>sliding window counter</em> algorithm.
+ *
+ * <p>
+ * Time is divided in consecutive windows, and the permits acquired in the current and the previous window are counted. The number of permits acquired
+ * in the sliding window ending now is estimated from these counts, assuming the permits of the previous window were acquired evenly over it: a permit is
+ * granted if the count of the current window, plus the count of the previous window weighted by the part of it still in the sliding window, does not
+ * exceed the limit. Unlike a {@link TimedSemaphore}, this does not let twice the limit through around the end of a window.
+ * </p>
+ * <pre>
+ * // at most 1000 calls per minute
+ * RateLimiter limiter = new SlidingWindowRateLimiter(1000, 1, TimeUnit.MINUTES);
+ * </pre>
+ * <p>
+ * The permits are computed lazily from {@link System#nanoTime()}, without a timer thread, and an instance only takes a few dozen bytes. This class is
+ * thread-safe; its state is guarded by the instance itself.
+ * </p>
+ *
+ * @since 3.18.0
+ */
+public class SlidingWindowRateLimiter extends AbstractRateLimiter {
+
+    /** The maximum number of permits in a window. */
+    private final int limit;
+
+    /** The duration of a window, in nanoseconds. */
+    private final long windowNanos;
+
+    /** The index of the current window, since the origin of {@link System#nanoTime()}. */
+    private long window = Long.MIN_VALUE; // @GuardedBy("this")
+
+    /** The number of permits acquired in the previous window. */
+    private int previousCount; // @GuardedBy("this")
+
+    /** The number of permits acquired in the current window. */
+    private int currentCount; // @GuardedBy("this")
+
+    /**
+     * Constructs a new instance.
+     *
+     * @param limit the maximum number of permits in a window, positive
+     * @param window the duration of a window, positive
+     * @param unit the unit of the duration of a window, not null
+     * @throws IllegalArgumentException if an argument is not positive
+     * @throws NullPointerException if {@code unit} is null
+     */
+    public SlidingWindowRateLimiter(final int limit, final long window, final TimeUnit unit) {
+        super(limit);
+        Validate.isTrue(limit > 0, "limit must be positive: %d", limit);
+        Validate.isTrue(window > 0, "window must be positive: %d", window);
+        this.limit = limit;
+        this.windowNanos = unit.toNanos(window);
+    }
+
+    /**
+     * Moves the counts to the window of a time.
+     *
+     * @param now the current time, in nanoseconds
+     * @return the time elapsed in the current window, in nanoseconds
+     */
+    private long advance(final long now) {
+        final long nowWindow = Math.floorDiv(now, windowNanos);
+        if (nowWindow != window) {
+            previousCount = nowWindow == window + 1 ? currentCount : 0;
+            currentCount = 0;
+            window = nowWindow;
+        }
+        return Math.floorMod(now, windowNanos);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public synchronized long getAvailablePermits() {
+        final long elapsed = advance(nanoTime());
+        return Math.max(0, (long) Math.floor(limit - currentCount - weight(previousCount, elapsed)));
+    }
+
+    /**
+     * Gets the maximum number of permits in a window.
+     *
+     * @return the limit
+     */
+    public int getLimit() {
+        return limit;
+    }
+
+    /**
+     * Gets the duration of a window, in nanoseconds.
+     *
+     * @return the duration of a window, in nanoseconds
+     */
+    public long getWindowNanos() {
+        return windowNanos;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    protected synchronized long tryAcquireNanos(final int permits, final long now) {
+        final long elapsed = advance(now);
+        if (currentCount + permits + weight(previousCount, elapsed) <= limit) {
+            currentCount += permits;
+            return 0;
+        }
+        if (currentCount + permits <= limit) {
+            // wait for the previous window to slide out enough
+            return Math.max(1, waitNanos(previousCount, limit - currentCount - permits) - elapsed);
+        }
+        // wait for the next window, where the current window is the previous one
+        return windowNanos - elapsed + waitNanos(currentCount, limit - permits);
+    }
+
+    /**
+     * Computes the time elapsed in a window after which the weighted count of the previous window drops to a number of permits.
+     *
+     * @param count the count of the previous window, positive
+     * @param permits the number of permits, not negative
+     * @return the time elapsed in the window, in nanoseconds
+     */
+    private long waitNanos(final int count, final int permits) {
+        return windowNanos - (long) Math.floor((double) permits * windowNanos / count);
+    }
+
+    /**
+     * Computes the weighted count of the previous window.
+     *
+     * @param count the count of the previous window
+     * @param elapsed the time elapsed in the current window, in nanoseconds
+     * @return the part of the count in the sliding window ending now
+     */
+    private double weight(final int count, final long elapsed) {
+        return (double) count * (windowNanos - elapsed) / windowNanos;
+    }
+}
@@ -0,0 +1,130 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.lang3.concurrent;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLongFieldUpdater;
+
+import org.apache.commons.lang3.Validate;
+
+/**
+ * A {@link RateLimiter} implementing the <em>token bucket</em> algorithm.
+ *
+ * <p>
+ * The bucket holds up to a capacity of permits, and is refilled at a constant rate. Permits are acquired from the bucket as long as it holds enough of
+ * them, so bursts up to the capacity are allowed after quiet times, while the long-term rate never exceeds the refill rate. A new bucket is full.
+ * </p>
+ * <pre>
+ * // bursts of up to 100 calls, 50 calls per second on average
+ * RateLimiter limiter = new TokenBucketRateLimiter(100, 50, 1, TimeUnit.SECONDS);
+ * ...
+ * if (limiter.tryAcquire()) {
+ *     // handle the call
+ * } else {
+ *     // reject the call
+ * }
+ * </pre>
+ * <p>
+ * The permits are computed lazily from {@link System#nanoTime()}, without a timer thread. The state of the bucket is a single {@code long}, the time at
+ * which the bucket was empty, updated with compare-and-set, so that an instance is thread-safe, lock-free, and only takes a few dozen bytes.
+ * </p>
+ *
+ * @since 3.18.0
+ */
+public class TokenBucketRateLimiter extends AbstractRateLimiter {
+
+    /** The updater of {@link #emptyTime}, to save an atomic object per instance. */
+    private static final AtomicLongFieldUpdater<TokenBucketRateLimiter> EMPTY_TIME = AtomicLongFieldUpdater.newUpdater(TokenBucketRateLimiter.class,
+            "emptyTime");
+
+    /** The time to refill one permit, in nanoseconds. */
+    private final long nanosPerPermit;
+
+    /** The time to refill the whole bucket, in nanoseconds. */
+    private final long nanosPerBucket;
+
+    /**
+     * The time at which the bucket was empty, in nanoseconds, the bucket holding a permit for each {@link #nanosPerPermit} since, up to its capacity.
+     * {@link Long#MIN_VALUE} for a new, full bucket.
+     */
+    private volatile long emptyTime = Long.MIN_VALUE;
+
+    /**
+     * Constructs a new instance.
+     *
+     * @param capacity the maximum number of permits in the bucket, positive
+     * @param refillPermits the number of permits refilled in each period, positive
+     * @param period the refill period, positive
+     * @param unit the unit of the refill period, not null
+     * @throws IllegalArgumentException if an argument is not positive, or the refill rate is more than a permit per nanosecond
+     * @throws NullPointerException if {@code unit} is null
+     */
+    public TokenBucketRateLimiter(final int capacity, final int refillPermits, final long period, final TimeUnit unit) {
+        super(capacity);
+        Validate.isTrue(capacity > 0, "capacity must be positive: %d", capacity);
+        Validate.isTrue(refillPermits > 0, "refillPermits must be positive: %d", refillPermits);
+        Validate.isTrue(period > 0, "period must be positive: %d", period);
+        nanosPerPermit = unit.toNanos(period) / refillPermits;
+        Validate.isTrue(nanosPerPermit > 0, "The refill rate must be at most a permit per nanosecond");
+        nanosPerBucket = Math.multiplyExact(nanosPerPermit, capacity);
+    }
+
+    /**
+     * Gets the maximum number of permits in the bucket.
+     *
+     * @return the capacity
+     */
+    public int getCapacity() {
+        return (int) getMaximumPermits();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public long getAvailablePermits() {
+        final long now = nanoTime();
+        return (now - Math.max(emptyTime, now - nanosPerBucket)) / nanosPerPermit;
+    }
+
+    /**
+     * Gets the time to refill one permit, in nanoseconds.
+     *
+     * @return the time to refill one permit, in nanoseconds
+     */
+    public long getNanosPerPermit() {
+        return nanosPerPermit;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    protected long tryAcquireNanos(final int permits, final long now) {
+        while (true) {
+            final long current = emptyTime;
+            // a bucket refilled for longer than its capacity is full
+            final long next = Math.max(current, now - nanosPerBucket) + permits * nanosPerPermit;
+            if (next - now > 0) {
+                return next - now;
+            }
+            if (EMPTY_TIME.compareAndSet(this, current, next)) {
+                return 0;
+            }
+        }
+    }
+}
@@ -0,0 +1,312 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.lang3.text;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.function.ToLongBiFunction;
+
+import org.apache.commons.lang3.Validate;
+import org.apache.commons.lang3.util.EvictingCache;
+
+/**
+ * A {@link StrLookup} caching the values of another, for lookups that are expensive to call for every variable reference, like environment or remote
+ * configuration lookups.
+ * <p>
+ * Each value is cached for a time to live from the time it was looked up. The time to live can be the same for all the keys, with a separate negative
+ * time to live for unknown keys, for which the lookup returns {@code null}, or computed for each key and value by a function. A time to live of zero
+ * looks the key up every time.
+ * </p>
+ * <p>
+ * Cached values are read without locking from an {@link EvictingCache}, so that keys used for every substitution are not pushed out by a flood of
+ * one-off keys when the cache holds more than its maximum number of keys.
+ * </p>
+ * <p>
+ * The variables of a {@link StrSubstitutor.Template template} can be looked up ahead of time with {@link #prefetch(StrSubstitutor.Template)}, which
+ * looks up all the keys missing from the cache with a single call to {@link #lookupAll(Set)}; subclasses can override it to fetch them in one round trip.
+ * </p>
+ * <pre>
+ * CachingStrLookup&lt;String&gt; lookup = new CachingStrLookup&lt;&gt;(StrLookup.systemPropertiesLookup(), 1, 0, TimeUnit.MINUTES, 1000);
+ * StrSubstitutor substitutor = new StrSubstitutor(lookup);
+ * </pre>
+ * <p>
+ * This class is thread-safe. Values are looked up without holding a lock, so concurrent lookups of the same missing key may all call the underlying
+ * lookup. A {@code null} key is never cached.
+ * </p>
+ *
+ * @param <V> Unused.
+ * @since 3.18.0
+ * @deprecated Deprecated, like the rest of this package; use Apache Commons Text
+ * <a href="https://commons.apache.org/proper/commons-text/javadocs/api-release/org/apache/commons/text/lookup/StringLookupFactory.html">
+ * StringLookupFactory</a>.
+ */
+@Deprecated
+public class CachingStrLookup<V> extends StrLookup<V> {
+
+    /**
+     * A cached value and its expiry.
+     */
+    private static final class CachedValue {
+
+        /** The value, null for an unknown key. */
+        private final String value;
+
+        /** The time the value was looked up, in nanoseconds. */
+        private final long time;
+
+        /** The time to live of the value, in nanoseconds. */
+        private final long timeToLive;
+
+        CachedValue(final String value, final long time, final long timeToLive) {
+            this.value = value;
+            this.time = time;
+            this.timeToLive = timeToLive;
+        }
+    }
+
+    /**
+     * Creates the time to live function of the values and unknown keys.
+     *
+     * @param timeToLive  the time to live of the values, not negative
+     * @param negativeTimeToLive  the time to live of the unknown keys, not negative
+     * @return the time to live function
+     * @throws IllegalArgumentException if a time to live is negative
+     */
+    private static ToLongBiFunction<String, String> fixedTimeToLive(final long timeToLive, final long negativeTimeToLive) {
+        Validate.isTrue(timeToLive >= 0, "timeToLive must not be negative: %d", timeToLive);
+        Validate.isTrue(negativeTimeToLive >= 0, "negativeTimeToLive must not be negative: %d", negativeTimeToLive);
+        return (key, value) -> value == null ? negativeTimeToLive : timeToLive;
+    }
+
+    /** The cached lookup. */
+    private final StrLookup<V> lookup;
+
+    /** The time to live of a key and its value, in {@link #unit}. */
+    private final ToLongBiFunction<String, String> timeToLive;
+
+    /** The unit of {@link #timeToLive}. */
+    private final TimeUnit unit;
+
+    /** The cached values. */
+    private final EvictingCache<String, CachedValue> cache;
+
+    /**
+     * Creates a new instance caching the values and unknown keys of a lookup for the same time.
+     *
+     * @param lookup  the lookup to cache, not null
+     * @param timeToLive  the time to live of the values and unknown keys, not negative
+     * @param unit  the unit of the time to live, not null
+     * @param maximumSize  the maximum number of cached keys, positive
+     * @throws NullPointerException if {@code lookup} or {@code unit} is null
+     * @throws IllegalArgumentException if the time to live is negative or the maximum size is not positive
+     */
+    public CachingStrLookup(final StrLookup<V> lookup, final long timeToLive, final TimeUnit unit, final int maximumSize) {
+        this(lookup, timeToLive, timeToLive, unit, maximumSize);
+    }
+
+    /**
+     * Creates a new instance caching the values and unknown keys of a lookup.
+     *
+     * @param lookup  the lookup to cache, not null
+     * @param timeToLive  the time to live of the values, not negative
+     * @param negativeTimeToLive  the time to live of the unknown keys, not negative, zero to look them up every time
+     * @param unit  the unit of the times to live, not null
+     * @param maximumSize  the maximum number of cached keys, positive
+     * @throws NullPointerException if {@code lookup} or {@code unit} is null
+     * @throws IllegalArgumentException if a time to live is negative or the maximum size is not positive
+     */
+    public CachingStrLookup(final StrLookup<V> lookup, final long timeToLive, final long negativeTimeToLive, final TimeUnit unit,
+            final int maximumSize) {
+        this(lookup, fixedTimeToLive(timeToLive, negativeTimeToLive), unit, maximumSize);
+    }
+
+    /**
+     * Creates a new instance caching the values and unknown keys of a lookup for a time computed for each key.
+     * <p>
+     * For example, to cache the secrets for a minute and the rest for an hour:
+     * </p>
+     * <pre>
+     * new CachingStrLookup&lt;&gt;(lookup, (key, value) -&gt; key.startsWith("secret.") ? 1 : 60, TimeUnit.MINUTES, 1000);
+     * </pre>
+     *
+     * @param lookup  the lookup to cache, not null
+     * @param timeToLive  the function computing the time to live of a key and its value, null for an unknown key; the time to live must not be
+     *                    negative, zero to look the key up every time
+     * @param unit  the unit of the times to live, not null
+     * @param maximumSize  the maximum number of cached keys, positive
+     * @throws NullPointerException if {@code lookup}, {@code timeToLive} or {@code unit} is null
+     * @throws IllegalArgumentException if the maximum size is not positive
+     */
+    public CachingStrLookup(final StrLookup<V> lookup, final ToLongBiFunction<String, String> timeToLive, final TimeUnit unit, final int maximumSize) {
+        Validate.isTrue(maximumSize > 0, "maximumSize must be positive: %d", maximumSize);
+        this.lookup = Objects.requireNonNull(lookup, "lookup");
+        this.timeToLive = Objects.requireNonNull(timeToLive, "timeToLive");
+        this.unit = Objects.requireNonNull(unit, "unit");
+        this.cache = new EvictingCache<>(maximumSize);
+    }
+
+    /**
+     * Removes all the cached values.
+     */
+    public void clear() {
+        cache.clear();
+    }
+
+    /**
+     * Gets the cached value of a key if it is still alive.
+     *
+     * @param key  the key, may be null
+     * @param now  the current time, in nanoseconds
+     * @return the cached value, null if the key is not cached or has expired
+     */
+    private CachedValue get(final String key, final long now) {
+        if (key == null) {
+            return null;
+        }
+        final CachedValue cached = cache.get(key);
+        if (cached == null) {
+            return null;
+        }
+        if (now - cached.time < cached.timeToLive) {
+            return cached;
+        }
+        cache.remove(key, cached);
+        return null;
+    }
+
+    /**
+     * Gets the maximum number of cached keys.
+     *
+     * @return the maximum number of cached keys
+     */
+    public int getMaximumSize() {
+        return cache.getMaximumSize();
+    }
+
+    /**
+     * Looks up a String key to a String value, from the cache if it holds a live value for the key, from the cached lookup otherwise.
+     *
+     * @param key  the key to be looked up, may be null
+     * @return the matching value, null if no match
+     */
+    @Override
+    public String lookup(final String key) {
+        final CachedValue cached = get(key, nanoTime());
+        if (cached != null) {
+            return cached.value;
+        }
+        final String value = lookup.lookup(key);
+        put(key, value, nanoTime());
+        return value;
+    }
+
+    /**
+     * Looks up several keys of the cached lookup, for {@link #prefetch(Collection)}.
+     * <p>
+     * This implementation calls {@link StrLookup#lookup(String)} for each key. Subclasses can override it to fetch all the keys at once.
+     * </p>
+     *
+     * @param keys  the keys to be looked up, not null
+     * @return the values of the keys, a missing or null value for an unknown key
+     */
+    protected Map<String, String> lookupAll(final Set<String> keys) {
+        final Map<String, String> values = new HashMap<>();
+        for (final String key : keys) {
+            values.put(key, lookup.lookup(key));
+        }
+        return values;
+    }
+
+    /**
+     * Gets the current time, in nanoseconds, overridden by tests.
+     *
+     * @return the current time, in nanoseconds
+     */
+    long nanoTime() {
+        return System.nanoTime();
+    }
+
+    /**
+     * Looks up the keys missing from the cache, or expired, with a single call to {@link #lookupAll(Set)}, and caches their values.
+     *
+     * @param keys  the keys to look up, not null
+     * @throws NullPointerException if {@code keys} is null
+     */
+    public void prefetch(final Collection<String> keys) {
+        final long now = nanoTime();
+        final Set<String> missing = new LinkedHashSet<>();
+        for (final String key : keys) {
+            if (get(key, now) == null) {
+                missing.add(key);
+            }
+        }
+        if (missing.isEmpty()) {
+            return;
+        }
+        final Map<String, String> values = lookupAll(missing);
+        final long time = nanoTime();
+        for (final String key : missing) {
+            put(key, values.get(key), time);
+        }
+    }
+
+    /**
+     * Looks up the variables of a template missing from the cache, or expired, with a single call to {@link #lookupAll(Set)}, and caches their values.
+     * <p>
+     * The variables the names of which contain other variables are not looked up.
+     * </p>
+     *
+     * @param template  the template the variables of which to look up, not null
+     * @throws NullPointerException if {@code template} is null
+     */
+    public void prefetch(final StrSubstitutor.Template template) {
+        prefetch(template.getVariableNames());
+    }
+
+    /**
+     * Caches the value of a key.
+     *
+     * @param key  the key, may be null
+     * @param value  the value, null for an unknown key
+     * @param now  the time the value was looked up, in nanoseconds
+     */
+    private void put(final String key, final String value, final long now) {
+        if (key == null) {
+            return;
+        }
+        final long keyTimeToLive = timeToLive.applyAsLong(key, value);
+        Validate.isTrue(keyTimeToLive >= 0, "timeToLive must not be negative: %d", keyTimeToLive);
+        if (keyTimeToLive == 0) {
+            return;
+        }
+        cache.put(key, new CachedValue(value, now, unit.toNanos(keyTimeToLive)));
+    }
+
+    /**
+     * Gets the number of cached keys, including expired ones not removed yet.
+     *
+     * @return the number of cached keys
+     */
+    public int size() {
+        return cache.size();
+    }
+}
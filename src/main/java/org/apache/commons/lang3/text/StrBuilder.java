@@ -20,7 +20,13 @@
 import java.io.Reader;
 import java.io.Serializable;
 import java.io.Writer;
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
 import java.nio.CharBuffer;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.CharacterCodingException;
+import java.nio.charset.CharsetEncoder;
+import java.nio.charset.CoderResult;
 import java.util.Arrays;
 import java.util.Iterator;
 import java.util.List;
@@ -262,6 +268,10 @@ public void write(final String str, final int off, final int len) {
      * The extra capacity for new builders.
      */
     static final int CAPACITY = 32;
+    /**
+     * The maximum size of the byte buffer used by {@link #writeTo(WritableByteChannel, CharsetEncoder)}.
+     */
+    private static final int CHANNEL_BUFFER_SIZE = 8192;
     /**
      * Required for serialization support.
      *
@@ -3054,4 +3064,95 @@ protected int validateRange(final int startIndex, int endIndex) {
         return endIndex;
     }
 
+    /**
+     * Encodes the contents of this builder into a byte buffer, without creating
+     * an intermediate string.
+     * <p>
+     * The encoder is reset before use. If the encoded contents do not fit in the
+     * remaining bytes of the buffer, its position is left unchanged and a
+     * {@link BufferOverflowException} is thrown.
+     * </p>
+     *
+     * @param destination  the buffer to write to, not null
+     * @param encoder  the encoder to use, not null
+     * @return the number of bytes written
+     * @throws BufferOverflowException if the encoded contents do not fit in the buffer
+     * @throws CharacterCodingException if the contents cannot be encoded
+     * @throws NullPointerException if {@code destination} or {@code encoder} is null
+     * @since 3.18.0
+     */
+    public int writeTo(final ByteBuffer destination, final CharsetEncoder encoder) throws CharacterCodingException {
+        final int position = destination.position();
+        encoder.reset();
+        CoderResult result = encoder.encode(CharBuffer.wrap(buffer, 0, size), destination, true);
+        if (result.isUnderflow()) {
+            result = encoder.flush(destination);
+        }
+        if (!result.isUnderflow()) {
+            destination.position(position);
+            if (result.isOverflow()) {
+                throw new BufferOverflowException();
+            }
+            result.throwException();
+        }
+        return destination.position() - position;
+    }
+
+    /**
+     * Encodes the contents of this builder to a channel, without creating
+     * an intermediate string.
+     * <p>
+     * The encoder is reset before use. The contents are encoded in chunks of at
+     * most 8192 bytes, each written fully before the next is encoded, so the
+     * channel should be in blocking mode.
+     * </p>
+     *
+     * @param channel  the channel to write to, not null
+     * @param encoder  the encoder to use, not null
+     * @return the number of bytes written
+     * @throws CharacterCodingException if the contents cannot be encoded
+     * @throws IOException if an I/O error occurs
+     * @throws NullPointerException if {@code channel} or {@code encoder} is null
+     * @since 3.18.0
+     */
+    public long writeTo(final WritableByteChannel channel, final CharsetEncoder encoder) throws IOException {
+        Objects.requireNonNull(channel, "channel");
+        encoder.reset();
+        final CharBuffer source = CharBuffer.wrap(buffer, 0, size);
+        // room for the whole contents when short, for a few characters at least
+        final ByteBuffer bytes = ByteBuffer.allocate((int) Math.min(CHANNEL_BUFFER_SIZE, (size + 4L) * (long) Math.ceil(encoder.maxBytesPerChar())));
+        long written = 0;
+        CoderResult result;
+        do {
+            result = encoder.encode(source, bytes, true);
+            if (result.isError()) {
+                result.throwException();
+            }
+            written += writeTo(channel, bytes);
+        } while (result.isOverflow());
+        do {
+            result = encoder.flush(bytes);
+            written += writeTo(channel, bytes);
+        } while (result.isOverflow());
+        return written;
+    }
+
+    /**
+     * Writes the bytes of a buffer filled by an encoder to a channel, and clears it.
+     *
+     * @param channel  the channel to write to
+     * @param bytes  the buffer to write
+     * @return the number of bytes written
+     * @throws IOException if an I/O error occurs
+     */
+    private static int writeTo(final WritableByteChannel channel, final ByteBuffer bytes) throws IOException {
+        bytes.flip();
+        final int written = bytes.remaining();
+        while (bytes.hasRemaining()) {
+            channel.write(bytes);
+        }
+        bytes.clear();
+        return written;
+    }
+
 }
@@ -0,0 +1,185 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.lang3.text;
+
+import java.util.ArrayDeque;
+import java.util.Objects;
+import java.util.function.Function;
+
+import org.apache.commons.lang3.Validate;
+
+/**
+ * A pool of {@link StrBuilder} instances, to reuse the buffers of builders created over and over, like the builders of responses.
+ * <p>
+ * A builder {@link #borrow() borrowed} from the pool must be {@link #release(StrBuilder) released} to it once its contents have been used, and must not
+ * be used after that. Released builders are cleared and pooled, up to a maximum number of builders, unless their capacity grew over the maximum retained
+ * capacity, so that a few large contents do not pin large buffers.
+ * </p>
+ * <pre>
+ * private static final StrBuilderPool POOL = StrBuilderPool.threadLocal(4, 64 * 1024);
+ *
+ * String response = POOL.apply(builder -&gt; builder.append(header).append(body).toString());
+ * </pre>
+ * <p>
+ * A {@link #threadLocal(int, int) thread-local} pool keeps the builders of each thread apart, without locking, for builders borrowed and released by the
+ * same thread. A {@link #shared(int, int) shared} pool is guarded by a lock, and lets builders be released by another thread than the one that borrowed
+ * them. Both are thread-safe, but the builders themselves are not.
+ * </p>
+ *
+ * @since 3.18.0
+ * @deprecated Deprecated, like the rest of this package; use Apache Commons Text
+ * <a href="https://commons.apache.org/proper/commons-text/javadocs/api-release/org/apache/commons/text/TextStringBuilder.html">
+ * TextStringBuilder</a>.
+ */
+@Deprecated
+public final class StrBuilderPool {
+
+    /**
+     * Creates a pool shared by all threads.
+     *
+     * @param maximumPoolSize  the maximum number of pooled builders, positive
+     * @param maximumRetainedCapacity  the maximum capacity of a pooled builder, positive
+     * @return a new pool
+     * @throws IllegalArgumentException if an argument is not positive
+     */
+    public static StrBuilderPool shared(final int maximumPoolSize, final int maximumRetainedCapacity) {
+        return new StrBuilderPool(maximumPoolSize, maximumRetainedCapacity, false);
+    }
+
+    /**
+     * Creates a pool keeping the builders of each thread apart.
+     *
+     * @param maximumPoolSize  the maximum number of pooled builders per thread, positive
+     * @param maximumRetainedCapacity  the maximum capacity of a pooled builder, positive
+     * @return a new pool
+     * @throws IllegalArgumentException if an argument is not positive
+     */
+    public static StrBuilderPool threadLocal(final int maximumPoolSize, final int maximumRetainedCapacity) {
+        return new StrBuilderPool(maximumPoolSize, maximumRetainedCapacity, true);
+    }
+
+    /** The maximum number of pooled builders, per thread for a thread-local pool. */
+    private final int maximumPoolSize;
+
+    /** The maximum capacity of a pooled builder. */
+    private final int maximumRetainedCapacity;
+
+    /** The pooled builders of each thread, null for a shared pool. */
+    private final ThreadLocal<ArrayDeque<StrBuilder>> threadLocalBuilders;
+
+    /** The pooled builders, guarded by itself, null for a thread-local pool. */
+    private final ArrayDeque<StrBuilder> sharedBuilders;
+
+    /**
+     * Constructs a new instance.
+     *
+     * @param maximumPoolSize  the maximum number of pooled builders, positive
+     * @param maximumRetainedCapacity  the maximum capacity of a pooled builder, positive
+     * @param threadLocal  whether to keep the builders of each thread apart
+     */
+    private StrBuilderPool(final int maximumPoolSize, final int maximumRetainedCapacity, final boolean threadLocal) {
+        Validate.isTrue(maximumPoolSize > 0, "maximumPoolSize must be positive: %d", maximumPoolSize);
+        Validate.isTrue(maximumRetainedCapacity > 0, "maximumRetainedCapacity must be positive: %d", maximumRetainedCapacity);
+        this.maximumPoolSize = maximumPoolSize;
+        this.maximumRetainedCapacity = maximumRetainedCapacity;
+        this.threadLocalBuilders = threadLocal ? ThreadLocal.withInitial(ArrayDeque::new) : null;
+        this.sharedBuilders = threadLocal ? null : new ArrayDeque<>();
+    }
+
+    /**
+     * Borrows a builder, applies a function to it, and releases it, for functions that do not keep the builder.
+     *
+     * @param <R> the type of the result of the function
+     * @param function  the function to apply, not null
+     * @return the result of the function
+     * @throws NullPointerException if {@code function} is null
+     */
+    public <R> R apply(final Function<? super StrBuilder, ? extends R> function) {
+        Objects.requireNonNull(function, "function");
+        final StrBuilder builder = borrow();
+        try {
+            return function.apply(builder);
+        } finally {
+            release(builder);
+        }
+    }
+
+    /**
+     * Borrows an empty builder, pooled or new.
+     *
+     * @return an empty builder, with the default new line and null texts
+     */
+    public StrBuilder borrow() {
+        final StrBuilder builder;
+        if (threadLocalBuilders != null) {
+            builder = threadLocalBuilders.get().pollFirst();
+        } else {
+            synchronized (sharedBuilders) {
+                builder = sharedBuilders.pollFirst();
+            }
+        }
+        return builder != null ? builder : new StrBuilder();
+    }
+
+    /**
+     * Gets the maximum number of pooled builders, per thread for a thread-local pool.
+     *
+     * @return the maximum number of pooled builders
+     */
+    public int getMaximumPoolSize() {
+        return maximumPoolSize;
+    }
+
+    /**
+     * Gets the maximum capacity of a pooled builder.
+     *
+     * @return the maximum capacity of a pooled builder
+     */
+    public int getMaximumRetainedCapacity() {
+        return maximumRetainedCapacity;
+    }
+
+    /**
+     * Returns a builder to the pool, cleared and with the default new line and null texts, unless the pool is full or the capacity of the builder is over
+     * the maximum retained capacity.
+     * <p>
+     * The builder must not be used after it is released, and must not be released twice.
+     * </p>
+     *
+     * @param builder  the builder to release, not null
+     * @throws NullPointerException if {@code builder} is null
+     */
+    public void release(final StrBuilder builder) {
+        Objects.requireNonNull(builder, "builder");
+        if (builder.capacity() > maximumRetainedCapacity) {
+            return;
+        }
+        builder.clear().setNewLineText(null).setNullText(null);
+        if (threadLocalBuilders != null) {
+            final ArrayDeque<StrBuilder> builders = threadLocalBuilders.get();
+            if (builders.size() < maximumPoolSize) {
+                builders.addFirst(builder);
+            }
+        } else {
+            synchronized (sharedBuilders) {
+                if (sharedBuilders.size() < maximumPoolSize) {
+                    sharedBuilders.addFirst(builder);
+                }
+            }
+        }
+    }
+}
@@ -67,6 +67,11 @@ static final class CharMatcher extends StrMatcher {
         public int isMatch(final char[] buffer, final int pos, final int bufferStart, final int bufferEnd) {
             return ch == buffer[pos] ? 1 : 0;
         }
+
+        @Override
+        boolean isMatchIn(final String str) {
+            return str.indexOf(ch) >= 0;
+        }
     }
     /**
      * Class used to define a set of characters for matching purposes.
@@ -122,6 +127,11 @@ static final class NoMatcher extends StrMatcher {
         public int isMatch(final char[] buffer, final int pos, final int bufferStart, final int bufferEnd) {
             return 0;
         }
+
+        @Override
+        boolean isMatchIn(final String str) {
+            return false;
+        }
     }
     /**
      * Class used to define a set of characters for matching purposes.
@@ -130,6 +140,9 @@ static final class StringMatcher extends StrMatcher {
         /** The string to match, as a character array. */
         private final char[] chars;
 
+        /** The string to match. */
+        private final String string;
+
         /**
          * Constructor that creates a matcher from a String.
          *
@@ -137,6 +150,7 @@ static final class StringMatcher extends StrMatcher {
          */
         StringMatcher(final String str) {
             chars = str.toCharArray();
+            string = str;
         }
 
         /**
@@ -162,6 +176,11 @@ public int isMatch(final char[] buffer, int pos, final int bufferStart, final in
             return len;
         }
 
+        @Override
+        boolean isMatchIn(final String str) {
+            return !string.isEmpty() && str.contains(string);
+        }
+
         @Override
         public String toString() {
             return super.toString() + ' ' + Arrays.toString(chars);
@@ -437,4 +456,20 @@ public int isMatch(final char[] buffer, final int pos) {
      */
     public abstract int isMatch(char[] buffer, int pos, int bufferStart, int bufferEnd);
 
+    /**
+     * Tests whether this matcher matches at any position of a string.
+     *
+     * @param str  the string to match against, not null
+     * @return whether this matcher matches at any position of the string
+     */
+    boolean isMatchIn(final String str) {
+        final char[] buffer = str.toCharArray();
+        for (int pos = 0; pos < buffer.length; pos++) {
+            if (isMatch(buffer, pos, 0, buffer.length) != 0) {
+                return true;
+            }
+        }
+        return false;
+    }
+
 }
@@ -16,13 +16,17 @@
  */
 package org.apache.commons.lang3.text;
 
+import java.io.IOException;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.Enumeration;
 import java.util.HashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Properties;
+import java.util.Set;
 
 import org.apache.commons.lang3.StringUtils;
 
@@ -148,6 +152,348 @@
 @Deprecated
 public class StrSubstitutor {
 
+    /**
+     * A template compiled by {@link StrSubstitutor#compile(String)}: the literal text and variable references of a source text, parsed once.
+     * <p>
+     * Replacing the variables of a template gives the same result as {@link StrSubstitutor#replace(String)} on its source text with the same variable
+     * prefix, suffix, escape character, value delimiter and flags, but the source text is not scanned again: the literal text is appended as is and only
+     * the values of the variables are looked up. Values containing variables are substituted recursively, and cyclic substitutions detected, like
+     * {@link StrSubstitutor#replace(String)} does. The variables are resolved with the {@link StrLookup} given to the replace methods, not with
+     * {@link StrSubstitutor#resolveVariable(String, StrBuilder, int, int)}.
+     * </p>
+     * <pre>
+     * StrSubstitutor.Template template = new StrSubstitutor().compile("The ${animal} jumps over the ${target}.");
+     * template.replace(valuesMap);               // "The quick brown fox jumps over the lazy dog."
+     * template.replace(writer, StrLookup.mapLookup(valuesMap)); // the same, appended to a Writer
+     * </pre>
+     * <p>
+     * Instances are immutable and thread-safe.
+     * </p>
+     *
+     * @since 3.18.0
+     */
+    public static final class Template {
+
+        /**
+         * A variable reference of a template.
+         */
+        private static final class Variable {
+
+            /** The text of the reference, including the prefix and suffix, appended when the variable is unknown. */
+            private final String text;
+
+            /** The name of the variable, null if it is the result of a substitution in {@link #nameExpression}. */
+            private final String name;
+
+            /** The default value of the variable, may be null. */
+            private final String defaultValue;
+
+            /** The name and default value of the variable, with variables to substitute first. */
+            private final String nameExpression;
+
+            /** Whether a variable prefix directly follows the reference, the end of the value could escape it. */
+            private final boolean prefixFollows;
+
+            Variable(final String text, final String name, final String defaultValue, final String nameExpression, final boolean prefixFollows) {
+                this.text = text;
+                this.name = name;
+                this.defaultValue = defaultValue;
+                this.nameExpression = nameExpression;
+                this.prefixFollows = prefixFollows;
+            }
+        }
+
+        /** The source text. */
+        private final String source;
+
+        /** The segments of the source text, a String for literal text or a {@link Variable}. */
+        private final Object[] segments;
+
+        /** Whether a variable prefix directly follows a variable reference. */
+        private final boolean prefixFollows;
+
+        private final char escape;
+        private final StrMatcher prefixMatcher;
+        private final StrMatcher suffixMatcher;
+        private final StrMatcher valueDelimiterMatcher;
+        private final boolean enableSubstitutionInVariables;
+        private final boolean preserveEscapes;
+
+        /**
+         * Parses a source text like {@link StrSubstitutor#substitute(StrBuilder, int, int)} scans it.
+         *
+         * @param substitutor the substitutor the settings of which to use.
+         * @param source the source text.
+         */
+        Template(final StrSubstitutor substitutor, final String source) {
+            this.source = source;
+            this.escape = substitutor.getEscapeChar();
+            this.prefixMatcher = substitutor.getVariablePrefixMatcher();
+            this.suffixMatcher = substitutor.getVariableSuffixMatcher();
+            this.valueDelimiterMatcher = substitutor.getValueDelimiterMatcher();
+            this.enableSubstitutionInVariables = substitutor.isEnableSubstitutionInVariables();
+            this.preserveEscapes = substitutor.isPreserveEscapes();
+            final List<Object> list = new ArrayList<>();
+            final StringBuilder literal = new StringBuilder();
+            final char[] chars = source.toCharArray();
+            final int end = chars.length;
+            // The end of the last variable reference, -1 if none.
+            int variableEnd = -1;
+            boolean anyPrefixFollows = false;
+            int pos = 0;
+            while (pos < end) {
+                final int startMatchLen = prefixMatcher.isMatch(chars, pos, 0, end);
+                if (startMatchLen == 0) {
+                    literal.append(chars[pos++]);
+                    // the char before a prefix following a variable reference is the end of its value, checked when replacing
+                } else if (pos != variableEnd && pos > 0 && chars[pos - 1] == escape) {
+                    // escaped: the escape is removed unless preserved, the prefix is scanned from its second char
+                    if (!preserveEscapes) {
+                        literal.setLength(literal.length() - 1);
+                    }
+                    literal.append(chars[pos++]);
+                } else {
+                    final int startPos = pos;
+                    pos += startMatchLen;
+                    int nestedVarCount = 0;
+                    boolean nested = false;
+                    Variable variable = null;
+                    while (pos < end && variable == null) {
+                        int matchLen;
+                        if (enableSubstitutionInVariables && (matchLen = prefixMatcher.isMatch(chars, pos, 0, end)) != 0) {
+                            nestedVarCount++;
+                            nested = true;
+                            pos += matchLen;
+                        } else if ((matchLen = suffixMatcher.isMatch(chars, pos, 0, end)) == 0) {
+                            pos++;
+                        } else if (nestedVarCount > 0) {
+                            nestedVarCount--;
+                            pos += matchLen;
+                        } else {
+                            final String nameExpression = new String(chars, startPos + startMatchLen, pos - startPos - startMatchLen);
+                            pos += matchLen;
+                            final String text = new String(chars, startPos, pos - startPos);
+                            final boolean followed = pos < end && prefixMatcher.isMatch(chars, pos, 0, end) != 0;
+                            if (nested) {
+                                variable = new Variable(text, null, null, nameExpression, followed);
+                            } else {
+                                final String[] nameAndDefault = splitName(nameExpression);
+                                variable = new Variable(text, nameAndDefault[0], nameAndDefault[1], null, followed);
+                            }
+                            anyPrefixFollows |= followed;
+                        }
+                    }
+                    if (variable == null) {
+                        // no suffix, the rest is text
+                        literal.append(chars, startPos, end - startPos);
+                    } else {
+                        if (literal.length() > 0) {
+                            list.add(literal.toString());
+                            literal.setLength(0);
+                        }
+                        list.add(variable);
+                        variableEnd = pos;
+                    }
+                }
+            }
+            if (literal.length() > 0) {
+                list.add(literal.toString());
+            }
+            this.segments = list.toArray();
+            this.prefixFollows = anyPrefixFollows;
+        }
+
+        /**
+         * Appends the segments to an Appendable.
+         *
+         * @param appendable the Appendable to append to.
+         * @param variableResolver the variable resolver, may be null.
+         * @return false if a variable prefix is escaped by the end of the value before it and the source text must be scanned again.
+         * @throws IOException if the Appendable throws an IOException.
+         */
+        private boolean appendSegments(final Appendable appendable, final StrLookup<?> variableResolver) throws IOException {
+            StrSubstitutor substitutor = null;
+            // The last char appended, -1 if none.
+            int last = -1;
+            for (final Object segment : segments) {
+                if (segment instanceof String) {
+                    final String literal = (String) segment;
+                    appendable.append(literal);
+                    last = literal.charAt(literal.length() - 1);
+                    continue;
+                }
+                final Variable variable = (Variable) segment;
+                String name = variable.name;
+                String defaultValue = variable.defaultValue;
+                if (name == null) {
+                    if (substitutor == null) {
+                        substitutor = substitutor(variableResolver);
+                    }
+                    final StrBuilder bufName = new StrBuilder(variable.nameExpression);
+                    substitutor.substitute(bufName, 0, bufName.length());
+                    final String[] nameAndDefault = splitName(bufName.toString());
+                    name = nameAndDefault[0];
+                    defaultValue = nameAndDefault[1];
+                }
+                // the source text is the first of the prior variables
+                if (name.equals(source)) {
+                    if (substitutor == null) {
+                        substitutor = substitutor(variableResolver);
+                    }
+                    substitutor.checkCyclicSubstitution(name, new ArrayList<>(Collections.singletonList(source)));
+                }
+                String value = variableResolver == null ? null : variableResolver.lookup(name);
+                if (value == null) {
+                    value = defaultValue;
+                }
+                if (value == null) {
+                    value = variable.text;
+                } else if (prefixMatcher.isMatchIn(value)) {
+                    if (substitutor == null) {
+                        substitutor = substitutor(variableResolver);
+                    }
+                    final List<String> priorVariables = new ArrayList<>();
+                    priorVariables.add(source);
+                    priorVariables.add(name);
+                    final StrBuilder buf = new StrBuilder(value);
+                    substitutor.substitute(buf, 0, buf.length(), priorVariables);
+                    value = buf.toString();
+                }
+                appendable.append(value);
+                if (!value.isEmpty()) {
+                    last = value.charAt(value.length() - 1);
+                }
+                if (variable.prefixFollows && last == escape) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        /**
+         * Gets the source text of this template.
+         *
+         * @return the source text.
+         */
+        public String getSource() {
+            return source;
+        }
+
+        /**
+         * Gets the names of the variables of this template, except those containing other variables.
+         *
+         * @return the names of the variables, in the order of their first reference.
+         */
+        Set<String> getVariableNames() {
+            final Set<String> names = new LinkedHashSet<>();
+            for (final Object segment : segments) {
+                if (segment instanceof Variable && ((Variable) segment).name != null) {
+                    names.add(((Variable) segment).name);
+                }
+            }
+            return names;
+        }
+
+        /**
+         * Appends the result of replacing the variables of this template to an Appendable.
+         *
+         * @param <A> the type of the Appendable.
+         * @param appendable the Appendable to append to, not null.
+         * @param variableResolver the variable resolver, may be null.
+         * @return the given Appendable.
+         * @throws IOException if the Appendable throws an IOException.
+         * @throws IllegalStateException if a cyclic substitution is detected.
+         */
+        public <A extends Appendable> A replace(final A appendable, final StrLookup<?> variableResolver) throws IOException {
+            Objects.requireNonNull(appendable, "appendable");
+            if (!prefixFollows) {
+                appendSegments(appendable, variableResolver);
+                return appendable;
+            }
+            // The end of a value may escape the next variable: buffer the result to scan the source text again in that case.
+            final StrBuilder buf = new StrBuilder(source.length() + 16);
+            if (!appendSegments(buf, variableResolver)) {
+                buf.clear().append(source);
+                substitutor(variableResolver).substitute(buf, 0, source.length());
+            }
+            appendable.append(buf);
+            return appendable;
+        }
+
+        /**
+         * Replaces the variables of this template with their values from a map.
+         *
+         * @param <V> the type of the values in the map.
+         * @param valueMap the map with the values, may be null.
+         * @return the result of the replace operation.
+         * @throws IllegalStateException if a cyclic substitution is detected.
+         */
+        public <V> String replace(final Map<String, V> valueMap) {
+            return replace(StrLookup.mapLookup(valueMap));
+        }
+
+        /**
+         * Replaces the variables of this template with their values from a variable resolver.
+         *
+         * @param variableResolver the variable resolver, may be null.
+         * @return the result of the replace operation.
+         * @throws IllegalStateException if a cyclic substitution is detected.
+         */
+        public String replace(final StrLookup<?> variableResolver) {
+            try {
+                return replace(new StrBuilder(source.length() + 16), variableResolver).toString();
+            } catch (final IOException e) {
+                // this should never happen while appending to a StrBuilder
+                throw new IllegalStateException(e);
+            }
+        }
+
+        /**
+         * Splits the name and default value of a variable like {@link StrSubstitutor#substitute(StrBuilder, int, int)}.
+         *
+         * @param nameExpression the name and default value.
+         * @return the name and the default value, null if none.
+         */
+        private String[] splitName(final String nameExpression) {
+            if (valueDelimiterMatcher != null) {
+                final char[] chars = nameExpression.toCharArray();
+                for (int i = 0; i < chars.length; i++) {
+                    if (!enableSubstitutionInVariables && prefixMatcher.isMatch(chars, i, i, chars.length) != 0) {
+                        break;
+                    }
+                    final int valueDelimiterMatchLen = valueDelimiterMatcher.isMatch(chars, i);
+                    if (valueDelimiterMatchLen != 0) {
+                        return new String[] { nameExpression.substring(0, i), nameExpression.substring(i + valueDelimiterMatchLen) };
+                    }
+                }
+            }
+            return new String[] { nameExpression, null };
+        }
+
+        /**
+         * Creates a substitutor with the settings of this template, to substitute variables in values and variable names.
+         *
+         * @param variableResolver the variable resolver, may be null.
+         * @return a new substitutor.
+         */
+        private StrSubstitutor substitutor(final StrLookup<?> variableResolver) {
+            final StrSubstitutor substitutor = new StrSubstitutor(variableResolver, prefixMatcher, suffixMatcher, escape, valueDelimiterMatcher);
+            substitutor.setEnableSubstitutionInVariables(enableSubstitutionInVariables);
+            substitutor.setPreserveEscapes(preserveEscapes);
+            return substitutor;
+        }
+
+        /**
+         * Gets the source text of this template.
+         *
+         * @return the source text.
+         */
+        @Override
+        public String toString() {
+            return source;
+        }
+    }
+
     /**
      * Constant for the default escape character.
      */
@@ -423,6 +769,22 @@ private void checkCyclicSubstitution(final String varName, final List<String> pr
         throw new IllegalStateException(buf.toString());
     }
 
+    /**
+     * Compiles a source text into a template, to replace its variables many times with different values without parsing it again.
+     * <p>
+     * The template uses the variable prefix, suffix, escape character, value delimiter and flags of this substitutor at the time of the call, later
+     * changes to this substitutor do not affect it.
+     * </p>
+     *
+     * @param source  the source text containing the variables to substitute, not null
+     * @return the compiled template
+     * @throws NullPointerException if {@code source} is null
+     * @since 3.18.0
+     */
+    public Template compile(final String source) {
+        return new Template(this, Objects.requireNonNull(source, "source"));
+    }
+
     /**
      * Returns the escape character.
      *
@@ -16,6 +16,8 @@
  */
 package org.apache.commons.lang3.text;
 
+import java.io.IOException;
+import java.nio.CharBuffer;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
@@ -23,6 +25,7 @@
 import java.util.ListIterator;
 import java.util.NoSuchElementException;
 import java.util.StringTokenizer;
+import java.util.function.Consumer;
 
 import org.apache.commons.lang3.ArrayUtils;
 import org.apache.commons.lang3.StringUtils;
@@ -60,6 +63,10 @@
  * <p>
  * Empty tokens may be removed or returned as null.
  * </p>
+ * <p>
+ * Large inputs, for example CSV or TSV exports, can be tokenized one record (line) at a time from a {@link java.io.Reader} or a
+ * {@link java.nio.CharBuffer} with {@link #tokenizeRecords(Readable, Consumer)}, without reading the whole input into memory.
+ * </p>
  * <pre>
  * "a,b,c"         - Three tokens "a","b","c"   (comma delimiter)
  * " a, b , c "    - Three tokens "a","b","c"   (default CSV processing trims whitespace)
@@ -96,6 +103,12 @@
 @Deprecated
 public class StrTokenizer implements ListIterator<String>, Cloneable {
 
+    /** The size of the initial buffer of {@link #tokenizeRecords(Readable, Consumer)}. */
+    private static final int RECORD_BUFFER_SIZE = 8192;
+
+    /** The number of chars {@link #tokenizeRecords(Readable, Consumer)} keeps ahead of the scan so that matchers see whole matches. */
+    private static final int RECORD_LOOKAHEAD = 64;
+
     private static final StrTokenizer CSV_TOKENIZER_PROTOTYPE;
     private static final StrTokenizer TSV_TOKENIZER_PROTOTYPE;
     static {
@@ -1076,21 +1089,141 @@ protected List<String> tokenize(final char[] srcChars, final int offset, final i
         }
         final StrBuilder buf = new StrBuilder();
         final List<String> tokenList = new ArrayList<>();
+        final int end = offset + count;
         int pos = offset;
 
         // loop around the entire buffer
-        while (pos >= 0 && pos < count) {
+        while (pos >= 0 && pos < end) {
             // find next token
-            pos = readNextToken(srcChars, pos, count, buf, tokenList);
+            pos = readNextToken(srcChars, pos, end, buf, tokenList);
 
             // handle case where end of string is a delimiter
-            if (pos >= count) {
+            if (pos >= end) {
                 addToken(tokenList, StringUtils.EMPTY);
             }
         }
         return tokenList;
     }
 
+    /**
+     * Tokenizes the records read from the given input, one record at a time, passing the tokens of each record to the given consumer.
+     * <p>
+     * Records are separated by line feeds outside quotes, a carriage return before a line feed is dropped, so a quoted token may span several lines. Each
+     * record is tokenized with the current settings of this tokenizer, like {@link #tokenize(char[], int, int)}. The input is read in chunks and only
+     * the record being tokenized is kept in memory, so inputs of any size can be tokenized in constant memory as long as their records are bounded. The
+     * delimiter, quote, ignored and trimmer matchers must not match more than 32 chars.
+     * </p>
+     * <pre>
+     * try (Reader reader = Files.newBufferedReader(path)) {
+     *     StrTokenizer.getTSVInstance().tokenizeRecords(reader, tokens -&gt; ...);
+     * }
+     * </pre>
+     * <p>
+     * This method does not change the content or the position of this tokenizer, it does not close the input.
+     * </p>
+     *
+     * @param input the input, for example a {@link java.io.Reader} or a {@link CharBuffer}.
+     * @param recordConsumer receives the modifiable list of the tokens of each record.
+     * @return the number of records.
+     * @throws IOException if the input throws it.
+     * @since 3.18.0
+     */
+    public long tokenizeRecords(final Readable input, final Consumer<? super List<String>> recordConsumer) throws IOException {
+        char[] buf = new char[RECORD_BUFFER_SIZE];
+        // The record being scanned is buf[start, pos), the chars read but not scanned yet are buf[pos, limit).
+        int start = 0;
+        int pos = 0;
+        int limit = 0;
+        boolean eof = false;
+        // The scan follows the quoting rules of readNextToken() and readWithQuotes() to tell a quoted line feed from a record end.
+        boolean tokenStart = true;
+        boolean quoting = false;
+        int quoteStart = 0;
+        int quoteLen = 0;
+        long records = 0;
+        while (true) {
+            final int scanLimit = eof ? limit : limit - RECORD_LOOKAHEAD;
+            while (pos < scanLimit) {
+                if (quoting) {
+                    if (isQuote(buf, pos, limit, quoteStart, quoteLen)) {
+                        if (isQuote(buf, pos + quoteLen, limit, quoteStart, quoteLen)) {
+                            // escaped quote
+                            pos += quoteLen * 2;
+                        } else {
+                            quoting = false;
+                            pos += quoteLen;
+                        }
+                    } else {
+                        pos++;
+                    }
+                    continue;
+                }
+                if (buf[pos] == '\n') {
+                    final int end = pos > start && buf[pos - 1] == '\r' ? pos - 1 : pos;
+                    recordConsumer.accept(tokenize(buf, start, end - start));
+                    records++;
+                    start = ++pos;
+                    tokenStart = true;
+                    quoteLen = 0;
+                    continue;
+                }
+                final int delimLen = getDelimiterMatcher().isMatch(buf, pos, start, limit);
+                if (delimLen > 0) {
+                    pos += delimLen;
+                    tokenStart = true;
+                    quoteLen = 0;
+                    continue;
+                }
+                if (tokenStart) {
+                    final int len = getQuoteMatcher().isMatch(buf, pos, start, limit);
+                    if (len > 0) {
+                        quoteStart = pos;
+                        quoteLen = len;
+                        quoting = true;
+                        tokenStart = false;
+                        pos += len;
+                        continue;
+                    }
+                    final int removeLen = Math.max(getIgnoredMatcher().isMatch(buf, pos, start, limit), getTrimmerMatcher().isMatch(buf, pos, start, limit));
+                    if (removeLen > 0) {
+                        pos += removeLen;
+                        continue;
+                    }
+                    tokenStart = false;
+                } else if (quoteLen > 0 && isQuote(buf, pos, limit, quoteStart, quoteLen)) {
+                    quoting = true;
+                    pos += quoteLen;
+                    continue;
+                }
+                pos++;
+            }
+            if (eof) {
+                break;
+            }
+            if (start > 0) {
+                System.arraycopy(buf, start, buf, 0, limit - start);
+                pos -= start;
+                quoteStart -= start;
+                limit -= start;
+                start = 0;
+            }
+            if (limit == buf.length) {
+                buf = Arrays.copyOf(buf, buf.length * 2);
+            }
+            final int read = input.read(CharBuffer.wrap(buf, limit, buf.length - limit));
+            if (read < 0) {
+                eof = true;
+            } else {
+                limit += read;
+            }
+        }
+        if (start < limit) {
+            recordConsumer.accept(tokenize(buf, start, limit - start));
+            records++;
+        }
+        return records;
+    }
+
     /**
      * Gets the String content that the tokenizer is parsing.
      *
@@ -35,6 +35,9 @@ public class AggregateTranslator extends CharSequenceTranslator {
 
     private final CharSequenceTranslator[] translators;
 
+    /** For each ASCII char, the translators that may translate it, computed on first use. */
+    private volatile CharSequenceTranslator[][] asciiTranslators;
+
     /**
      * Specify the translators to be used at creation time.
      *
@@ -44,14 +47,41 @@ public AggregateTranslator(final CharSequenceTranslator... translators) {
         this.translators = ArrayUtils.clone(translators);
     }
 
+    /**
+     * Gets, for each ASCII char, the translators that may translate it, in order.
+     *
+     * @return the translators that may translate each ASCII char.
+     */
+    private CharSequenceTranslator[][] asciiTranslators() {
+        // Building the table twice in a race gives the same result.
+        CharSequenceTranslator[][] table = asciiTranslators;
+        if (table == null) {
+            table = new CharSequenceTranslator[128][];
+            for (char c = 0; c < table.length; c++) {
+                CharSequenceTranslator[] candidates = {};
+                for (final CharSequenceTranslator translator : translators) {
+                    if (!translator.asciiSkips().contains(c)) {
+                        candidates = ArrayUtils.add(candidates, translator);
+                    }
+                }
+                table[c] = candidates;
+            }
+            asciiTranslators = table;
+        }
+        return table;
+    }
+
     /**
      * The first translator to consume code points from the input is the 'winner'.
      * Execution stops with the number of consumed code points being returned.
+     * Translators that never translate an ASCII char are not asked to translate it.
      * {@inheritDoc}
      */
     @Override
     public int translate(final CharSequence input, final int index, final Writer out) throws IOException {
-        for (final CharSequenceTranslator translator : translators) {
+        final char c = input.charAt(index);
+        final CharSequenceTranslator[] candidates = c < 128 ? asciiTranslators()[c] : translators;
+        for (final CharSequenceTranslator translator : candidates) {
             final int consumed = translator.translate(input, index, out);
             if (consumed != 0) {
                 return consumed;
@@ -60,4 +90,29 @@ public int translate(final CharSequence input, final int index, final Writer out
         return 0;
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    protected int getLookahead() {
+        int lookahead = DEFAULT_LOOKAHEAD;
+        for (final CharSequenceTranslator translator : translators) {
+            lookahead = Math.max(lookahead, translator.getLookahead());
+        }
+        return lookahead;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    protected boolean mayTranslate(final char c) {
+        for (final CharSequenceTranslator translator : translators) {
+            if (!translator.asciiSkips().contains(c)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
 }
@@ -17,11 +17,16 @@
 package org.apache.commons.lang3.text.translate;
 
 import java.io.IOException;
+import java.io.Reader;
 import java.io.StringWriter;
 import java.io.UncheckedIOException;
 import java.io.Writer;
+import java.nio.CharBuffer;
+import java.util.Arrays;
+import java.util.HashSet;
 import java.util.Locale;
 import java.util.Objects;
+import java.util.Set;
 
 import org.apache.commons.lang3.ArrayUtils;
 
@@ -38,8 +43,125 @@
 @Deprecated
 public abstract class CharSequenceTranslator {
 
+    /**
+     * The set of ASCII chars a translator never translates, runs of them are copied to the Writer in bulk.
+     */
+    static final class AsciiSkips {
+
+        /** The set of a translator that may translate any char. */
+        static final AsciiSkips NONE = new AsciiSkips(0, 0);
+
+        /** The translators of this package, their {@link CharSequenceTranslator#mayTranslate(char)} matches their translate methods. */
+        private static final Set<Class<?>> BUILT_IN = new HashSet<>(Arrays.asList(AggregateTranslator.class, JavaUnicodeEscaper.class,
+                LookupTranslator.class, NumericEntityEscaper.class, NumericEntityUnescaper.class, OctalUnescaper.class, UnicodeEscaper.class,
+                UnicodeUnescaper.class, UnicodeUnpairedSurrogateRemover.class));
+
+        /**
+         * Tests whether the given class declares {@link CharSequenceTranslator#mayTranslate(char)} itself.
+         *
+         * @param cls the translator class.
+         * @return whether the given class declares {@code mayTranslate(char)}.
+         */
+        private static boolean declaresMayTranslate(final Class<?> cls) {
+            try {
+                cls.getDeclaredMethod("mayTranslate", char.class);
+                return true;
+            } catch (final NoSuchMethodException | SecurityException e) {
+                return false;
+            }
+        }
+
+        /**
+         * Computes the set of the given translator from {@link CharSequenceTranslator#mayTranslate(char)}.
+         * <p>
+         * The set is only computed for the translators of this package and for classes declaring {@code mayTranslate(char)} themselves,
+         * so a subclass that only overrides a translate method to translate more chars is still offered every char.
+         * </p>
+         *
+         * @param translator the translator.
+         * @return the set of ASCII chars the translator never translates.
+         */
+        static AsciiSkips of(final CharSequenceTranslator translator) {
+            final Class<?> cls = translator.getClass();
+            if (!BUILT_IN.contains(cls) && !declaresMayTranslate(cls)) {
+                return NONE;
+            }
+            long low = 0;
+            long high = 0;
+            for (char c = 0; c < 128; c++) {
+                if (!translator.mayTranslate(c)) {
+                    if (c < 64) {
+                        low |= 1L << c;
+                    } else {
+                        high |= 1L << c;
+                    }
+                }
+            }
+            return low == 0 && high == 0 ? NONE : new AsciiSkips(low, high);
+        }
+
+        /** The chars 0 to 63. */
+        private final long low;
+
+        /** The chars 64 to 127. */
+        private final long high;
+
+        private AsciiSkips(final long low, final long high) {
+            this.low = low;
+            this.high = high;
+        }
+
+        /**
+         * Tests whether the given char is in this set.
+         *
+         * @param c the char.
+         * @return whether the given char is in this set.
+         */
+        boolean contains(final char c) {
+            // A long shift only uses the low 6 bits of its distance.
+            return c < 128 && ((c < 64 ? low : high) >>> c & 1) != 0;
+        }
+    }
+
     static final char[] HEX_DIGITS = {'0', '1', '2', '3', '4', '5', '6', '7', '8', '9', 'A', 'B', 'C', 'D', 'E', 'F'};
 
+    /**
+     * The number of chars a translator may look ahead of its index when translating a {@link Reader}, unless it asks for more.
+     */
+    static final int DEFAULT_LOOKAHEAD = 1024;
+
+    /**
+     * The lookahead of translators that need the whole input, see {@link #getLookahead()}.
+     *
+     * @since 3.18.0
+     */
+    protected static final int UNBOUNDED_LOOKAHEAD = Integer.MAX_VALUE;
+
+    /**
+     * The smallest buffer used to translate a {@link Reader}.
+     */
+    private static final int MIN_BUFFER_SIZE = 8192;
+
+    /**
+     * Copies the chars of an input between two indices to a Writer in one call.
+     *
+     * @param input CharSequence to copy
+     * @param start int index of the first char to copy
+     * @param end int index after the last char to copy
+     * @param writer Writer to copy the chars to
+     * @throws IOException if and only if the Writer produces an IOException
+     */
+    private static void write(final CharSequence input, final int start, final int end, final Writer writer) throws IOException {
+        if (input instanceof String) {
+            writer.write((String) input, start, end - start);
+        } else if (input instanceof CharBuffer && ((CharBuffer) input).hasArray()) {
+            final CharBuffer buffer = (CharBuffer) input;
+            writer.write(buffer.array(), buffer.arrayOffset() + buffer.position() + start, end - start);
+        } else {
+            writer.append(input, start, end);
+        }
+    }
+
     /**
      * Returns an upper case hexadecimal {@link String} for the given
      * character.
@@ -51,6 +173,9 @@ public static String hex(final int codePoint) {
         return Integer.toHexString(codePoint).toUpperCase(Locale.ENGLISH);
     }
 
+    /** The ASCII chars this translator never translates, computed on first use. */
+    private AsciiSkips asciiSkips;
+
     /**
      * Constructs a new instance.
      */
@@ -58,6 +183,21 @@ public CharSequenceTranslator() {
         // empty
     }
 
+    /**
+     * Gets the set of ASCII chars this translator never translates.
+     *
+     * @return the set of ASCII chars this translator never translates.
+     */
+    final AsciiSkips asciiSkips() {
+        // A benign race, the set is immutable and computing it twice gives the same result.
+        AsciiSkips skips = asciiSkips;
+        if (skips == null) {
+            skips = AsciiSkips.of(this);
+            asciiSkips = skips;
+        }
+        return skips;
+    }
+
     /**
      * Helper for non-Writer usage.
      * @param input CharSequence to be translated
@@ -105,9 +245,33 @@ public final void translate(final CharSequence input, final Writer writer) throw
         if (input == null) {
             return;
         }
-        int pos = 0;
+        translate(input, 0, input.length(), writer);
+    }
+
+    /**
+     * Translates the code points of an input that start before a limit.
+     *
+     * @param input CharSequence that is being translated
+     * @param pos int index of the first code point to translate
+     * @param limit int index before which the last code point to translate starts
+     * @param writer Writer to translate the text to
+     * @return int index after the last code point translated, at least {@code limit}
+     * @throws IOException if and only if the Writer produces an IOException
+     */
+    private int translate(final CharSequence input, int pos, final int limit, final Writer writer) throws IOException {
         final int len = input.length();
-        while (pos < len) {
+        final AsciiSkips skips = asciiSkips();
+        final boolean skipping = skips != AsciiSkips.NONE;
+        while (pos < limit) {
+            if (skipping && skips.contains(input.charAt(pos))) {
+                // copy the run of chars this translator leaves alone in one write
+                final int start = pos;
+                do {
+                    pos++;
+                } while (pos < limit && skips.contains(input.charAt(pos)));
+                write(input, start, pos, writer);
+                continue;
+            }
             final int consumed = translate(input, pos, writer);
             if (consumed == 0) {
                 // inlined implementation of Character.toChars(Character.codePointAt(input, pos))
@@ -130,6 +294,92 @@ public final void translate(final CharSequence input, final Writer writer) throw
                 pos += Character.charCount(Character.codePointAt(input, pos));
             }
         }
+        return pos;
+    }
+
+    /**
+     * Translates a Reader onto a Writer, holding only a bounded window of the input in memory.
+     * <p>
+     * The input is read into a sliding buffer. A code point is only translated once the buffer holds
+     * enough chars after it, or the rest of the input, so translators that look ahead,
+     * like a {@link LookupTranslator} matching its longest key, or a surrogate pair split by a read,
+     * see the same text as when translating the whole input as a {@link CharSequence}.
+     * Translators that need the whole input, like the CSV escapers, read it all before translating it.
+     * </p>
+     *
+     * @param reader Reader of the text to translate, not closed by this method
+     * @param writer Writer to translate the text to, not closed by this method
+     * @throws IOException if the Reader or the Writer produces an IOException
+     * @since 3.18.0
+     */
+    public final void translateStream(final Reader reader, final Writer writer) throws IOException {
+        Objects.requireNonNull(reader, "reader");
+        Objects.requireNonNull(writer, "writer");
+        final int lookahead = Math.max(getLookahead(), 1);
+        if (lookahead > Integer.MAX_VALUE / 4) {
+            final StringBuilder input = new StringBuilder(MIN_BUFFER_SIZE);
+            final char[] buffer = new char[MIN_BUFFER_SIZE];
+            int read;
+            while ((read = reader.read(buffer)) >= 0) {
+                input.append(buffer, 0, read);
+            }
+            translate(input, writer);
+            return;
+        }
+        final char[] buffer = new char[Math.max(MIN_BUFFER_SIZE, lookahead * 4)];
+        // A view of the window, translators index it from the start of the window.
+        final CharBuffer window = CharBuffer.wrap(buffer);
+        int start = 0;
+        int end = 0;
+        boolean eof = false;
+        while (true) {
+            if (!eof && end - start <= lookahead) {
+                System.arraycopy(buffer, start, buffer, 0, end - start);
+                end -= start;
+                start = 0;
+                while (end < buffer.length) {
+                    final int read = reader.read(buffer, end, buffer.length - end);
+                    if (read < 0) {
+                        eof = true;
+                        break;
+                    }
+                    end += read;
+                }
+            }
+            if (start == end) {
+                return;
+            }
+            window.limit(end).position(start);
+            final int limit = eof ? end : end - lookahead;
+            start += translate(window, 0, limit - start, writer);
+        }
+    }
+
+    /**
+     * Gets the number of chars this translator may look ahead of the index it translates at, see {@link #translateStream(Reader, Writer)}.
+     * Translators that look further ahead than 1024 chars, or need the whole input, must override this method.
+     *
+     * @return the number of chars this translator may look ahead, {@link #UNBOUNDED_LOOKAHEAD} if it needs the whole input.
+     * @since 3.18.0
+     */
+    protected int getLookahead() {
+        return DEFAULT_LOOKAHEAD;
+    }
+
+    /**
+     * Tests whether this translator may translate code points starting with the given ASCII char.
+     * <p>
+     * Runs of ASCII chars this translator never translates are copied in bulk instead of being offered to it one at a time.
+     * The default implementation returns {@code true}. Only the translators of this package and classes declaring this method themselves
+     * are skipped, a subclass inheriting this method is offered every char.
+     * </p>
+     *
+     * @param c an ASCII char
+     * @return false only if this translator never consumes code points starting with {@code c}
+     * @since 3.18.0
+     */
+    protected boolean mayTranslate(final char c) {
+        return true;
     }
 
     /**
@@ -18,8 +18,9 @@
 
 import java.io.IOException;
 import java.io.Writer;
-import java.util.HashMap;
-import java.util.HashSet;
+import java.util.Arrays;
+
+import org.apache.commons.lang3.ArrayUtils;
 
 /**
  * Translates a value using a lookup table.
@@ -32,64 +33,127 @@
 @Deprecated
 public class LookupTranslator extends CharSequenceTranslator {
 
-    private final HashMap<String, String> lookupMap;
-    private final HashSet<Character> prefixSet;
-    private final int shortest;
+    /**
+     * A node of the lookup trie, its children are kept sorted by char for a binary search.
+     */
+    private static final class Node {
+
+        private char[] chars = ArrayUtils.EMPTY_CHAR_ARRAY;
+        private Node[] children = {};
+        private String value;
+
+        /**
+         * Gets the child for the given char.
+         *
+         * @param c the char.
+         * @return the child or null.
+         */
+        Node get(final char c) {
+            final char[] cs = chars;
+            // Most nodes have one or two children, a linear scan beats the binary search there.
+            if (cs.length < 4) {
+                for (int i = 0; i < cs.length; i++) {
+                    if (cs[i] == c) {
+                        return children[i];
+                    }
+                }
+                return null;
+            }
+            final int i = Arrays.binarySearch(cs, c);
+            return i >= 0 ? children[i] : null;
+        }
+
+        /**
+         * Gets the child for the given char, adding it if needed.
+         *
+         * @param c the char.
+         * @return the child.
+         */
+        Node getOrAdd(final char c) {
+            final int i = Arrays.binarySearch(chars, c);
+            if (i >= 0) {
+                return children[i];
+            }
+            final int insert = -i - 1;
+            final Node child = new Node();
+            chars = ArrayUtils.insert(insert, chars, c);
+            children = ArrayUtils.insert(insert, children, child);
+            return child;
+        }
+    }
+
+    /** The root of the trie, its children are the first chars of the keys. */
+    private final Node root = new Node();
     private final int longest;
 
     /**
      * Define the lookup table to be used in translation
      *
-     * Note that, as of Lang 3.1, the key to the lookup table is converted to a
-     * java.lang.String. This is because we need the key to support hashCode and
-     * equals(Object), allowing it to be the key for a HashMap. See LANG-882.
+     * Note that the keys of the lookup table are copied char by char into a trie,
+     * so later changes to mutable keys like a StringBuffer are not seen. See LANG-882.
      *
      * @param lookup CharSequence[][] table of size [*][2]
      */
     public LookupTranslator(final CharSequence[]... lookup) {
-        lookupMap = new HashMap<>();
-        prefixSet = new HashSet<>();
-        int tmpShortest = Integer.MAX_VALUE;
         int tmpLongest = 0;
         if (lookup != null) {
             for (final CharSequence[] seq : lookup) {
-                this.lookupMap.put(seq[0].toString(), seq[1].toString());
-                this.prefixSet.add(seq[0].charAt(0));
-                final int sz = seq[0].length();
-                if (sz < tmpShortest) {
-                    tmpShortest = sz;
+                final CharSequence key = seq[0];
+                final int sz = key.length();
+                // Keys are never empty.
+                Node node = root.getOrAdd(key.charAt(0));
+                for (int i = 1; i < sz; i++) {
+                    node = node.getOrAdd(key.charAt(i));
                 }
+                node.value = seq[1].toString();
                 if (sz > tmpLongest) {
                     tmpLongest = sz;
                 }
             }
         }
-        this.shortest = tmpShortest;
         this.longest = tmpLongest;
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    protected int getLookahead() {
+        return Math.max(longest, DEFAULT_LOOKAHEAD);
+    }
+
     /**
      * {@inheritDoc}
      */
     @Override
     public int translate(final CharSequence input, final int index, final Writer out) throws IOException {
-        // check if translation exists for the input at position index
-        if (prefixSet.contains(input.charAt(index))) {
-            int max = longest;
-            if (index + longest > input.length()) {
-                max = input.length() - index;
+        // implement greedy algorithm by walking the trie as far as the input matches and keeping the longest key seen
+        String result = null;
+        int resultLength = 0;
+        Node node = root;
+        final int len = input.length();
+        for (int i = index; i < len; i++) {
+            node = node.get(input.charAt(i));
+            if (node == null) {
+                break;
             }
-            // implement greedy algorithm by trying maximum match first
-            for (int i = max; i >= shortest; i--) {
-                final CharSequence subSeq = input.subSequence(index, index + i);
-                final String result = lookupMap.get(subSeq.toString());
-
-                if (result != null) {
-                    out.write(result);
-                    return i;
-                }
+            if (node.value != null) {
+                result = node.value;
+                resultLength = i - index + 1;
             }
         }
+        if (result != null) {
+            out.write(result);
+            return resultLength;
+        }
         return 0;
     }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    protected boolean mayTranslate(final char c) {
+        return root.get(c) != null;
+    }
 }
@@ -162,4 +162,12 @@ public int translate(final CharSequence input, final int index, final Writer out
         }
         return 0;
     }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    protected boolean mayTranslate(final char c) {
+        return c == '&';
+    }
 }
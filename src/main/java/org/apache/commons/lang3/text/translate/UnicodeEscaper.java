@@ -136,4 +136,12 @@ public boolean translate(final int codePoint, final Writer out) throws IOExcepti
         }
         return true;
     }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    protected boolean mayTranslate(final char c) {
+        return between ? c >= below && c <= above : c < below || c > above;
+    }
 }
@@ -46,5 +46,13 @@ public boolean translate(final int codePoint, final Writer out) throws IOExcepti
         return codePoint >= Character.MIN_SURROGATE && codePoint <= Character.MAX_SURROGATE;
         // It's not a surrogate. Don't translate it.
     }
-}
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    protected boolean mayTranslate(final char c) {
+        // ASCII chars are never surrogates
+        return false;
+    }
+}
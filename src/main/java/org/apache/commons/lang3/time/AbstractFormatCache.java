@@ -23,10 +23,9 @@
 import java.util.Locale;
 import java.util.Objects;
 import java.util.TimeZone;
-import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.ConcurrentMap;
 
 import org.apache.commons.lang3.LocaleUtils;
+import org.apache.commons.lang3.util.EvictingCache;
 
 /**
  * FormatCache is a cache and factory for {@link Format}s.
@@ -89,7 +88,7 @@ public int hashCode() {
      */
     static final int NONE = -1;
 
-    private static final ConcurrentMap<ArrayKey, String> cDateTimeInstanceCache = new ConcurrentHashMap<>(7);
+    private static final EvictingCache<ArrayKey, String> cDateTimeInstanceCache = new EvictingCache<>();
 
     /**
      * Gets a date/time format for the specified styles and locale.
@@ -121,7 +120,18 @@ static String getPatternForStyle(final Integer dateStyle, final Integer timeStyl
         });
     }
 
-    private final ConcurrentMap<ArrayKey, F> cInstanceCache = new ConcurrentHashMap<>(7);
+    /**
+     * Sets the maximum number of cached patterns for date and time styles, shared by all format caches.
+     *
+     * @param maximumSize the maximum size, {@link EvictingCache#UNBOUNDED} for an unbounded cache.
+     * @throws IllegalArgumentException if the maximum size is negative.
+     */
+    // package protected, for access from FastDateFormat; do not make public or protected
+    static void setPatternCacheMaximumSize(final int maximumSize) {
+        cDateTimeInstanceCache.setMaximumSize(maximumSize);
+    }
+
+    private final EvictingCache<ArrayKey, F> cInstanceCache = new EvictingCache<>();
 
     /**
      * Create a format instance using the specified pattern, time zone
@@ -136,6 +146,16 @@ static String getPatternForStyle(final Integer dateStyle, final Integer timeStyl
      */
     protected abstract F createInstance(String pattern, TimeZone timeZone, Locale locale);
 
+    /**
+     * Gets the cache of format instances.
+     *
+     * @return the cache of format instances.
+     */
+    // package protected, for access from FastDateFormat; do not make public or protected
+    EvictingCache<?, F> getCache() {
+        return cInstanceCache;
+    }
+
     /**
      * Gets a date formatter instance using the specified style,
      * time zone and locale.
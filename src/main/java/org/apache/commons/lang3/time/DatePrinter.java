@@ -16,6 +16,7 @@
  */
 package org.apache.commons.lang3.time;
 
+import java.io.IOException;
 import java.text.FieldPosition;
 import java.util.Calendar;
 import java.util.Date;
@@ -23,6 +24,8 @@
 import java.util.Locale;
 import java.util.TimeZone;
 
+import org.apache.commons.lang3.exception.ExceptionUtils;
+
 /**
  * DatePrinter is the "missing" interface for the format methods of
  * {@link java.text.DateFormat}. You can obtain an object implementing this
@@ -127,6 +130,47 @@ public interface DatePrinter {
      */
     <B extends Appendable> B format(long millis, B buf);
 
+    /**
+     * Formats millisecond {@code long} values, for example a column of timestamps.
+     *
+     * @param millis  the millisecond values to format
+     * @return the formatted strings, in the order of the values
+     * @since 3.18.0
+     */
+    default String[] format(final long[] millis) {
+        final String[] result = new String[millis.length];
+        for (int i = 0; i < millis.length; i++) {
+            result[i] = format(millis[i]);
+        }
+        return result;
+    }
+
+    /**
+     * Formats millisecond {@code long} values into the
+     * supplied {@link Appendable}, for example a column of timestamps into a
+     * {@link StringBuilder} or a {@link java.nio.CharBuffer}.
+     *
+     * @param millis  the millisecond values to format
+     * @param separator  the separator to append between two values, null means no separator
+     * @param buf  the buffer to format into
+     * @param <B> the Appendable class type, usually StringBuilder or StringBuffer.
+     * @return the specified string buffer
+     * @since 3.18.0
+     */
+    default <B extends Appendable> B format(final long[] millis, final CharSequence separator, final B buf) {
+        try {
+            for (int i = 0; i < millis.length; i++) {
+                if (i > 0 && separator != null) {
+                    buf.append(separator);
+                }
+                format(millis[i], buf);
+            }
+        } catch (final IOException ioe) {
+            ExceptionUtils.asRuntimeException(ioe);
+        }
+        return buf;
+    }
+
     /**
      * Formats a millisecond {@code long} value into the
      * supplied {@link StringBuffer}.
@@ -28,6 +28,9 @@
 import java.util.Locale;
 import java.util.TimeZone;
 
+import org.apache.commons.lang3.Validate;
+import org.apache.commons.lang3.util.CacheStatistics;
+
 /**
  * FastDateFormat is a fast and thread-safe version of
  * {@link java.text.SimpleDateFormat}.
@@ -54,6 +57,10 @@
  *
  * <p>Since 3.2, FastDateFormat supports parsing as well as printing.</p>
  *
+ * <p>The factory methods cache the instances they create, without a bound by default. Applications that build instances from user supplied
+ * patterns, time zones or locales can bound the cache with {@link #setCacheMaximumSize(int)}, rarely used instances are then evicted first, and
+ * monitor it with {@link #getCacheStatistics()}.</p>
+ *
  * <p>Java 1.4 introduced a new pattern letter, {@code 'Z'}, to represent
  * time zones in RFC822 format (eg. {@code +0800} or {@code -1100}).
  * This pattern letter can be used here (on all JDK versions).</p>
@@ -108,6 +115,27 @@ protected FastDateFormat createInstance(final String pattern, final TimeZone tim
         }
     };
 
+    /**
+     * Gets the maximum number of instances cached by the factory methods.
+     *
+     * @return the maximum size of the cache, {@link Integer#MAX_VALUE} if the cache is unbounded.
+     * @see #setCacheMaximumSize(int)
+     * @since 3.18.0
+     */
+    public static int getCacheMaximumSize() {
+        return cache.getCache().getMaximumSize();
+    }
+
+    /**
+     * Gets a snapshot of the statistics of the instance cache used by the factory methods.
+     *
+     * @return the statistics of the instance cache.
+     * @since 3.18.0
+     */
+    public static CacheStatistics getCacheStatistics() {
+        return cache.getCache().getStatistics();
+    }
+
     /**
      * Gets a date formatter instance using the specified style in the
      * default time zone and locale.
@@ -365,6 +393,23 @@ public static FastDateFormat getTimeInstance(final int style, final TimeZone tim
         return cache.getTimeInstance(style, timeZone, locale);
     }
 
+    /**
+     * Sets the maximum number of instances cached by the factory methods, and of the patterns cached for date and time styles.
+     * <p>
+     * When the cache is full, the instances requested least often are evicted first. A later request for an evicted instance creates a new one, so
+     * instances returned by the factory methods are only guaranteed to be identical while they stay in the cache.
+     * </p>
+     *
+     * @param maximumSize the maximum size of the cache, {@link Integer#MAX_VALUE} for an unbounded cache.
+     * @throws IllegalArgumentException if {@code maximumSize} is not positive.
+     * @since 3.18.0
+     */
+    public static void setCacheMaximumSize(final int maximumSize) {
+        Validate.isTrue(maximumSize > 0, "maximumSize must be positive: %d", maximumSize);
+        cache.getCache().setMaximumSize(maximumSize);
+        AbstractFormatCache.setPatternCacheMaximumSize(maximumSize);
+    }
+
     /** Our fast printer. */
     private final FastDatePrinter printer;
     /** Our fast parser. */
@@ -553,6 +598,35 @@ public StringBuffer format(final long millis, final StringBuffer buf) {
         return printer.format(millis, buf);
     }
 
+    /**
+     * Formats millisecond {@code long} values, for example a column of timestamps.
+     *
+     * @param millis  the millisecond values to format
+     * @return the formatted strings, in the order of the values
+     * @since 3.18.0
+     */
+    @Override
+    public String[] format(final long[] millis) {
+        return printer.format(millis);
+    }
+
+    /**
+     * Formats millisecond {@code long} values into the
+     * supplied {@link Appendable}, for example a column of timestamps into a
+     * {@link StringBuilder} or a {@link java.nio.CharBuffer}.
+     *
+     * @param millis  the millisecond values to format
+     * @param separator  the separator to append between two values, null means no separator
+     * @param buf  the buffer to format into
+     * @param <B> the Appendable class type, usually StringBuilder or StringBuffer.
+     * @return the specified string buffer
+     * @since 3.18.0
+     */
+    @Override
+    public <B extends Appendable> B format(final long[] millis, final CharSequence separator, final B buf) {
+        return printer.format(millis, separator, buf);
+    }
+
     // Format methods
     /**
      * Formats a {@link Date}, {@link Calendar} or
@@ -23,11 +23,13 @@
 import java.text.ParseException;
 import java.text.ParsePosition;
 import java.text.SimpleDateFormat;
+import java.time.DateTimeException;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Calendar;
 import java.util.Comparator;
 import java.util.Date;
+import java.util.GregorianCalendar;
 import java.util.HashMap;
 import java.util.List;
 import java.util.ListIterator;
@@ -323,6 +325,302 @@ public String toString() {
         }
     }
 
+    /**
+     * Parses patterns made only of numeric fields, literals and numeric time zone offsets with a plain character scanner and epoch arithmetic, without a
+     * {@link Matcher}, a {@link Calendar} or a {@link ParsePosition}.
+     * <p>
+     * The scanner only succeeds when the {@link Strategy} based parse would succeed with the same result, it reports {@link #NO_MATCH} for anything else, for
+     * example non ASCII digits, leading white space, out of range offsets or dates before the Gregorian cutover, and the caller falls back to the strategies.
+     * </p>
+     */
+    private static final class NumericParser {
+
+        /** Returned when the source cannot be parsed by this parser. */
+        static final long NO_MATCH = Long.MIN_VALUE;
+
+        private static final int LITERAL = 0;
+        private static final int NUMBER = 1;
+        private static final int ISO_8601_HOURS = 2;
+        private static final int ISO_8601_HOURS_MINUTES = 3;
+        private static final int ISO_8601_HOURS_COLON_MINUTES = 4;
+        private static final int RFC_822 = 5;
+
+        /** The epoch day of 1582-10-15, the default Gregorian cutover of {@link GregorianCalendar}. */
+        private static final long GREGORIAN_CUTOVER_EPOCH_DAY = -141427L;
+
+        /** The largest year for which the epoch arithmetic is known not to overflow. */
+        private static final int MAX_YEAR = 9_999_999;
+
+        private static final long MILLIS_PER_SECOND = 1000L;
+        private static final long MILLIS_PER_MINUTE = 60 * MILLIS_PER_SECOND;
+        private static final long MILLIS_PER_HOUR = 60 * MILLIS_PER_MINUTE;
+        private static final long MILLIS_PER_DAY = 24 * MILLIS_PER_HOUR;
+
+        /**
+         * Compiles the given strategies if they can all be handled by a {@link NumericParser}.
+         *
+         * @param patterns         the strategies of a {@link FastDateParser}.
+         * @param timeZone         the time zone of the {@link FastDateParser}.
+         * @param definingCalendar the Calendar used by the {@link FastDateParser}.
+         * @return a new NumericParser or null if the strategies need the general parse.
+         */
+        static NumericParser compile(final List<StrategyAndWidth> patterns, final TimeZone timeZone, final Calendar definingCalendar) {
+            if (definingCalendar.getClass() != GregorianCalendar.class) {
+                // Buddhist and Japanese imperial calendars count years differently.
+                return null;
+            }
+            final int size = patterns.size();
+            final int[] kinds = new int[size];
+            final int[] maxWidths = new int[size];
+            final Strategy[] strategies = new Strategy[size];
+            boolean hasZone = false;
+            final ListIterator<StrategyAndWidth> lt = patterns.listIterator();
+            for (int i = 0; lt.hasNext(); i++) {
+                final StrategyAndWidth strategyAndWidth = lt.next();
+                final Strategy strategy = strategyAndWidth.strategy;
+                maxWidths[i] = strategyAndWidth.getMaxWidth(lt);
+                strategies[i] = strategy;
+                if (strategy instanceof CopyQuotedStrategy) {
+                    kinds[i] = LITERAL;
+                } else if (strategy instanceof NumberStrategy && isSupportedField(((NumberStrategy) strategy).field)) {
+                    kinds[i] = NUMBER;
+                } else if (strategy == ISO8601TimeZoneStrategy.ISO_8601_1_STRATEGY) {
+                    kinds[i] = ISO_8601_HOURS;
+                    hasZone = true;
+                } else if (strategy == ISO8601TimeZoneStrategy.ISO_8601_2_STRATEGY) {
+                    kinds[i] = ISO_8601_HOURS_MINUTES;
+                    hasZone = true;
+                } else if (strategy == ISO8601TimeZoneStrategy.ISO_8601_3_STRATEGY) {
+                    kinds[i] = ISO_8601_HOURS_COLON_MINUTES;
+                    hasZone = true;
+                } else if (strategy instanceof TimeZoneStrategy) {
+                    // Only the RFC 822 alternative, other zone names fall back.
+                    kinds[i] = RFC_822;
+                    hasZone = true;
+                } else {
+                    return null;
+                }
+            }
+            if (hasZone) {
+                return new NumericParser(kinds, maxWidths, strategies, 0);
+            }
+            final Integer fixedOffset = getFixedOffset(timeZone);
+            return fixedOffset != null ? new NumericParser(kinds, maxWidths, strategies, fixedOffset.intValue()) : null;
+        }
+
+        /**
+         * Computes the number of days from 1970-01-01 to the given date of the proleptic Gregorian calendar.
+         *
+         * @param year  the year.
+         * @param month the month, 1 to 12.
+         * @param day   the day of month, 1 to 31.
+         * @return the epoch day.
+         */
+        private static long epochDay(final long year, final int month, final int day) {
+            final long y = month <= 2 ? year - 1 : year;
+            final long era = Math.floorDiv(y, 400);
+            final long yearOfEra = y - era * 400;
+            final int shiftedMonth = month > 2 ? month - 3 : month + 9;
+            final long dayOfYear = (153 * shiftedMonth + 2) / 5 + day - 1;
+            final long dayOfEra = yearOfEra * 365 + yearOfEra / 4 - yearOfEra / 100 + dayOfYear;
+            return era * 146097 + dayOfEra - 719468;
+        }
+
+        /**
+         * Gets the offset of a time zone that never changes its offset.
+         *
+         * @param timeZone the time zone.
+         * @return the raw offset or null if the offset of the time zone changes over time.
+         */
+        private static Integer getFixedOffset(final TimeZone timeZone) {
+            if (timeZone instanceof GmtTimeZone) {
+                return timeZone.getRawOffset();
+            }
+            try {
+                // Guards against custom zones reusing a region ID with different rules.
+                if (timeZone.hasSameRules(TimeZone.getTimeZone(timeZone.getID())) && timeZone.toZoneId().getRules().isFixedOffset()) {
+                    return timeZone.getRawOffset();
+                }
+            } catch (final DateTimeException e) {
+                // not a known zone, the Calendar is in charge.
+            }
+            return null;
+        }
+
+        private static boolean isDigit(final char c) {
+            return c >= '0' && c <= '9';
+        }
+
+        private static boolean isSupportedField(final int field) {
+            switch (field) {
+            case Calendar.YEAR:
+            case Calendar.MONTH:
+            case Calendar.DAY_OF_MONTH:
+            case Calendar.HOUR_OF_DAY:
+            case Calendar.MINUTE:
+            case Calendar.SECOND:
+            case Calendar.MILLISECOND:
+                return true;
+            default:
+                return false;
+            }
+        }
+
+        /**
+         * Parses two ASCII digits.
+         *
+         * @return the value or -1 if the source does not have two ASCII digits at the given index.
+         */
+        private static int parseTwoDigits(final String source, final int idx) {
+            if (idx + 2 > source.length()) {
+                return -1;
+            }
+            final char c0 = source.charAt(idx);
+            final char c1 = source.charAt(idx + 1);
+            return isDigit(c0) && isDigit(c1) ? (c0 - '0') * 10 + c1 - '0' : -1;
+        }
+
+        private final int[] kinds;
+        private final int[] maxWidths;
+        private final Strategy[] strategies;
+        private final int defaultOffset;
+
+        private NumericParser(final int[] kinds, final int[] maxWidths, final Strategy[] strategies, final int defaultOffset) {
+            this.kinds = kinds;
+            this.maxWidths = maxWidths;
+            this.strategies = strategies;
+            this.defaultOffset = defaultOffset;
+        }
+
+        /**
+         * Parses the source.
+         *
+         * @param parser the parser for two digit year adjustments.
+         * @param source the source to parse.
+         * @param pos    the position to start parsing from and to update on success, null starts parsing at index 0.
+         * @return the epoch milliseconds or {@link #NO_MATCH}.
+         */
+        long parse(final FastDateParser parser, final String source, final ParsePosition pos) {
+            final int length = source.length();
+            int idx = pos != null ? pos.getIndex() : 0;
+            int year = 1970;
+            int month = 0;
+            int day = 1;
+            int hour = 0;
+            int minute = 0;
+            int second = 0;
+            int millisecond = 0;
+            int offset = defaultOffset;
+            for (int i = 0; i < kinds.length; i++) {
+                switch (kinds[i]) {
+                case LITERAL: {
+                    final String formatField = ((CopyQuotedStrategy) strategies[i]).formatField;
+                    if (!source.startsWith(formatField, idx)) {
+                        return NO_MATCH;
+                    }
+                    idx += formatField.length();
+                    break;
+                }
+                case NUMBER: {
+                    final int last = maxWidths[i] == 0 ? length : Math.min(length, idx + maxWidths[i]);
+                    final int begin = idx;
+                    int value = 0;
+                    for (; idx < last; ++idx) {
+                        final char c = source.charAt(idx);
+                        if (!isDigit(c)) {
+                            // leading white space and non ASCII digits are left to the NumberStrategy
+                            if (idx == begin || Character.isDigit(c)) {
+                                return NO_MATCH;
+                            }
+                            break;
+                        }
+                        if (idx - begin == 9) {
+                            // may overflow an int
+                            return NO_MATCH;
+                        }
+                        value = value * 10 + c - '0';
+                    }
+                    if (idx == begin) {
+                        return NO_MATCH;
+                    }
+                    final NumberStrategy strategy = (NumberStrategy) strategies[i];
+                    value = strategy.modify(parser, value);
+                    switch (strategy.field) {
+                    case Calendar.YEAR:
+                        year = value;
+                        break;
+                    case Calendar.MONTH:
+                        month = value;
+                        break;
+                    case Calendar.DAY_OF_MONTH:
+                        day = value;
+                        break;
+                    case Calendar.HOUR_OF_DAY:
+                        hour = value;
+                        break;
+                    case Calendar.MINUTE:
+                        minute = value;
+                        break;
+                    case Calendar.SECOND:
+                        second = value;
+                        break;
+                    default:
+                        millisecond = value;
+                        break;
+                    }
+                    break;
+                }
+                default: {
+                    if (idx >= length) {
+                        return NO_MATCH;
+                    }
+                    final char sign = source.charAt(idx);
+                    if (sign == 'Z' && kinds[i] != RFC_822) {
+                        offset = 0;
+                        idx++;
+                        break;
+                    }
+                    if (sign != '+' && sign != '-') {
+                        return NO_MATCH;
+                    }
+                    final int hours = parseTwoDigits(source, idx + 1);
+                    int minutes = 0;
+                    idx += 3;
+                    if (kinds[i] == ISO_8601_HOURS_COLON_MINUTES) {
+                        if (idx >= length || source.charAt(idx) != ':') {
+                            return NO_MATCH;
+                        }
+                        idx++;
+                    }
+                    if (kinds[i] != ISO_8601_HOURS) {
+                        minutes = parseTwoDigits(source, idx);
+                        idx += 2;
+                    }
+                    // GmtTimeZone rejects hours and minutes out of range
+                    if (hours < 0 || hours > 23 || minutes < 0 || minutes > 59) {
+                        return NO_MATCH;
+                    }
+                    offset = (int) ((hours * MILLIS_PER_HOUR + minutes * MILLIS_PER_MINUTE) * (sign == '-' ? -1 : 1));
+                    break;
+                }
+                }
+            }
+            // GregorianCalendar switches to the Julian calendar up to 1582
+            if (year <= 1582 || year > MAX_YEAR) {
+                return NO_MATCH;
+            }
+            final long localMillis = (epochDay(year + Math.floorDiv(month, 12), Math.floorMod(month, 12) + 1, 1) + day - 1) * MILLIS_PER_DAY
+                    + hour * MILLIS_PER_HOUR + minute * MILLIS_PER_MINUTE + second * MILLIS_PER_SECOND + millisecond;
+            if (Math.floorDiv(localMillis, MILLIS_PER_DAY) < GREGORIAN_CUTOVER_EPOCH_DAY) {
+                return NO_MATCH;
+            }
+            if (pos != null) {
+                pos.setIndex(idx);
+            }
+            return localMillis - offset;
+        }
+    }
+
     /**
      * A strategy to parse a single field from the parsing pattern
      */
@@ -787,6 +1085,9 @@ private static StringBuilder simpleQuote(final StringBuilder sb, final String va
     /** Initialized from Calendar. */
     private transient List<StrategyAndWidth> patterns;
 
+    /** Initialized from patterns, null if the patterns need the general parse. */
+    private transient NumericParser numericParser;
+
     /**
      * Constructs a new FastDateParser.
      *
@@ -984,6 +1285,7 @@ private void init(final Calendar definingCalendar) {
             }
             patterns.add(field);
         }
+        numericParser = NumericParser.compile(patterns, timeZone, definingCalendar);
     }
 
     /*
@@ -993,6 +1295,12 @@ private void init(final Calendar definingCalendar) {
      */
     @Override
     public Date parse(final String source) throws ParseException {
+        if (numericParser != null) {
+            final long millis = numericParser.parse(this, source, null);
+            if (millis != NumericParser.NO_MATCH) {
+                return new Date(millis);
+            }
+        }
         final ParsePosition pp = new ParsePosition(0);
         final Date date = parse(source, pp);
         if (date == null) {
@@ -1016,6 +1324,12 @@ public Date parse(final String source) throws ParseException {
      */
     @Override
     public Date parse(final String source, final ParsePosition pos) {
+        if (numericParser != null) {
+            final long millis = numericParser.parse(this, source, pos);
+            if (millis != NumericParser.NO_MATCH) {
+                return new Date(millis);
+            }
+        }
         // timing tests indicate getting new instance is 19% faster than cloning
         final Calendar cal = Calendar.getInstance(timeZone, locale);
         cal.clear();
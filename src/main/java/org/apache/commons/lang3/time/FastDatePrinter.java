@@ -23,9 +23,14 @@
 import java.text.DateFormatSymbols;
 import java.text.FieldPosition;
 import java.text.SimpleDateFormat;
+import java.time.DateTimeException;
+import java.time.Instant;
+import java.time.zone.ZoneOffsetTransition;
+import java.time.zone.ZoneRules;
 import java.util.ArrayList;
 import java.util.Calendar;
 import java.util.Date;
+import java.util.GregorianCalendar;
 import java.util.List;
 import java.util.Locale;
 import java.util.TimeZone;
@@ -202,7 +207,17 @@ static Iso8601_Rule getRule(final int tokenLen) {
          */
         @Override
         public void appendTo(final Appendable buffer, final Calendar calendar) throws IOException {
-            int offset = calendar.get(Calendar.ZONE_OFFSET) + calendar.get(Calendar.DST_OFFSET);
+            appendTo(buffer, calendar.get(Calendar.ZONE_OFFSET) + calendar.get(Calendar.DST_OFFSET));
+        }
+
+        /**
+         * Appends the given offset to the output buffer.
+         *
+         * @param buffer the output buffer
+         * @param offset the offset from UTC in milliseconds
+         * @throws IOException if an I/O error occurs.
+         */
+        void appendTo(final Appendable buffer, int offset) throws IOException {
             if (offset == 0) {
                 buffer.append("Z");
                 return;
@@ -251,6 +266,369 @@ private interface NumberRule extends Rule {
          */
         void appendTo(Appendable buffer, int value) throws IOException;
     }
+
+    /**
+     * Formats patterns made only of numeric fields, literals, month, day and AM/PM names and numeric time zone offsets straight from epoch milliseconds,
+     * without a {@link Calendar}.
+     * <p>
+     * The fields are computed with epoch arithmetic in the proleptic Gregorian calendar, so the printer only handles years after the Gregorian cutover
+     * and defers to the rules for anything else. The offset of the time zone is cached for the UTC day it was computed for, or forever for time zones with a
+     * fixed offset, and the date fields are cached for the last day formatted.
+     * </p>
+     */
+    private static final class NumericPrinter {
+
+        /**
+         * The date fields of an epoch day.
+         */
+        private static final class Day {
+
+            /**
+             * Computes the date fields of the given epoch day.
+             *
+             * @param epochDay the number of days since 1970-01-01.
+             * @return the date fields or null if the day is out of the supported range.
+             */
+            static Day of(final long epochDay) {
+                // Howard Hinnant's civil_from_days, the year starts in March to put the leap day last.
+                final long shiftedDay = epochDay + 719468;
+                final long era = Math.floorDiv(shiftedDay, 146097);
+                final int dayOfEra = (int) (shiftedDay - era * 146097);
+                final int yearOfEra = (dayOfEra - dayOfEra / 1460 + dayOfEra / 36524 - dayOfEra / 146096) / 365;
+                final int dayOfShiftedYear = dayOfEra - (365 * yearOfEra + yearOfEra / 4 - yearOfEra / 100);
+                final int shiftedMonth = (5 * dayOfShiftedYear + 2) / 153;
+                final int dayOfMonth = dayOfShiftedYear - (153 * shiftedMonth + 2) / 5 + 1;
+                final int month = shiftedMonth < 10 ? shiftedMonth + 2 : shiftedMonth - 10;
+                final long longYear = era * 400 + yearOfEra + (month <= Calendar.FEBRUARY ? 1 : 0);
+                // 1582 is the year of the default Gregorian cutover of GregorianCalendar, it is short of ten days.
+                if (longYear <= 1582 || longYear > MAX_YEAR) {
+                    return null;
+                }
+                final int year = (int) longYear;
+                final int dayOfYear;
+                if (month <= Calendar.FEBRUARY) {
+                    dayOfYear = dayOfShiftedYear - 305;
+                } else {
+                    final boolean leap = (year & 3) == 0 && (year % 100 != 0 || year % 400 == 0);
+                    dayOfYear = dayOfShiftedYear + (leap ? 60 : 59) + 1;
+                }
+                // 1970-01-01 was a Thursday.
+                final int dayOfWeek = (int) Math.floorMod(epochDay + 4, 7L) + Calendar.SUNDAY;
+                return new Day(epochDay, year, month, dayOfMonth, dayOfYear, dayOfWeek);
+            }
+
+            private final long epochDay;
+            private final int year;
+            private final int month;
+            private final int dayOfMonth;
+            private final int dayOfYear;
+            private final int dayOfWeek;
+
+            private Day(final long epochDay, final int year, final int month, final int dayOfMonth, final int dayOfYear, final int dayOfWeek) {
+                this.epochDay = epochDay;
+                this.year = year;
+                this.month = month;
+                this.dayOfMonth = dayOfMonth;
+                this.dayOfYear = dayOfYear;
+                this.dayOfWeek = dayOfWeek;
+            }
+        }
+
+        /**
+         * An offset valid from {@code start} inclusive to {@code end} exclusive.
+         */
+        private static final class OffsetWindow {
+            private final long start;
+            private final long end;
+            private final int offset;
+
+            OffsetWindow(final long start, final long end, final int offset) {
+                this.start = start;
+                this.end = end;
+                this.offset = offset;
+            }
+        }
+
+        private static final int LITERAL = 0;
+        private static final int NUMBER = 1;
+        private static final int MONTH_NUMBER = 2;
+        private static final int TWELVE_HOUR = 3;
+        private static final int TWENTY_FOUR_HOUR = 4;
+        private static final int DAY_IN_WEEK = 5;
+        private static final int TEXT = 6;
+        private static final int ISO_8601 = 7;
+        private static final int RFC_822 = 8;
+
+        /** The largest year for which the epoch arithmetic is known not to overflow. */
+        private static final int MAX_YEAR = 9_999_999;
+
+        /** Keeps {@code millis + offset} clear of overflow, the year check does the real bounding. */
+        private static final long MAX_MILLIS = Long.MAX_VALUE / 4;
+
+        private static final long MILLIS_PER_DAY = 24 * 60 * 60 * 1000L;
+
+        /**
+         * Compiles the given rules if they can all be handled by a {@link NumericPrinter}.
+         *
+         * @param rules    the rules of a {@link FastDatePrinter}.
+         * @param timeZone the time zone of the {@link FastDatePrinter}.
+         * @param calendar a Calendar as created by the {@link FastDatePrinter}.
+         * @return a new NumericPrinter or null if the rules need a Calendar.
+         */
+        static NumericPrinter compile(final Rule[] rules, final TimeZone timeZone, final Calendar calendar) {
+            if (calendar.getClass() != GregorianCalendar.class) {
+                // Buddhist and Japanese imperial calendars count years differently.
+                return null;
+            }
+            final int size = rules.length;
+            final int[] kinds = new int[size];
+            final int[] fields = new int[size];
+            for (int i = 0; i < size; i++) {
+                final Rule rule = rules[i];
+                fields[i] = -1;
+                if (rule instanceof CharacterLiteral || rule instanceof StringLiteral) {
+                    kinds[i] = LITERAL;
+                } else if (rule instanceof PaddedNumberField) {
+                    kinds[i] = NUMBER;
+                    fields[i] = ((PaddedNumberField) rule).field;
+                } else if (rule instanceof TwoDigitNumberField) {
+                    kinds[i] = NUMBER;
+                    fields[i] = ((TwoDigitNumberField) rule).field;
+                } else if (rule instanceof UnpaddedNumberField) {
+                    kinds[i] = NUMBER;
+                    fields[i] = ((UnpaddedNumberField) rule).field;
+                } else if (rule instanceof TwoDigitYearField) {
+                    kinds[i] = NUMBER;
+                    fields[i] = Calendar.YEAR;
+                } else if (rule instanceof TwoDigitMonthField || rule instanceof UnpaddedMonthField) {
+                    kinds[i] = MONTH_NUMBER;
+                    fields[i] = Calendar.MONTH;
+                } else if (rule instanceof TwelveHourField) {
+                    kinds[i] = TWELVE_HOUR;
+                    fields[i] = Calendar.HOUR;
+                } else if (rule instanceof TwentyFourHourField) {
+                    kinds[i] = TWENTY_FOUR_HOUR;
+                    fields[i] = Calendar.HOUR_OF_DAY;
+                } else if (rule instanceof DayInWeekField) {
+                    kinds[i] = DAY_IN_WEEK;
+                    fields[i] = Calendar.DAY_OF_WEEK;
+                } else if (rule instanceof TextField) {
+                    kinds[i] = TEXT;
+                    fields[i] = ((TextField) rule).field;
+                } else if (rule instanceof Iso8601_Rule) {
+                    kinds[i] = ISO_8601;
+                } else if (rule instanceof TimeZoneNumberRule) {
+                    kinds[i] = RFC_822;
+                } else {
+                    return null;
+                }
+                if (fields[i] >= 0 && !isSupportedField(fields[i])) {
+                    return null;
+                }
+            }
+            return new NumericPrinter(rules, kinds, fields, timeZone);
+        }
+
+        /**
+         * Gets the rules of a time zone whose offsets can be cached.
+         *
+         * @param timeZone the time zone.
+         * @return the rules or null if the offsets of the time zone must be looked up each time.
+         */
+        private static ZoneRules getZoneRules(final TimeZone timeZone) {
+            try {
+                // Guards against custom zones reusing a region ID with different rules.
+                if (timeZone.hasSameRules(TimeZone.getTimeZone(timeZone.getID()))) {
+                    return timeZone.toZoneId().getRules();
+                }
+            } catch (final DateTimeException e) {
+                // not a known zone, ask the TimeZone each time.
+            }
+            return null;
+        }
+
+        private static boolean isSupportedField(final int field) {
+            switch (field) {
+            case Calendar.ERA:
+            case Calendar.YEAR:
+            case Calendar.MONTH:
+            case Calendar.DAY_OF_MONTH:
+            case Calendar.DAY_OF_YEAR:
+            case Calendar.DAY_OF_WEEK:
+            case Calendar.AM_PM:
+            case Calendar.HOUR:
+            case Calendar.HOUR_OF_DAY:
+            case Calendar.MINUTE:
+            case Calendar.SECOND:
+            case Calendar.MILLISECOND:
+                return true;
+            default:
+                return false;
+            }
+        }
+
+        private final Rule[] rules;
+        private final int[] kinds;
+        private final int[] fields;
+        private final TimeZone timeZone;
+        private final ZoneRules zoneRules;
+
+        /**
+         * The last offset looked up; the window is immutable, so racing threads at worst compute the same window twice.
+         */
+        private OffsetWindow offsetWindow;
+
+        /**
+         * The last day formatted, immutable like {@link #offsetWindow}, so that timestamps of the same day share the date fields.
+         */
+        private Day lastDay;
+
+        private NumericPrinter(final Rule[] rules, final int[] kinds, final int[] fields, final TimeZone timeZone) {
+            this.rules = rules;
+            this.kinds = kinds;
+            this.fields = fields;
+            this.timeZone = timeZone;
+            if (timeZone instanceof GmtTimeZone) {
+                this.zoneRules = null;
+                this.offsetWindow = new OffsetWindow(Long.MIN_VALUE, Long.MAX_VALUE, timeZone.getRawOffset());
+            } else {
+                this.zoneRules = getZoneRules(timeZone);
+                if (zoneRules != null && zoneRules.isFixedOffset() && zoneRules.getOffset(Instant.EPOCH).getTotalSeconds() * 1000 == timeZone.getRawOffset()) {
+                    this.offsetWindow = new OffsetWindow(Long.MIN_VALUE, Long.MAX_VALUE, timeZone.getRawOffset());
+                }
+            }
+        }
+
+        /**
+         * Formats the given instant.
+         *
+         * @param millis the instant to format.
+         * @param buffer the buffer to format into.
+         * @return false, with nothing appended, if the instant must be formatted with a Calendar.
+         * @throws IOException if an I/O error occurs.
+         */
+        boolean format(final long millis, final Appendable buffer) throws IOException {
+            if (millis > MAX_MILLIS || millis < -MAX_MILLIS) {
+                return false;
+            }
+            final int offset = getOffset(millis);
+            final long localMillis = millis + offset;
+            final long epochDay = Math.floorDiv(localMillis, MILLIS_PER_DAY);
+            Day day = lastDay;
+            if (day == null || day.epochDay != epochDay) {
+                day = Day.of(epochDay);
+                if (day == null) {
+                    return false;
+                }
+                lastDay = day;
+            }
+            final int millisOfDay = (int) (localMillis - epochDay * MILLIS_PER_DAY);
+            final int hourOfDay = millisOfDay / 3_600_000;
+
+            for (int i = 0; i < rules.length; i++) {
+                final Rule rule = rules[i];
+                final int value;
+                switch (fields[i]) {
+                case Calendar.ERA:
+                    value = GregorianCalendar.AD;
+                    break;
+                case Calendar.YEAR:
+                    value = day.year;
+                    break;
+                case Calendar.MONTH:
+                    value = day.month;
+                    break;
+                case Calendar.DAY_OF_MONTH:
+                    value = day.dayOfMonth;
+                    break;
+                case Calendar.DAY_OF_YEAR:
+                    value = day.dayOfYear;
+                    break;
+                case Calendar.DAY_OF_WEEK:
+                    value = day.dayOfWeek;
+                    break;
+                case Calendar.AM_PM:
+                    value = hourOfDay < 12 ? Calendar.AM : Calendar.PM;
+                    break;
+                case Calendar.HOUR:
+                    value = hourOfDay % 12;
+                    break;
+                case Calendar.HOUR_OF_DAY:
+                    value = hourOfDay;
+                    break;
+                case Calendar.MINUTE:
+                    value = millisOfDay / 60_000 % 60;
+                    break;
+                case Calendar.SECOND:
+                    value = millisOfDay / 1000 % 60;
+                    break;
+                case Calendar.MILLISECOND:
+                    value = millisOfDay % 1000;
+                    break;
+                default:
+                    value = 0;
+                    break;
+                }
+                switch (kinds[i]) {
+                case LITERAL:
+                    // Literals ignore the Calendar.
+                    rule.appendTo(buffer, null);
+                    break;
+                case NUMBER:
+                    ((NumberRule) rule).appendTo(buffer, value);
+                    break;
+                case MONTH_NUMBER:
+                    ((NumberRule) rule).appendTo(buffer, value + 1);
+                    break;
+                case TWELVE_HOUR:
+                    ((NumberRule) rule).appendTo(buffer, value == 0 ? 12 : value);
+                    break;
+                case TWENTY_FOUR_HOUR:
+                    ((NumberRule) rule).appendTo(buffer, value == 0 ? 24 : value);
+                    break;
+                case DAY_IN_WEEK:
+                    ((NumberRule) rule).appendTo(buffer, value == Calendar.SUNDAY ? 7 : value - 1);
+                    break;
+                case TEXT:
+                    buffer.append(((TextField) rule).values[value]);
+                    break;
+                case ISO_8601:
+                    ((Iso8601_Rule) rule).appendTo(buffer, offset);
+                    break;
+                default:
+                    ((TimeZoneNumberRule) rule).appendTo(buffer, offset);
+                    break;
+                }
+            }
+            return true;
+        }
+
+        /**
+         * Gets the offset of the time zone at the given instant, from the cached window when possible.
+         *
+         * @param millis the instant.
+         * @return the offset in milliseconds.
+         */
+        private int getOffset(final long millis) {
+            final OffsetWindow window = offsetWindow;
+            if (window != null && millis >= window.start && millis < window.end) {
+                return window.offset;
+            }
+            final int offset = timeZone.getOffset(millis);
+            if (zoneRules != null) {
+                final long start = Math.floorDiv(millis, MILLIS_PER_DAY) * MILLIS_PER_DAY;
+                final long end = start + MILLIS_PER_DAY;
+                final ZoneOffsetTransition next = zoneRules.nextTransition(Instant.ofEpochMilli(start));
+                // Only cache the day when the TimeZone and the ZoneRules agree there is no transition in it.
+                if ((next == null || next.toEpochSecond() * 1000 >= end)
+                        && zoneRules.getOffset(Instant.ofEpochMilli(millis)).getTotalSeconds() * 1000 == offset
+                        && timeZone.getOffset(start) == offset && timeZone.getOffset(end - 1) == offset) {
+                    offsetWindow = new OffsetWindow(start, end, offset);
+                }
+            }
+            return offset;
+        }
+    }
     /**
      * Inner class to output a padded number.
      */
@@ -516,9 +894,17 @@ private static class TimeZoneNumberRule implements Rule {
          */
         @Override
         public void appendTo(final Appendable buffer, final Calendar calendar) throws IOException {
+            appendTo(buffer, calendar.get(Calendar.ZONE_OFFSET) + calendar.get(Calendar.DST_OFFSET));
+        }
 
-            int offset = calendar.get(Calendar.ZONE_OFFSET) + calendar.get(Calendar.DST_OFFSET);
-
+        /**
+         * Appends the given offset to the output buffer.
+         *
+         * @param buffer the output buffer
+         * @param offset the offset from UTC in milliseconds
+         * @throws IOException if an I/O error occurs.
+         */
+        void appendTo(final Appendable buffer, int offset) throws IOException {
             if (offset < 0) {
                 buffer.append('-');
                 offset = -offset;
@@ -1031,6 +1417,11 @@ static String getTimeZoneDisplay(final TimeZone tz, final boolean daylight, fina
      */
     private transient int maxLengthEstimate;
 
+    /**
+     * Formats epoch milliseconds without a Calendar, null if the rules need one.
+     */
+    private transient NumericPrinter numericPrinter;
+
     // Constructor
     /**
      * Constructs a new FastDatePrinter.
@@ -1083,15 +1474,6 @@ protected StringBuffer applyRules(final Calendar calendar, final StringBuffer bu
         return (StringBuffer) applyRules(calendar, (Appendable) buf);
     }
 
-    /**
-     * Creates a String representation of the given Calendar by applying the rules of this printer to it.
-     * @param c the Calendar to apply the rules to.
-     * @return a String representation of the given Calendar.
-     */
-    private String applyRulesToString(final Calendar c) {
-        return applyRules(c, new StringBuilder(maxLengthEstimate)).toString();
-    }
-
     // Basics
     /**
      * Compares two objects for equality.
@@ -1145,9 +1527,7 @@ public StringBuffer format(final Calendar calendar, final StringBuffer buf) {
      */
     @Override
     public String format(final Date date) {
-        final Calendar c = newCalendar();
-        c.setTime(date);
-        return applyRulesToString(c);
+        return format(date.getTime());
     }
 
     /* (non-Javadoc)
@@ -1155,9 +1535,7 @@ public String format(final Date date) {
      */
     @Override
     public <B extends Appendable> B format(final Date date, final B buf) {
-        final Calendar c = newCalendar();
-        c.setTime(date);
-        return applyRules(c, buf);
+        return format(date.getTime(), buf);
     }
 
     /* (non-Javadoc)
@@ -1165,9 +1543,7 @@ public <B extends Appendable> B format(final Date date, final B buf) {
      */
     @Override
     public StringBuffer format(final Date date, final StringBuffer buf) {
-        final Calendar c = newCalendar();
-        c.setTime(date);
-        return (StringBuffer) applyRules(c, (Appendable) buf);
+        return format(date.getTime(), buf);
     }
 
     /* (non-Javadoc)
@@ -1175,9 +1551,7 @@ public StringBuffer format(final Date date, final StringBuffer buf) {
      */
     @Override
     public String format(final long millis) {
-        final Calendar c = newCalendar();
-        c.setTimeInMillis(millis);
-        return applyRulesToString(c);
+        return format(millis, new StringBuilder(maxLengthEstimate)).toString();
     }
 
     /* (non-Javadoc)
@@ -1185,19 +1559,94 @@ public String format(final long millis) {
      */
     @Override
     public <B extends Appendable> B format(final long millis, final B buf) {
+        if (numericPrinter != null) {
+            try {
+                if (numericPrinter.format(millis, buf)) {
+                    return buf;
+                }
+            } catch (final IOException ioe) {
+                ExceptionUtils.asRuntimeException(ioe);
+            }
+        }
         final Calendar c = newCalendar();
         c.setTimeInMillis(millis);
         return applyRules(c, buf);
     }
 
+    /**
+     * Formats millisecond {@code long} values.
+     * <p>
+     * Values of the same day share their date fields and values that need a Calendar share a single Calendar.
+     * </p>
+     *
+     * @param millis  the millisecond values to format
+     * @return the formatted strings, in the order of the values
+     * @since 3.18.0
+     */
+    @Override
+    public String[] format(final long[] millis) {
+        final String[] result = new String[millis.length];
+        final StringBuilder buf = new StringBuilder(maxLengthEstimate);
+        Calendar calendar = null;
+        try {
+            for (int i = 0; i < millis.length; i++) {
+                buf.setLength(0);
+                if (numericPrinter == null || !numericPrinter.format(millis[i], buf)) {
+                    if (calendar == null) {
+                        calendar = newCalendar();
+                    }
+                    calendar.setTimeInMillis(millis[i]);
+                    applyRules(calendar, buf);
+                }
+                result[i] = buf.toString();
+            }
+        } catch (final IOException ioe) {
+            ExceptionUtils.asRuntimeException(ioe);
+        }
+        return result;
+    }
+
+    /**
+     * Formats millisecond {@code long} values into the supplied {@link Appendable}.
+     * <p>
+     * Values of the same day share their date fields and values that need a Calendar share a single Calendar.
+     * </p>
+     *
+     * @param millis  the millisecond values to format
+     * @param separator  the separator to append between two values, null means no separator
+     * @param buf  the buffer to format into
+     * @param <B> the Appendable class type, usually StringBuilder or StringBuffer.
+     * @return the specified string buffer
+     * @since 3.18.0
+     */
+    @Override
+    public <B extends Appendable> B format(final long[] millis, final CharSequence separator, final B buf) {
+        Calendar calendar = null;
+        try {
+            for (int i = 0; i < millis.length; i++) {
+                if (i > 0 && separator != null) {
+                    buf.append(separator);
+                }
+                if (numericPrinter == null || !numericPrinter.format(millis[i], buf)) {
+                    if (calendar == null) {
+                        calendar = newCalendar();
+                    }
+                    calendar.setTimeInMillis(millis[i]);
+                    applyRules(calendar, buf);
+                }
+            }
+        } catch (final IOException ioe) {
+            ExceptionUtils.asRuntimeException(ioe);
+        }
+        return buf;
+    }
+
     /* (non-Javadoc)
      * @see org.apache.commons.lang3.time.DatePrinter#format(long, StringBuffer)
      */
     @Override
     public StringBuffer format(final long millis, final StringBuffer buf) {
-        final Calendar c = newCalendar();
-        c.setTimeInMillis(millis);
-        return (StringBuffer) applyRules(c, (Appendable) buf);
+        return (StringBuffer) format(millis, (Appendable) buf);
     }
 
     /**
@@ -1306,6 +1755,7 @@ private void init() {
         }
 
         maxLengthEstimate = len;
+        numericPrinter = NumericPrinter.compile(rules, timeZone, newCalendar());
     }
 
     /**
@@ -0,0 +1,251 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.lang3.util;
+
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+
+import org.apache.commons.lang3.Validate;
+
+/**
+ * A concurrent cache with an optional maximum size.
+ * <p>
+ * Reads are a plain {@link ConcurrentHashMap#get(Object)} followed by a bump of a small saturating use counter, they never lock. When an insert takes the
+ * cache over its maximum size, a clock hand sweeps the entries, decrementing the use counters and evicting entries whose counter is already zero. Entries
+ * that are used often survive several sweeps while entries used once, for example for a one-off pattern, go first; this approximates LRU with a frequency
+ * bias in the spirit of TinyLFU without any per-read bookkeeping beyond the counter.
+ * </p>
+ * <p>
+ * Values are computed outside of the map, so that a slow computation does not block other keys; concurrent misses of the same key may compute it more
+ * than once, but all of them return the value that was cached first. A value that fails to compute is not cached.
+ * </p>
+ *
+ * @param <K> The key type.
+ * @param <V> The value type.
+ * @since 3.18.0
+ */
+public final class EvictingCache<K, V> {
+
+    /**
+     * A cached value and its use counter.
+     *
+     * @param <V> The value type.
+     */
+    private static final class Entry<V> {
+
+        private final V value;
+
+        /** Racy updates only make the eviction order less exact, never wrong. */
+        private volatile int uses = 1;
+
+        Entry(final V value) {
+            this.value = value;
+        }
+
+        V get() {
+            if (uses < MAX_USES) {
+                uses++;
+            }
+            return value;
+        }
+    }
+
+    /** The value of an unbounded cache's maximum size. */
+    public static final int UNBOUNDED = Integer.MAX_VALUE;
+
+    /** The number of sweeps a frequently used entry survives. */
+    private static final int MAX_USES = 3;
+
+    private final ConcurrentMap<K, Entry<V>> map = new ConcurrentHashMap<>(7);
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+    private volatile int maximumSize;
+
+    /** The clock hand, guarded by this. */
+    private Iterator<Map.Entry<K, Entry<V>>> hand;
+
+    /**
+     * Constructs a new unbounded cache.
+     */
+    public EvictingCache() {
+        this(UNBOUNDED);
+    }
+
+    /**
+     * Constructs a new cache with the given maximum size.
+     *
+     * @param maximumSize the maximum size, {@link #UNBOUNDED} for an unbounded cache, 0 for a cache that never holds a value.
+     * @throws IllegalArgumentException if the maximum size is negative.
+     */
+    public EvictingCache(final int maximumSize) {
+        Validate.isTrue(maximumSize >= 0, "maximumSize must not be negative: %d", maximumSize);
+        this.maximumSize = maximumSize;
+    }
+
+    /**
+     * Removes all entries, the statistics are kept.
+     */
+    public void clear() {
+        map.clear();
+    }
+
+    /**
+     * Gets the value for the given key, computing and caching it with the given function if it is absent.
+     *
+     * @param key the key, not null.
+     * @param function the function computing a non-null value for an absent key.
+     * @return the cached value, or the computed value if the maximum size is 0.
+     * @throws NullPointerException if the key or the computed value is null.
+     */
+    public V computeIfAbsent(final K key, final Function<? super K, ? extends V> function) {
+        final V cached = get(key);
+        if (cached != null) {
+            return cached;
+        }
+        final V value = Objects.requireNonNull(function.apply(key), "value");
+        if (maximumSize == 0) {
+            return value;
+        }
+        final Entry<V> previous = map.putIfAbsent(key, new Entry<>(value));
+        if (previous != null) {
+            return previous.get();
+        }
+        evictIfFull();
+        return value;
+    }
+
+    /**
+     * Evicts entries until the cache is back to its maximum size.
+     */
+    private synchronized void evict() {
+        while (map.size() > maximumSize) {
+            if (hand == null || !hand.hasNext()) {
+                hand = map.entrySet().iterator();
+                if (!hand.hasNext()) {
+                    return;
+                }
+            }
+            final Map.Entry<K, Entry<V>> next = hand.next();
+            final Entry<V> entry = next.getValue();
+            final int uses = entry.uses;
+            if (uses > 0) {
+                entry.uses = uses - 1;
+            } else if (map.remove(next.getKey(), entry)) {
+                evictions.increment();
+            }
+        }
+    }
+
+    private void evictIfFull() {
+        if (map.size() > maximumSize) {
+            evict();
+        }
+    }
+
+    /**
+     * Gets the cached value for the given key, counting a hit or a miss.
+     *
+     * @param key the key, not null.
+     * @return the cached value, null if the key is absent.
+     */
+    public V get(final K key) {
+        final Entry<V> entry = map.get(key);
+        if (entry == null) {
+            misses.increment();
+            return null;
+        }
+        hits.increment();
+        return entry.get();
+    }
+
+    /**
+     * Gets the maximum size.
+     *
+     * @return the maximum size, {@link #UNBOUNDED} if the cache is unbounded.
+     */
+    public int getMaximumSize() {
+        return maximumSize;
+    }
+
+    /**
+     * Gets a snapshot of the statistics of this cache.
+     *
+     * @return the statistics of this cache.
+     */
+    public CacheStatistics getStatistics() {
+        return new CacheStatistics(map.size(), hits.sum(), misses.sum(), evictions.sum());
+    }
+
+    /**
+     * Caches the given value for the given key, replacing any cached value, unless the maximum size is 0.
+     *
+     * @param key the key, not null.
+     * @param value the value, not null.
+     * @throws NullPointerException if the key or the value is null.
+     */
+    public void put(final K key, final V value) {
+        Objects.requireNonNull(value, "value");
+        if (maximumSize == 0) {
+            return;
+        }
+        map.put(key, new Entry<>(value));
+        evictIfFull();
+    }
+
+    /**
+     * Removes the entry for the given key if it is cached with the given value.
+     *
+     * @param key the key.
+     * @param value the value, compared by identity.
+     * @return whether the entry was removed.
+     */
+    public boolean remove(final K key, final V value) {
+        final Entry<V> entry = map.get(key);
+        return entry != null && entry.value == value && map.remove(key, entry);
+    }
+
+    /**
+     * Sets the maximum size, evicting entries if the cache is larger.
+     *
+     * @param maximumSize the maximum size, {@link #UNBOUNDED} for an unbounded cache, 0 for a cache that never holds a value.
+     * @throws IllegalArgumentException if the maximum size is negative.
+     */
+    public void setMaximumSize(final int maximumSize) {
+        Validate.isTrue(maximumSize >= 0, "maximumSize must not be negative: %d", maximumSize);
+        this.maximumSize = maximumSize;
+        if (maximumSize == 0) {
+            map.clear();
+        } else {
+            evictIfFull();
+        }
+    }
+
+    /**
+     * Gets the number of cached entries.
+     *
+     * @return the number of cached entries.
+     */
+    public int size() {
+        return map.size();
+    }
+}
@@ -0,0 +1,114 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.lang3;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks {@link ArrayUtils} add and remove methods on primitive and object arrays.
+ * <p>
+ * Run with {@code mvn -Pbenchmark -Dbenchmark=ArrayUtilsBenchmark}.
+ * </p>
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Thread)
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class ArrayUtilsBenchmark {
+
+    @Param({ "16", "1024" })
+    private int size;
+
+    private int[] ints;
+
+    private String[] strings;
+
+    private int[] indices;
+
+    @Benchmark
+    public int[] addInt() {
+        return ArrayUtils.add(ints, 42);
+    }
+
+    @Benchmark
+    public int[] insertInt() {
+        return ArrayUtils.insert(size / 2, ints, 42);
+    }
+
+    @Benchmark
+    public String[] addObject() {
+        return ArrayUtils.add(strings, "x");
+    }
+
+    @Benchmark
+    public String[] insertObject() {
+        return ArrayUtils.insert(size / 2, strings, "x");
+    }
+
+    @Benchmark
+    public int[] removeAllInt() {
+        return ArrayUtils.removeAll(ints, indices);
+    }
+
+    @Benchmark
+    public String[] removeAllObject() {
+        return ArrayUtils.removeAll(strings, indices);
+    }
+
+    @Benchmark
+    public int[] removeElementInt() {
+        return ArrayUtils.removeElement(ints, size / 2);
+    }
+
+    @Benchmark
+    public int[] removeInt() {
+        return ArrayUtils.remove(ints, size / 2);
+    }
+
+    @Benchmark
+    public String[] removeObject() {
+        return ArrayUtils.remove(strings, size / 2);
+    }
+
+    @Setup
+    public void setUp() {
+        ints = new int[size];
+        strings = new String[size];
+        for (int i = 0; i < size; i++) {
+            ints[i] = i;
+            strings[i] = String.valueOf(i);
+        }
+        indices = new int[size / 4];
+        for (int i = 0; i < indices.length; i++) {
+            indices[i] = i * 4;
+        }
+    }
+}
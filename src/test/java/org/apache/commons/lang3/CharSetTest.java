@@ -26,6 +26,7 @@
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import java.lang.reflect.Modifier;
+import java.util.stream.Stream;
 
 import org.junit.jupiter.api.Test;
 
@@ -360,6 +361,24 @@ public void testContains_Char() {
         assertEquals(1, array.length);
     }
 
+    @Test
+    public void testContains_CharAscii() {
+        for (final String definition : new String[] { "a-z", "^a-z", "^a", "a-e^m-o", "\u0000-\u007f", "^\u0000-\u007f", "x-\u00ff" }) {
+            final CharSet set = CharSet.getInstance(definition);
+            final CharRange[] ranges = set.getCharRanges();
+            for (char ch = 0; ch < 256; ch++) {
+                final char c = ch;
+                assertEquals(Stream.of(ranges).anyMatch(range -> range.contains(c)), set.contains(ch), definition + " / " + (int) ch);
+            }
+        }
+        final CharSet set = new CharSet("a");
+        assertFalse(set.contains('b'));
+        set.add("b");
+        assertTrue(set.contains('b'));
+        assertFalse(SerializationUtils.clone(set).contains('c'));
+        assertTrue(SerializationUtils.clone(set).contains('b'));
+    }
+
     @Test
     public void testEquals_Object() {
         final CharSet abc = CharSet.getInstance("abc");
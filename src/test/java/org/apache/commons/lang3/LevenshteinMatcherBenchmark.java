@@ -0,0 +1,109 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.lang3;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks {@link LevenshteinMatcher} against {@link StringUtils#getLevenshteinDistance(CharSequence, CharSequence)} matching a query against 1000
+ * candidates of about the same length.
+ * <p>
+ * Run with {@code mvn -Pbenchmark -Dbenchmark=LevenshteinMatcherBenchmark}.
+ * </p>
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Thread)
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@SuppressWarnings("deprecation") // deliberate use of deprecated code
+public class LevenshteinMatcherBenchmark {
+
+    private static final int THRESHOLD = 3;
+
+    @Param({ "12", "200" })
+    private int length;
+
+    private String query;
+
+    private String[] candidates;
+
+    private LevenshteinMatcher matcher;
+
+    @Benchmark
+    public int[] matcher() {
+        return matcher.distances(candidates);
+    }
+
+    @Benchmark
+    public int[] matcherThreshold() {
+        return matcher.distances(candidates, THRESHOLD);
+    }
+
+    @Benchmark
+    public int[] parallelMatcher() {
+        return matcher.parallelDistances(candidates);
+    }
+
+    @Setup
+    public void setup() {
+        final Random random = new Random(1);
+        query = RandomStringUtils.insecure().nextAlphabetic(length);
+        candidates = new String[1000];
+        for (int i = 0; i < candidates.length; i++) {
+            // A few edits away from the query, like the results of a fuzzy search.
+            final StringBuilder candidate = new StringBuilder(query);
+            for (int edit = random.nextInt(6); edit > 0; edit--) {
+                candidate.setCharAt(random.nextInt(candidate.length()), (char) ('a' + random.nextInt(26)));
+            }
+            candidates[i] = candidate.toString();
+        }
+        matcher = LevenshteinMatcher.of(query);
+    }
+
+    @Benchmark
+    public int[] stringUtils() {
+        final int[] distances = new int[candidates.length];
+        for (int i = 0; i < candidates.length; i++) {
+            distances[i] = StringUtils.getLevenshteinDistance(query, candidates[i]);
+        }
+        return distances;
+    }
+
+    @Benchmark
+    public int[] stringUtilsThreshold() {
+        final int[] distances = new int[candidates.length];
+        for (int i = 0; i < candidates.length; i++) {
+            distances[i] = StringUtils.getLevenshteinDistance(query, candidates[i], THRESHOLD);
+        }
+        return distances;
+    }
+}
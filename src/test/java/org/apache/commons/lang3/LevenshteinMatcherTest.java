@@ -0,0 +1,114 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.lang3;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests {@link LevenshteinMatcher}.
+ */
+@SuppressWarnings("deprecation") // deliberate use of deprecated code
+public class LevenshteinMatcherTest extends AbstractLangTest {
+
+    private static final char[] QUERY_CHARS = "abc\u00e9\uD840\uDC00".toCharArray();
+
+    private static final char[] TEXT_CHARS = "abcd\u00e9\uD840\uDC00".toCharArray();
+
+    private static final char[] ABCD = "abcd".toCharArray();
+
+    private static void testLikeStringUtils(final int maxLength, final int maxThreshold) {
+        final Random random = new Random(maxLength);
+        for (int i = 0; i < 500; i++) {
+            final String query = RandomStringUtils.random(random.nextInt(maxLength + 1), 0, 0, false, false, QUERY_CHARS, random);
+            final LevenshteinMatcher matcher = LevenshteinMatcher.of(query);
+            for (int j = 0; j < 20; j++) {
+                final String text = RandomStringUtils.random(random.nextInt(maxLength + 1), 0, 0, false, false, TEXT_CHARS, random);
+                final int threshold = random.nextInt(maxThreshold + 1);
+                final String message = query + " / " + text + " / " + threshold;
+                assertEquals(StringUtils.getLevenshteinDistance(query, text), matcher.distance(text), message);
+                assertEquals(StringUtils.getLevenshteinDistance(query, text, threshold), matcher.distance(new StringBuilder(text), threshold), message);
+            }
+        }
+    }
+
+    @Test
+    public void testBatch() {
+        final Random random = new Random(1);
+        final CharSequence[] texts = new CharSequence[200];
+        for (int i = 0; i < texts.length; i++) {
+            texts[i] = RandomStringUtils.random(random.nextInt(101), 0, 0, false, false, ABCD, random);
+        }
+        final LevenshteinMatcher matcher = LevenshteinMatcher.of(RandomStringUtils.random(random.nextInt(101), 0, 0, false, false, ABCD, random));
+        final int[] expected = new int[texts.length];
+        final int[] expectedThreshold = new int[texts.length];
+        for (int i = 0; i < texts.length; i++) {
+            expected[i] = StringUtils.getLevenshteinDistance(matcher.getQuery(), texts[i]);
+            expectedThreshold[i] = StringUtils.getLevenshteinDistance(matcher.getQuery(), texts[i], 40);
+        }
+        assertArrayEquals(expected, matcher.distances(texts));
+        assertArrayEquals(expected, matcher.parallelDistances(texts));
+        assertArrayEquals(expectedThreshold, matcher.distances(texts, 40));
+        for (int chunks = 1; chunks < 10; chunks++) {
+            assertArrayEquals(expected, matcher.parallelDistances(texts, Integer.MAX_VALUE, chunks));
+            assertArrayEquals(expectedThreshold, matcher.parallelDistances(texts, 40, chunks));
+        }
+        assertArrayEquals(new int[0], matcher.parallelDistances(new CharSequence[0], 0, 4));
+    }
+
+    @Test
+    public void testExamples() {
+        assertEquals(3, LevenshteinMatcher.of("kitten").distance("sitting"));
+        assertEquals(-1, LevenshteinMatcher.of("kitten").distance("sitting", 2));
+        assertArrayEquals(new int[] { 0, 1, 3 }, LevenshteinMatcher.of("kitten").distances(new String[] { "kitten", "mitten", "sitting" }));
+        assertEquals(7, LevenshteinMatcher.of("elephant").distance("hippo"));
+        assertEquals(-1, LevenshteinMatcher.of("elephant").distance("hippo", 6));
+        assertEquals(7, LevenshteinMatcher.of("").distance("aaapppp"));
+        assertEquals(7, LevenshteinMatcher.of("aaapppp").distance(""));
+        assertEquals(0, LevenshteinMatcher.of("").distance("", 0));
+        assertEquals("LevenshteinMatcher[frog]", LevenshteinMatcher.of("frog").toString());
+    }
+
+    @Test
+    public void testLikeStringUtilsLongQueries() {
+        // several blocks, with the banded and bit-parallel computations.
+        testLikeStringUtils(200, 60);
+    }
+
+    @Test
+    public void testLikeStringUtilsShortQueries() {
+        testLikeStringUtils(12, 6);
+        testLikeStringUtils(64, 20);
+    }
+
+    @Test
+    public void testNull() {
+        assertThrows(NullPointerException.class, () -> LevenshteinMatcher.of(null));
+        final LevenshteinMatcher matcher = LevenshteinMatcher.of("a");
+        assertThrows(NullPointerException.class, () -> matcher.distance(null));
+        assertThrows(NullPointerException.class, () -> matcher.distance(null, 1));
+        assertThrows(IllegalArgumentException.class, () -> matcher.distance("a", -1));
+        assertThrows(NullPointerException.class, () -> matcher.distances(null));
+        assertThrows(IllegalArgumentException.class, () -> matcher.distances(new String[] { "a", null }));
+        assertThrows(IllegalArgumentException.class, () -> matcher.parallelDistances(new String[] { "a" }, -1));
+    }
+}
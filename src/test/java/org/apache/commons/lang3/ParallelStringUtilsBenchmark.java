@@ -0,0 +1,112 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.lang3;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks the chunked parallel {@link ParallelStringUtils} against the sequential {@link StringUtils} for increasing input sizes, to find the size
+ * from which splitting the work pays off on a given machine, see {@link ParallelStringUtils#THRESHOLD}.
+ * <p>
+ * The parallel benchmarks force the chunked code whatever the input size. Run with {@code mvn -Pbenchmark -Dbenchmark=ParallelStringUtilsBenchmark}.
+ * </p>
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class ParallelStringUtilsBenchmark {
+
+    @Param({ "16384", "262144", "1048576", "16777216" })
+    private int length;
+
+    private String text;
+
+    private Object[] array;
+
+    private int chunks;
+
+    @Benchmark
+    public int countMatchesParallel() {
+        return ParallelStringUtils.countMatches(text, "${var}", chunks);
+    }
+
+    @Benchmark
+    public int countMatchesSequential() {
+        return StringUtils.countMatches(text, "${var}");
+    }
+
+    @Benchmark
+    public int indexOfAnyParallel() {
+        return ParallelStringUtils.indexOfAny(text, new char[] { '#', '!' }, chunks);
+    }
+
+    @Benchmark
+    public int indexOfAnySequential() {
+        return StringUtils.indexOfAny(text, '#', '!');
+    }
+
+    @Benchmark
+    public String joinParallel() {
+        return ParallelStringUtils.join(array, ",", chunks);
+    }
+
+    @Benchmark
+    public String joinSequential() {
+        return StringUtils.join(array, ",");
+    }
+
+    @Benchmark
+    public String replaceParallel() {
+        return ParallelStringUtils.replace(text, "${var}", "value", chunks);
+    }
+
+    @Benchmark
+    public String replaceSequential() {
+        return StringUtils.replace(text, "${var}", "value");
+    }
+
+    @Setup
+    public void setUp() {
+        chunks = Math.max(2, ForkJoinPool.getCommonPoolParallelism()) * 4;
+        final StringBuilder builder = new StringBuilder(length + 64);
+        while (builder.length() < length) {
+            builder.append("lorem ipsum ${var} dolor sit amet ");
+        }
+        text = builder.toString();
+        // Join an array of as many elements as the text has chars, divided by the average length of an element.
+        array = new Object[length / 8];
+        for (int i = 0; i < array.length; i++) {
+            array[i] = Integer.valueOf(i);
+        }
+    }
+}
@@ -0,0 +1,130 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.lang3;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests {@link ParallelStringUtils}.
+ * <p>
+ * The package-private methods take the number of chunks, so that the chunked code runs on inputs smaller than the threshold and on a single core.
+ * </p>
+ */
+public class ParallelStringUtilsTest extends AbstractLangTest {
+
+    @Test
+    public void testContainsAny() {
+        final Random random = new Random(1);
+        for (int i = 0; i < 5_000; i++) {
+            final String str = RandomStringUtils.random(random.nextInt(40 + 1), 0, 0, false, false, "abc\uD840\uDC00".toCharArray(), random);
+            final char[] searchChars = RandomStringUtils.random(random.nextInt(2 + 1), 0, 0, false, false, "c\uD840\uDC00".toCharArray(), random).toCharArray();
+            final int chunks = 1 + random.nextInt(8);
+            assertEquals(StringUtils.containsAny(str, searchChars), ParallelStringUtils.containsAny(str, searchChars, chunks), str);
+        }
+        // a surrogate pair split by a chunk boundary
+        for (int chunks = 1; chunks < 8; chunks++) {
+            assertTrue(ParallelStringUtils.containsAny("ab\uD840\uDC00ab", new char[] { '\uD840', '\uDC00' }, chunks));
+            assertFalse(ParallelStringUtils.containsAny("ab\uD840ab\uDC01", new char[] { '\uD840', '\uDC00' }, chunks));
+        }
+        assertFalse(ParallelStringUtils.containsAny(null, 'a'));
+        assertTrue(ParallelStringUtils.containsAny("abc", 'c'));
+    }
+
+    @Test
+    public void testCountMatches() {
+        final Random random = new Random(1);
+        for (int i = 0; i < 5_000; i++) {
+            final String str = RandomStringUtils.random(random.nextInt(60 + 1), 0, 0, false, false, "ab".toCharArray(), random);
+            final String sub = RandomStringUtils.random(random.nextInt(3 + 1), 0, 0, false, false, "ab".toCharArray(), random);
+            final int chunks = 1 + random.nextInt(8);
+            assertEquals(StringUtils.countMatches(str, sub), ParallelStringUtils.countMatches(new StringBuilder(str), sub, chunks), str + " / " + sub);
+        }
+        assertEquals(0, ParallelStringUtils.countMatches(null, "a"));
+        assertEquals(2, ParallelStringUtils.countMatches("aaaa", "aa"));
+    }
+
+    @Test
+    public void testIndexOfAny() {
+        final Random random = new Random(1);
+        for (int i = 0; i < 5_000; i++) {
+            final String str = RandomStringUtils.random(random.nextInt(40 + 1), 0, 0, false, false, "abc\uD840\uDC00".toCharArray(), random);
+            final char[] searchChars = RandomStringUtils.random(random.nextInt(2 + 1), 0, 0, false, false, "c\uD840\uDC00".toCharArray(), random).toCharArray();
+            final int chunks = 1 + random.nextInt(8);
+            assertEquals(StringUtils.indexOfAny(str, searchChars), ParallelStringUtils.indexOfAny(str, searchChars, chunks), str);
+        }
+        for (int chunks = 1; chunks < 8; chunks++) {
+            assertEquals(2, ParallelStringUtils.indexOfAny("ab\uD840\uDC00ab", new char[] { '\uD840', '\uDC00' }, chunks));
+            assertEquals(-1, ParallelStringUtils.indexOfAny("ab\uD840ab\uDC01", new char[] { '\uD840', '\uDC00' }, chunks));
+        }
+        assertEquals(-1, ParallelStringUtils.indexOfAny(null, 'a'));
+        assertEquals(2, ParallelStringUtils.indexOfAny("abc", 'c'));
+    }
+
+    @Test
+    public void testJoin() {
+        final Random random = new Random(1);
+        for (int i = 0; i < 1_000; i++) {
+            final Object[] array = new Object[random.nextInt(20)];
+            for (int j = 0; j < array.length; j++) {
+                array[j] = random.nextInt(4) == 0 ? null : Integer.valueOf(j);
+            }
+            final String delimiter = random.nextBoolean() ? null : ", ";
+            final int chunks = 1 + random.nextInt(8);
+            assertEquals(StringUtils.join(array, delimiter), ParallelStringUtils.join(array, delimiter, chunks));
+        }
+        assertNull(ParallelStringUtils.join(null, ","));
+        assertEquals("a,b", ParallelStringUtils.join(new Object[] { "a", "b" }, ","));
+    }
+
+    @Test
+    public void testLargeInput() {
+        final StringBuilder builder = new StringBuilder(ParallelStringUtils.THRESHOLD + 100);
+        while (builder.length() < ParallelStringUtils.THRESHOLD) {
+            builder.append("lorem ipsum ${var} dolor sit amet ");
+        }
+        final String text = builder.toString();
+        assertEquals(StringUtils.countMatches(text, "${var}"), ParallelStringUtils.countMatches(text, "${var}"));
+        assertEquals(StringUtils.replace(text, "${var}", "value"), ParallelStringUtils.replace(text, "${var}", "value"));
+        assertEquals(-1, ParallelStringUtils.indexOfAny(text, '#', '!'));
+        assertTrue(ParallelStringUtils.containsAny(text, '$'));
+    }
+
+    @Test
+    public void testReplace() {
+        final Random random = new Random(1);
+        for (int i = 0; i < 5_000; i++) {
+            final String text = RandomStringUtils.random(random.nextInt(60 + 1), 0, 0, false, false, "abc".toCharArray(), random);
+            final String search = RandomStringUtils.random(random.nextInt(3 + 1), 0, 0, false, false, "abc".toCharArray(), random);
+            final String replacement = RandomStringUtils.random(random.nextInt(3 + 1), 0, 0, false, false, "xy".toCharArray(), random);
+            final int chunks = 1 + random.nextInt(8);
+            assertEquals(StringUtils.replace(text, search, replacement), ParallelStringUtils.replace(text, search, replacement, chunks),
+                    text + " / " + search);
+        }
+        final String text = "abcabcabc";
+        assertSame(text, ParallelStringUtils.replace(text, "x", "y", 3));
+        assertNull(ParallelStringUtils.replace(null, "a", "b"));
+        assertEquals("xbcxbcxbc", ParallelStringUtils.replace(text, "a", "x", 3));
+    }
+}
@@ -17,13 +17,16 @@
 package org.apache.commons.lang3;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
 import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import java.util.regex.Pattern;
 import java.util.regex.PatternSyntaxException;
 
+import org.apache.commons.lang3.util.CacheStatistics;
 import org.junit.jupiter.api.Test;
 
 /**
@@ -47,6 +50,52 @@ public void testDotAllMatcherDeprecated() {
         assertTrue(RegExUtils.dotAllMatcher("<A>.*</A>", "<A>\nxy\n</A>").matches());
     }
 
+    @Test
+    public void testPatternCache() {
+        final int maximumSize = RegExUtils.getPatternCacheMaximumSize();
+        assertEquals(256, maximumSize);
+        try {
+            RegExUtils.setPatternCacheMaximumSize(8);
+            assertEquals(8, RegExUtils.getPatternCacheMaximumSize());
+            final CacheStatistics before = RegExUtils.getPatternCacheStatistics();
+            final Pattern hot = RegExUtils.dotAll("<A>.*</A>");
+            for (int i = 0; i < 50; i++) {
+                assertSame(hot, RegExUtils.dotAll("<A>.*</A>"));
+                assertEquals("x", RegExUtils.replaceAll("a" + i, "a" + i, "x"));
+            }
+            final CacheStatistics after = RegExUtils.getPatternCacheStatistics();
+            assertTrue(after.getSize() <= 8, after::toString);
+            assertTrue(after.getHitCount() - before.getHitCount() >= 50, after::toString);
+            assertTrue(after.getMissCount() - before.getMissCount() >= 50, after::toString);
+            assertTrue(after.getEvictionCount() - before.getEvictionCount() >= 43, after::toString);
+            // The flags are part of the key.
+            assertNotSame(RegExUtils.dotAll("[a-z]"), RegExUtils.compile("[a-z]", 0));
+            assertSame(RegExUtils.compile("[a-z]", 0), RegExUtils.compile("[a-z]", 0));
+            // Invalid expressions are not cached.
+            assertThrows(PatternSyntaxException.class, () -> RegExUtils.replaceAll("any", "{badRegexSyntax}", ""));
+            assertThrows(PatternSyntaxException.class, () -> RegExUtils.replaceAll("any", "{badRegexSyntax}", ""));
+            assertThrows(IllegalArgumentException.class, () -> RegExUtils.setPatternCacheMaximumSize(-1));
+        } finally {
+            RegExUtils.setPatternCacheMaximumSize(maximumSize);
+        }
+    }
+
+    @Test
+    public void testPatternCacheDisabled() {
+        final int maximumSize = RegExUtils.getPatternCacheMaximumSize();
+        try {
+            RegExUtils.dotAll("<A>.*</A>");
+            RegExUtils.setPatternCacheMaximumSize(0);
+            assertEquals(0, RegExUtils.getPatternCacheMaximumSize());
+            assertEquals(0, RegExUtils.getPatternCacheStatistics().getSize());
+            assertNotSame(RegExUtils.dotAll("<A>.*</A>"), RegExUtils.dotAll("<A>.*</A>"));
+            assertEquals("ABC123", RegExUtils.replacePattern("ABCabc123", "[^A-Z0-9]+", ""));
+            assertEquals(0, RegExUtils.getPatternCacheStatistics().getSize());
+        } finally {
+            RegExUtils.setPatternCacheMaximumSize(maximumSize);
+        }
+    }
+
     @Test
     public void testRemoveAll() {
         assertNull(RegExUtils.removeAll((CharSequence) null, Pattern.compile("")));
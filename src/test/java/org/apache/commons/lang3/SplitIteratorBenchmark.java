@@ -0,0 +1,78 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.lang3;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks {@link SplitIterator} against {@link StringUtils#splitPreserveAllTokens(String, String)} for reading two columns of a delimited record.
+ * <p>
+ * Run with {@code mvn -Pbenchmark -Dbenchmark=SplitIteratorBenchmark}.
+ * </p>
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Thread)
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class SplitIteratorBenchmark {
+
+    @Param({ "8", "64" })
+    private int columns;
+
+    private String record;
+
+    @Setup
+    public void setUp() {
+        final StringBuilder builder = new StringBuilder();
+        for (int i = 0; i < columns; i++) {
+            if (i > 0) {
+                builder.append('\t');
+            }
+            builder.append("column value ").append(i);
+        }
+        record = builder.toString();
+    }
+
+    @Benchmark
+    public String splitIterator() {
+        final SplitIterator iterator = SplitIterator.splitPreserveAllTokens(record, "\t");
+        iterator.advance();
+        final String second = iterator.next().toString();
+        iterator.advance();
+        return second + iterator.next();
+    }
+
+    @Benchmark
+    public String splitPreserveAllTokens() {
+        final String[] tokens = StringUtils.splitPreserveAllTokens(record, "\t");
+        return tokens[1] + tokens[3];
+    }
+}
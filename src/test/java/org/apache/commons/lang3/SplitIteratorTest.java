@@ -0,0 +1,123 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.lang3;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests {@link SplitIterator}.
+ */
+public class SplitIteratorTest extends AbstractLangTest {
+
+    private static String[] toArray(final SplitIterator iterator) {
+        final List<String> list = new ArrayList<>();
+        iterator.forEachRemaining(token -> list.add(token.toString()));
+        return list.toArray(ArrayUtils.EMPTY_STRING_ARRAY);
+    }
+
+    @Test
+    public void testAdvance() {
+        final String str = "ab::cd:ef";
+        final SplitIterator iterator = SplitIterator.splitPreserveAllTokens(str, ":");
+        assertThrows(IllegalStateException.class, iterator::start);
+        assertThrows(IllegalStateException.class, iterator::end);
+        assertTrue(iterator.advance());
+        assertEquals(0, iterator.start());
+        assertEquals(2, iterator.end());
+        assertTrue(iterator.advance());
+        assertEquals(3, iterator.start());
+        assertEquals(3, iterator.end());
+        assertEquals("cd", iterator.next().toString());
+        assertEquals(4, iterator.start());
+        assertEquals(6, iterator.end());
+        assertTrue(iterator.advance());
+        assertEquals("ef", str.substring(iterator.start(), iterator.end()));
+        assertFalse(iterator.advance());
+        assertFalse(iterator.hasNext());
+        assertThrows(NoSuchElementException.class, iterator::next);
+    }
+
+    @Test
+    public void testLikeSplit() {
+        final Random random = new Random(1);
+        final char[] strChars = "ab: \t-".toCharArray();
+        final char[] separatorSet = ":- ".toCharArray();
+        for (int i = 0; i < 10_000; i++) {
+            final String str = RandomStringUtils.random(random.nextInt(13), 0, 0, false, false, strChars, random);
+            final String separatorChars = random.nextInt(4) == 0 ? null : RandomStringUtils.random(random.nextInt(3), 0, 0, false, false, separatorSet, random);
+            final int max = random.nextInt(5) - 1;
+            final String message = str + " / " + separatorChars + " / " + max;
+            assertArrayEquals(StringUtils.split(str, separatorChars, max), toArray(SplitIterator.split(str, separatorChars, max)), message);
+            assertArrayEquals(StringUtils.splitPreserveAllTokens(str, separatorChars, max),
+                    toArray(SplitIterator.splitPreserveAllTokens(new StringBuilder(str), separatorChars, max)), message);
+        }
+    }
+
+    @Test
+    public void testLikeSplitByWholeSeparator() {
+        final Random random = new Random(1);
+        final char[] strChars = "ab: -".toCharArray();
+        final char[] separatorSet = ":-".toCharArray();
+        for (int i = 0; i < 10_000; i++) {
+            final String str = RandomStringUtils.random(random.nextInt(13), 0, 0, false, false, strChars, random);
+            final String separator = random.nextInt(4) == 0 ? null : RandomStringUtils.random(random.nextInt(4), 0, 0, false, false, separatorSet, random);
+            final int max = random.nextInt(5) - 1;
+            final String message = str + " / " + separator + " / " + max;
+            assertArrayEquals(StringUtils.splitByWholeSeparator(str, separator, max),
+                    toArray(SplitIterator.splitByWholeSeparator(str, separator, max)), message);
+            assertArrayEquals(StringUtils.splitByWholeSeparatorPreserveAllTokens(str, separator, max),
+                    toArray(SplitIterator.splitByWholeSeparatorPreserveAllTokens(new StringBuilder(str), separator, max)), message);
+        }
+    }
+
+    @Test
+    public void testNull() {
+        assertFalse(SplitIterator.split(null, ":").hasNext());
+        assertFalse(SplitIterator.splitByWholeSeparator(null, ":").hasNext());
+        assertFalse(SplitIterator.splitByWholeSeparatorPreserveAllTokens(null, ":").hasNext());
+        assertFalse(SplitIterator.splitPreserveAllTokens(null, ":").hasNext());
+    }
+
+    @Test
+    public void testStream() {
+        assertEquals("cd", SplitIterator.split("ab:cd:ef", ":").stream().skip(1).findFirst().get().toString());
+        assertEquals(3, SplitIterator.splitByWholeSeparator("ab-!-cd-!-ef", "-!-").stream().count());
+        final SplitIterator iterator = SplitIterator.split("ab cd ef", null);
+        iterator.next();
+        assertArrayEquals(new String[] { "cd", "ef" }, iterator.stream().map(CharSequence::toString).toArray());
+    }
+
+    @Test
+    public void testViews() {
+        final CharSequence token = SplitIterator.split("ab:cde:f", ":").stream().skip(1).findFirst().get();
+        assertEquals(3, token.length());
+        assertEquals('d', token.charAt(1));
+        assertEquals("de", token.subSequence(1, 3).toString());
+        assertEquals("cde", token.toString());
+    }
+}
@@ -0,0 +1,112 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.lang3;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks the {@code LookupTranslator} based escapers and unescapers of {@link StringEscapeUtils}.
+ * <p>
+ * Run with {@code mvn -Pbenchmark -Dbenchmark=StringEscapeUtilsBenchmark}.
+ * </p>
+ */
+@Deprecated
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Thread)
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class StringEscapeUtilsBenchmark {
+
+    @Param({ "64", "4096" })
+    private int length;
+
+    private String plain;
+
+    private String html;
+
+    private String escapedHtml;
+
+    private StringWriter writer;
+
+    @Benchmark
+    public String escapeHtml4() {
+        return StringEscapeUtils.escapeHtml4(html);
+    }
+
+    @Benchmark
+    public String escapeHtml4Plain() {
+        return StringEscapeUtils.escapeHtml4(plain);
+    }
+
+    @Benchmark
+    public StringWriter escapeHtml4Stream() throws IOException {
+        writer.getBuffer().setLength(0);
+        StringEscapeUtils.ESCAPE_HTML4.translateStream(new StringReader(html), writer);
+        return writer;
+    }
+
+    @Benchmark
+    public String escapeJava() {
+        return StringEscapeUtils.escapeJava(html);
+    }
+
+    @Benchmark
+    public String escapeXml10() {
+        return StringEscapeUtils.escapeXml10(html);
+    }
+
+    @Setup
+    public void setUp() {
+        final StringBuilder plainBuilder = new StringBuilder(length);
+        final StringBuilder htmlBuilder = new StringBuilder(length);
+        for (int i = 0; plainBuilder.length() < length; i++) {
+            plainBuilder.append("plain ascii text ").append(i).append(' ');
+            htmlBuilder.append("<p class=\"x\">caf\u00e9 & cr\u00e8me ").append(i).append("</p> ");
+        }
+        plain = plainBuilder.toString();
+        html = htmlBuilder.toString();
+        escapedHtml = StringEscapeUtils.escapeHtml4(html);
+        writer = new StringWriter(length * 2);
+    }
+
+    @Benchmark
+    public String unescapeHtml4() {
+        return StringEscapeUtils.unescapeHtml4(escapedHtml);
+    }
+
+    @Benchmark
+    public String unescapeXml() {
+        return StringEscapeUtils.unescapeXml(escapedHtml);
+    }
+}
@@ -0,0 +1,86 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.lang3;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks {@link StringReplacer} against {@link StringUtils#replaceEach(String, String[], String[])} for placeholders in a template.
+ * <p>
+ * Run with {@code mvn -Pbenchmark -Dbenchmark=StringReplacerBenchmark}.
+ * </p>
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Thread)
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class StringReplacerBenchmark {
+
+    @Param({ "8", "256" })
+    private int placeholders;
+
+    @Param({ "1024", "65536" })
+    private int length;
+
+    private String template;
+
+    private String[] searchList;
+
+    private String[] replacementList;
+
+    private StringReplacer replacer;
+
+    @Benchmark
+    public String replaceEach() {
+        return StringUtils.replaceEach(template, searchList, replacementList);
+    }
+
+    @Benchmark
+    public String stringReplacer() {
+        return replacer.replace(template);
+    }
+
+    @Setup
+    public void setUp() {
+        searchList = new String[placeholders];
+        replacementList = new String[placeholders];
+        for (int i = 0; i < placeholders; i++) {
+            searchList[i] = "${placeholder" + i + "}";
+            replacementList[i] = "value" + i;
+        }
+        replacer = StringReplacer.of(searchList, replacementList);
+        final StringBuilder builder = new StringBuilder(length + 64);
+        for (int i = 0; builder.length() < length; i++) {
+            builder.append("Some template text with a ").append(searchList[i * 7 % placeholders]).append(" in it. ");
+        }
+        template = builder.toString();
+    }
+}
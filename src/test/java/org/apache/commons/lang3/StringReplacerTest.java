@@ -0,0 +1,122 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.lang3;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests {@link StringReplacer}.
+ */
+public class StringReplacerTest extends AbstractLangTest {
+
+    private static final char[] CHARS = "abc\u00e9".toCharArray();
+
+    @Test
+    public void testAppendable() throws IOException {
+        final StringReplacer replacer = StringReplacer.of(new String[] { "${name}", "${date}" }, new String[] { "World", "today" });
+        final StringWriter writer = new StringWriter();
+        assertSame(writer, replacer.replace(writer, "Hello ${name}, ${date}"));
+        assertEquals("Hello World, today", writer.toString());
+        final StringBuilder builder = new StringBuilder("1");
+        replacer.replace(builder, null);
+        replacer.replace(builder, new StringBuilder("${name}${name}"));
+        replacer.replace(builder, "$");
+        assertEquals("1WorldWorld$", builder.toString());
+        assertThrows(NullPointerException.class, () -> replacer.replace(null, "a"));
+    }
+
+    @Test
+    public void testLikeReplaceEach() {
+        final Random random = new Random(1);
+        for (int i = 0; i < 5_000; i++) {
+            final int size = 1 + random.nextInt(6);
+            final String[] searchList = new String[size];
+            final String[] replacementList = new String[size];
+            for (int j = 0; j < size; j++) {
+                searchList[j] = random.nextInt(20) == 0 ? null : RandomStringUtils.random(random.nextInt(4), 0, 0, false, false, CHARS, random);
+                replacementList[j] = random.nextInt(20) == 0 ? null : RandomStringUtils.random(random.nextInt(4), 0, 0, false, false, CHARS, random);
+            }
+            final StringReplacer replacer = StringReplacer.of(searchList, replacementList);
+            final String text = RandomStringUtils.random(random.nextInt(41), 0, 0, false, false, CHARS, random);
+            assertEquals(StringUtils.replaceEach(text, searchList, replacementList), replacer.replace(text), text);
+            String expected;
+            try {
+                expected = StringUtils.replaceEachRepeatedly(text, searchList, replacementList);
+            } catch (final IllegalStateException e) {
+                expected = "IllegalStateException";
+            }
+            String actual;
+            try {
+                actual = replacer.replaceRepeatedly(text);
+            } catch (final IllegalStateException e) {
+                actual = "IllegalStateException";
+            }
+            assertEquals(expected, actual, text);
+        }
+    }
+
+    @Test
+    public void testManySearchStrings() {
+        final String[] searchList = new String[250];
+        final String[] replacementList = new String[searchList.length];
+        final StringBuilder template = new StringBuilder();
+        for (int i = 0; i < searchList.length; i++) {
+            searchList[i] = "${token" + i + "}";
+            replacementList[i] = "value" + i;
+            template.append("text ").append(searchList[i]).append(" ${token").append(i).append(' ');
+        }
+        final String text = template.toString();
+        assertEquals(StringUtils.replaceEach(text, searchList, replacementList), StringReplacer.of(searchList, replacementList).replace(text));
+    }
+
+    @Test
+    public void testReplace() {
+        assertNull(StringReplacer.of(new String[] { "a" }, new String[] { "b" }).replace(null));
+        assertEquals("", StringReplacer.of(new String[] { "a" }, new String[] { "b" }).replace(""));
+        assertEquals("aba", StringReplacer.of(null, null).replace("aba"));
+        assertEquals("aba", StringReplacer.of(new String[0], null).replace("aba"));
+        assertEquals("aba", StringReplacer.of(new String[] { "a" }, null).replace("aba"));
+        assertEquals("b", StringReplacer.of(new String[] { "a" }, new String[] { "" }).replace("aba"));
+        assertEquals("aba", StringReplacer.of(new String[] { null }, new String[] { "a" }).replace("aba"));
+        assertEquals("wcte", StringReplacer.of(new String[] { "ab", "d" }, new String[] { "w", "t" }).replace("abcde"));
+        assertEquals("dcte", StringReplacer.of(new String[] { "ab", "d" }, new String[] { "d", "t" }).replace("abcde"));
+        // the first search string wins at the same index, the leftmost occurrence wins
+        assertEquals("1cc", StringReplacer.of(new String[] { "ab", "abc" }, new String[] { "1", "2" }).replace("abcc"));
+        assertEquals("2c", StringReplacer.of(new String[] { "abc", "ab" }, new String[] { "2", "1" }).replace("abcc"));
+        assertEquals("x2", StringReplacer.of(new String[] { "bcd", "abcde" }, new String[] { "1", "2" }).replace("xabcde"));
+        final String text = "nothing to replace";
+        assertSame(text, StringReplacer.of(new String[] { "x" }, new String[] { "y" }).replace(text));
+        assertThrows(IllegalArgumentException.class, () -> StringReplacer.of(new String[] { "a", "b" }, new String[] { "c" }));
+    }
+
+    @Test
+    public void testReplaceRepeatedly() {
+        assertEquals("tcte", StringReplacer.of(new String[] { "ab", "d" }, new String[] { "d", "t" }).replaceRepeatedly("abcde"));
+        assertEquals("wcte", StringReplacer.of(new String[] { "ab", "d" }, new String[] { "w", "t" }).replaceRepeatedly("abcde"));
+        assertNull(StringReplacer.of(new String[] { "a" }, new String[] { "b" }).replaceRepeatedly(null));
+        assertThrows(IllegalStateException.class, () -> StringReplacer.of(new String[] { "ab", "d" }, new String[] { "d", "ab" }).replaceRepeatedly("abcde"));
+    }
+}
@@ -0,0 +1,150 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.lang3;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks the most called {@link StringUtils} methods: split, replace, join and the indexOf family.
+ * <p>
+ * Run with {@code mvn -Pbenchmark -Dbenchmark=StringUtilsBenchmark}.
+ * </p>
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Thread)
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class StringUtilsBenchmark {
+
+    @Param({ "16", "256", "4096" })
+    private int tokens;
+
+    private String csv;
+
+    private String[] array;
+
+    private String text;
+
+    private String[] searchList;
+
+    private String[] replacementList;
+
+    @Benchmark
+    public int indexOf() {
+        return StringUtils.indexOf(text, "needle");
+    }
+
+    @Benchmark
+    public int indexOfAnyChars() {
+        return StringUtils.indexOfAny(text, '!', '?', '#');
+    }
+
+    @Benchmark
+    public int indexOfAnyStrings() {
+        return StringUtils.indexOfAny(text, "needle", "haystack", "pin");
+    }
+
+    @Benchmark
+    public int indexOfIgnoreCase() {
+        return Strings.CI.indexOf(text, "NEEDLE");
+    }
+
+    @Benchmark
+    public String joinArray() {
+        return StringUtils.join(array, ',');
+    }
+
+    @Benchmark
+    public String joinArrayString() {
+        return StringUtils.join(array, ", ");
+    }
+
+    @Benchmark
+    public int lastIndexOf() {
+        return StringUtils.lastIndexOf(text, "token");
+    }
+
+    @Benchmark
+    public String replace() {
+        return StringUtils.replace(csv, ",", ";");
+    }
+
+    @Benchmark
+    public String replaceEach() {
+        return StringUtils.replaceEach(text, searchList, replacementList);
+    }
+
+    @Setup
+    public void setUp() {
+        final StringBuilder csvBuilder = new StringBuilder();
+        final StringBuilder textBuilder = new StringBuilder();
+        array = new String[tokens];
+        for (int i = 0; i < tokens; i++) {
+            final String token = "token" + i;
+            array[i] = token;
+            if (i > 0) {
+                csvBuilder.append(',');
+                textBuilder.append(' ');
+            }
+            csvBuilder.append(token);
+            textBuilder.append(token).append(" ${var").append(i % 8).append('}');
+        }
+        textBuilder.append(" needle");
+        csv = csvBuilder.toString();
+        text = textBuilder.toString();
+        searchList = new String[8];
+        replacementList = new String[8];
+        for (int i = 0; i < searchList.length; i++) {
+            searchList[i] = "${var" + i + "}";
+            replacementList[i] = "value" + i;
+        }
+    }
+
+    @Benchmark
+    public String[] split() {
+        return StringUtils.split(csv, ',');
+    }
+
+    @Benchmark
+    public String[] splitByWholeSeparator() {
+        return StringUtils.splitByWholeSeparator(text, " ${");
+    }
+
+    @Benchmark
+    public String[] splitPreserveAllTokens() {
+        return StringUtils.splitPreserveAllTokens(csv, ',');
+    }
+
+    @Benchmark
+    public String[] splitWhitespace() {
+        return StringUtils.split(text);
+    }
+}
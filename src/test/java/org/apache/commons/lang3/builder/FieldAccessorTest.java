@@ -0,0 +1,97 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.lang3.builder;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.lang.reflect.Field;
+
+import org.apache.commons.lang3.AbstractLangTest;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests {@link FieldAccessor}.
+ */
+public class FieldAccessorTest extends AbstractLangTest {
+
+    @SuppressWarnings("unused")
+    private static final class Values {
+        private static String staticString = "static";
+        private boolean z = true;
+        private byte b = -2;
+        private char c = '\u00e9';
+        private short s = -3;
+        private int i = -4;
+        private long j = -5_000_000_000L;
+        private float f = -6.5f;
+        private double d = -7.25;
+        private String string = "string";
+        private Object object;
+    }
+
+    private static FieldAccessor accessor(final String name) throws NoSuchFieldException {
+        return new FieldAccessor(Values.class.getDeclaredField(name));
+    }
+
+    @Test
+    public void testAppendToLikeBoxedValues() throws ReflectiveOperationException {
+        final Values lhs = new Values();
+        final Values rhs = new Values();
+        rhs.j = 1;
+        rhs.d = Double.NaN;
+        for (final Field field : Values.class.getDeclaredFields()) {
+            field.setAccessible(true);
+            final FieldAccessor accessor = new FieldAccessor(field);
+            final HashCodeBuilder hashCode = new HashCodeBuilder(17, 37);
+            accessor.appendTo(hashCode, lhs);
+            assertEquals(new HashCodeBuilder(17, 37).append(field.get(lhs)).toHashCode(), hashCode.toHashCode(), field::getName);
+            final EqualsBuilder equals = new EqualsBuilder();
+            accessor.appendTo(equals, lhs, rhs);
+            assertEquals(new EqualsBuilder().append(field.get(lhs), field.get(rhs)).isEquals(), equals.isEquals(), field::getName);
+            if (field.getType().isPrimitive() || field.getType() == String.class) {
+                final CompareToBuilder compareTo = new CompareToBuilder();
+                accessor.appendTo(compareTo, rhs, lhs);
+                assertEquals(new CompareToBuilder().append(field.get(rhs), field.get(lhs)).toComparison(), compareTo.toComparison(), field::getName);
+            }
+        }
+    }
+
+    @Test
+    public void testGet() throws NoSuchFieldException {
+        final Values values = new Values();
+        assertEquals(Boolean.TRUE, accessor("z").get(values));
+        assertEquals(Byte.valueOf((byte) -2), accessor("b").get(values));
+        assertEquals(Character.valueOf('\u00e9'), accessor("c").get(values));
+        assertEquals(Short.valueOf((short) -3), accessor("s").get(values));
+        assertEquals(Integer.valueOf(-4), accessor("i").get(values));
+        assertEquals(Long.valueOf(-5_000_000_000L), accessor("j").get(values));
+        assertEquals(Float.valueOf(-6.5f), accessor("f").get(values));
+        assertEquals(Double.valueOf(-7.25), accessor("d").get(values));
+        assertEquals("string", accessor("string").get(values));
+        assertNull(accessor("object").get(values));
+        assertEquals("static", accessor("staticString").get(null));
+    }
+
+    @Test
+    public void testGetWrongObject() throws NoSuchFieldException {
+        assertThrows(IllegalArgumentException.class, () -> accessor("i").get("not a Values"));
+        assertThrows(IllegalArgumentException.class, () -> accessor("i").appendTo(new HashCodeBuilder(), "not a Values"));
+        assertThrows(NullPointerException.class, () -> accessor("string").get(null));
+    }
+}
@@ -0,0 +1,127 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.lang3.builder;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks the reflection based {@link EqualsBuilder}, {@link HashCodeBuilder}, {@link CompareToBuilder} and
+ * {@link ToStringBuilder} methods against hand-written equivalents.
+ * <p>
+ * Run with {@code mvn -Pbenchmark -Dbenchmark=ReflectionBuilderBenchmark}.
+ * </p>
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Thread)
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class ReflectionBuilderBenchmark {
+
+    static class Base {
+        long id;
+        String name;
+    }
+
+    static class Entity extends Base {
+        int count;
+        double amount;
+        boolean active;
+        char code;
+        transient int cache;
+        int[] values;
+
+        int handWrittenHashCode() {
+            return new HashCodeBuilder(17, 37).append(id).append(name).append(count).append(amount).append(active).append(code).append(values)
+                    .toHashCode();
+        }
+
+        boolean handWrittenEquals(final Entity other) {
+            return new EqualsBuilder().append(id, other.id).append(name, other.name).append(count, other.count).append(amount, other.amount)
+                    .append(active, other.active).append(code, other.code).append(values, other.values).isEquals();
+        }
+    }
+
+    private Entity left;
+
+    private Entity right;
+
+    @Benchmark
+    public boolean handWrittenEquals() {
+        return left.handWrittenEquals(right);
+    }
+
+    @Benchmark
+    public int handWrittenHashCode() {
+        return left.handWrittenHashCode();
+    }
+
+    private Entity newEntity() {
+        final Entity entity = new Entity();
+        entity.id = 42L;
+        entity.name = "name";
+        entity.count = 7;
+        entity.amount = 3.14d;
+        entity.active = true;
+        entity.code = 'x';
+        entity.values = new int[] { 1, 2, 3 };
+        return entity;
+    }
+
+    @Benchmark
+    public int reflectionCompare() {
+        return CompareToBuilder.reflectionCompare(left, right);
+    }
+
+    @Benchmark
+    public boolean reflectionEquals() {
+        return EqualsBuilder.reflectionEquals(left, right);
+    }
+
+    @Benchmark
+    public boolean reflectionEqualsExcludes() {
+        return EqualsBuilder.reflectionEquals(left, right, "count", "code");
+    }
+
+    @Benchmark
+    public int reflectionHashCode() {
+        return HashCodeBuilder.reflectionHashCode(left);
+    }
+
+    @Benchmark
+    public String reflectionToString() {
+        return ToStringBuilder.reflectionToString(left);
+    }
+
+    @Setup
+    public void setUp() {
+        left = newEntity();
+        right = newEntity();
+    }
+}
@@ -0,0 +1,77 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.lang3.builder;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import java.lang.reflect.Field;
+import java.util.stream.Stream;
+
+import org.apache.commons.lang3.AbstractLangTest;
+import org.apache.commons.lang3.builder.Reflection.FieldUse;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests {@link Reflection}.
+ */
+public class ReflectionTest extends AbstractLangTest {
+
+    @SuppressWarnings("unused")
+    private static final class Fields {
+        private static int staticField;
+        private int c;
+        private transient int t;
+        @EqualsExclude
+        private int notEquals;
+        @HashCodeExclude
+        private int notHashed;
+        private int a;
+    }
+
+    private static String[] names(final FieldAccessor[] fields) {
+        return Stream.of(fields).map(FieldAccessor::getField).map(Field::getName).toArray(String[]::new);
+    }
+
+    private static String[] sortedNames(final FieldAccessor[] fields) {
+        // Class.getDeclaredFields() does not guarantee an order.
+        return Stream.of(fields).map(FieldAccessor::getField).map(Field::getName).sorted().toArray(String[]::new);
+    }
+
+    @Test
+    public void testGetFields() {
+        assertArrayEquals(new String[] { "a", "c", "notEquals", "notHashed" }, sortedNames(Reflection.getFields(Fields.class, FieldUse.COMPARE_TO, false)));
+        assertArrayEquals(new String[] { "a", "c", "notEquals", "notHashed", "t" }, sortedNames(Reflection.getFields(Fields.class, FieldUse.COMPARE_TO, true)));
+        assertArrayEquals(new String[] { "a", "c", "notHashed" }, sortedNames(Reflection.getFields(Fields.class, FieldUse.EQUALS, false)));
+        assertArrayEquals(new String[] { "a", "c", "notEquals", "t" }, names(Reflection.getFields(Fields.class, FieldUse.HASH_CODE, true)));
+        assertArrayEquals(new String[] { "a", "c", "notEquals", "notHashed", "staticField", "t" }, Stream.of(names(Reflection.getFields(Fields.class, FieldUse.TO_STRING, false)))
+            // a coverage agent may add a synthetic field
+            .filter(name -> !name.contains("$")).toArray());
+        // the fields are accessible
+        final Fields fields = new Fields();
+        fields.a = 1;
+        assertSame(1, Reflection.getFields(Fields.class, FieldUse.HASH_CODE, false)[0].get(fields));
+    }
+
+    @Test
+    public void testGetFieldsIsCached() {
+        for (final FieldUse use : FieldUse.values()) {
+            assertSame(Reflection.getFields(Fields.class, use, false), Reflection.getFields(Fields.class, use, false));
+            assertSame(Reflection.getFields(Fields.class, use, true), Reflection.getFields(Fields.class, use, true));
+        }
+    }
+}
@@ -0,0 +1,289 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.lang3.concurrent;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.apache.commons.lang3.AbstractLangTest;
+import org.easymock.EasyMock;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests {@link AtomicTimedSemaphore}.
+ */
+public class AtomicTimedSemaphoreTest extends AbstractLangTest {
+
+    /** Constant for the time period. */
+    private static final long PERIOD_MILLIS = 500;
+
+    /** Constant for the time unit. */
+    private static final TimeUnit UNIT = TimeUnit.MILLISECONDS;
+
+    /** Constant for the default limit. */
+    private static final int LIMIT = 10;
+
+    /**
+     * Creates a semaphore with a mock executor service expecting the start of the timer, so that periods only end when the test calls
+     * {@link AtomicTimedSemaphore#endOfPeriod()}.
+     *
+     * @param limit the limit
+     * @return the semaphore
+     */
+    private static AtomicTimedSemaphore createSemaphore(final int limit) {
+        final ScheduledExecutorService service = EasyMock.createMock(ScheduledExecutorService.class);
+        final ScheduledFuture<?> future = EasyMock.createNiceMock(ScheduledFuture.class);
+        service.scheduleAtFixedRate((Runnable) EasyMock.anyObject(), EasyMock.eq(PERIOD_MILLIS), EasyMock.eq(PERIOD_MILLIS), EasyMock.eq(UNIT));
+        EasyMock.expectLastCall().andReturn(future);
+        EasyMock.replay(service, future);
+        return new AtomicTimedSemaphore(service, PERIOD_MILLIS, UNIT, limit);
+    }
+
+    /**
+     * Starts a thread calling {@link AtomicTimedSemaphore#acquire()}, recording the exception it throws, if any.
+     *
+     * @param semaphore the semaphore
+     * @param exception the exception thrown
+     * @return the started thread
+     */
+    private static Thread startAcquire(final AtomicTimedSemaphore semaphore, final AtomicReference<Exception> exception) {
+        final Thread thread = new Thread(() -> {
+            try {
+                semaphore.acquire();
+            } catch (final InterruptedException | IllegalStateException e) {
+                exception.set(e);
+            }
+        });
+        thread.start();
+        return thread;
+    }
+
+    /**
+     * Waits for a thread to block in {@link AtomicTimedSemaphore#acquire()}.
+     *
+     * @param thread the thread
+     * @throws InterruptedException if the test is interrupted
+     */
+    private static void awaitParked(final Thread thread) throws InterruptedException {
+        while (thread.getState() != Thread.State.WAITING) {
+            Thread.sleep(1);
+        }
+    }
+
+    @Test
+    public void testAcquireLimit() throws InterruptedException {
+        final AtomicTimedSemaphore semaphore = createSemaphore(LIMIT);
+        for (int i = 0; i < LIMIT; i++) {
+            assertEquals(LIMIT - i, semaphore.getAvailablePermits());
+            semaphore.acquire();
+        }
+        assertEquals(LIMIT, semaphore.getAcquireCount());
+        final AtomicReference<Exception> exception = new AtomicReference<>();
+        final Thread thread = startAcquire(semaphore, exception);
+        awaitParked(thread);
+        assertEquals(LIMIT, semaphore.getAcquireCount());
+        // this wakes up the thread
+        semaphore.endOfPeriod();
+        thread.join();
+        assertEquals(null, exception.get());
+        assertEquals(1, semaphore.getAcquireCount());
+        assertEquals(LIMIT, semaphore.getLastAcquiresPerPeriod());
+    }
+
+    @Test
+    public void testAcquireMultiplePeriods() throws InterruptedException {
+        final AtomicTimedSemaphore semaphore = new AtomicTimedSemaphore(PERIOD_MILLIS / 10, UNIT, 250);
+        final Thread[] threads = new Thread[4];
+        for (int i = 0; i < threads.length; i++) {
+            threads[i] = new Thread(() -> {
+                try {
+                    for (int j = 0; j < 250; j++) {
+                        semaphore.acquire();
+                    }
+                } catch (final InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            });
+            threads[i].start();
+        }
+        for (final Thread thread : threads) {
+            thread.join();
+        }
+        semaphore.shutdown();
+        assertTrue(semaphore.getLastAcquiresPerPeriod() <= 250);
+        assertTrue(semaphore.getAverageCallsPerPeriod() <= 250);
+    }
+
+    @Test
+    public void testAcquireMultipleThreads() throws InterruptedException {
+        final AtomicTimedSemaphore semaphore = createSemaphore(1);
+        final int count = 10;
+        final AtomicInteger acquired = new AtomicInteger();
+        final Thread[] threads = new Thread[count];
+        for (int i = 0; i < count; i++) {
+            threads[i] = new Thread(() -> {
+                try {
+                    semaphore.acquire();
+                    acquired.incrementAndGet();
+                } catch (final InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            });
+            threads[i].start();
+        }
+        for (int i = 1; i <= count; i++) {
+            while (acquired.get() < i) {
+                Thread.sleep(1);
+            }
+            assertEquals(1, semaphore.getAcquireCount());
+            assertEquals(i, acquired.get());
+            semaphore.endOfPeriod();
+            assertEquals(1, semaphore.getLastAcquiresPerPeriod());
+        }
+        for (final Thread thread : threads) {
+            thread.join();
+        }
+    }
+
+    @Test
+    public void testAcquireNoLimit() throws InterruptedException {
+        final AtomicTimedSemaphore semaphore = createSemaphore(AtomicTimedSemaphore.NO_LIMIT);
+        for (int i = 0; i < 1000; i++) {
+            semaphore.acquire();
+        }
+        assertEquals(1000, semaphore.getAcquireCount());
+    }
+
+    @Test
+    public void testGetAverageCallsPerPeriod() throws InterruptedException {
+        final AtomicTimedSemaphore semaphore = createSemaphore(LIMIT);
+        semaphore.acquire();
+        semaphore.endOfPeriod();
+        assertEquals(1.0, semaphore.getAverageCallsPerPeriod(), .005);
+        semaphore.acquire();
+        semaphore.acquire();
+        semaphore.endOfPeriod();
+        assertEquals(1.5, semaphore.getAverageCallsPerPeriod(), .005);
+        assertEquals(2, semaphore.getLastAcquiresPerPeriod());
+    }
+
+    @Test
+    public void testInit() {
+        final ScheduledExecutorService service = EasyMock.createMock(ScheduledExecutorService.class);
+        EasyMock.replay(service);
+        final AtomicTimedSemaphore semaphore = new AtomicTimedSemaphore(service, PERIOD_MILLIS, UNIT, LIMIT);
+        EasyMock.verify(service);
+        assertEquals(service, semaphore.getExecutorService());
+        assertEquals(PERIOD_MILLIS, semaphore.getPeriod());
+        assertEquals(UNIT, semaphore.getUnit());
+        assertEquals(0, semaphore.getLastAcquiresPerPeriod());
+        assertEquals(0.0, semaphore.getAverageCallsPerPeriod(), .05);
+        assertFalse(semaphore.isShutdown());
+        assertEquals(LIMIT, semaphore.getLimit());
+        assertThrows(IllegalArgumentException.class, () -> new AtomicTimedSemaphore(0L, UNIT, LIMIT));
+    }
+
+    @Test
+    public void testInterrupt() throws InterruptedException {
+        final AtomicTimedSemaphore semaphore = createSemaphore(1);
+        semaphore.acquire();
+        final AtomicReference<Exception> exception = new AtomicReference<>();
+        final Thread thread = startAcquire(semaphore, exception);
+        awaitParked(thread);
+        thread.interrupt();
+        thread.join();
+        assertInstanceOf(InterruptedException.class, exception.get());
+        assertEquals(1, semaphore.getAcquireCount());
+    }
+
+    @Test
+    public void testShutdown() throws InterruptedException {
+        final AtomicTimedSemaphore semaphore = new AtomicTimedSemaphore(1, TimeUnit.HOURS, 1);
+        semaphore.acquire();
+        final AtomicReference<Exception> exception = new AtomicReference<>();
+        final Thread thread = startAcquire(semaphore, exception);
+        awaitParked(thread);
+        semaphore.shutdown();
+        semaphore.shutdown();
+        // blocked threads are woken up
+        thread.join();
+        assertInstanceOf(IllegalStateException.class, exception.get());
+        assertTrue(semaphore.isShutdown());
+        assertTrue(semaphore.getExecutorService().isShutdown());
+        assertFalse(((ScheduledThreadPoolExecutor) semaphore.getExecutorService()).getContinueExistingPeriodicTasksAfterShutdownPolicy());
+        assertThrows(IllegalStateException.class, semaphore::acquire);
+        assertThrows(IllegalStateException.class, semaphore::tryAcquire);
+    }
+
+    @Test
+    public void testShutdownSharedExecutorTask() throws InterruptedException {
+        final ScheduledExecutorService service = EasyMock.createMock(ScheduledExecutorService.class);
+        final ScheduledFuture<?> future = EasyMock.createMock(ScheduledFuture.class);
+        service.scheduleAtFixedRate((Runnable) EasyMock.anyObject(), EasyMock.eq(PERIOD_MILLIS), EasyMock.eq(PERIOD_MILLIS), EasyMock.eq(UNIT));
+        EasyMock.expectLastCall().andReturn(future);
+        EasyMock.expect(Boolean.valueOf(future.cancel(false))).andReturn(Boolean.TRUE);
+        EasyMock.replay(service, future);
+        final AtomicTimedSemaphore semaphore = new AtomicTimedSemaphore(service, PERIOD_MILLIS, UNIT, LIMIT);
+        semaphore.acquire();
+        semaphore.acquire();
+        semaphore.shutdown();
+        semaphore.shutdown();
+        assertTrue(semaphore.isShutdown());
+        EasyMock.verify(service, future);
+    }
+
+    @Test
+    public void testTryAcquire() throws InterruptedException {
+        final AtomicTimedSemaphore semaphore = createSemaphore(LIMIT);
+        final AtomicInteger permits = new AtomicInteger();
+        final CountDownLatch latch = new CountDownLatch(1);
+        final Thread[] threads = new Thread[3 * LIMIT];
+        for (int i = 0; i < threads.length; i++) {
+            threads[i] = new Thread(() -> {
+                try {
+                    latch.await();
+                    if (semaphore.tryAcquire()) {
+                        permits.incrementAndGet();
+                    }
+                } catch (final InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            });
+            threads[i].start();
+        }
+        latch.countDown();
+        for (final Thread thread : threads) {
+            thread.join();
+        }
+        assertEquals(LIMIT, permits.get());
+        assertEquals(0, semaphore.getAvailablePermits());
+        semaphore.setLimit(LIMIT + 1);
+        assertTrue(semaphore.tryAcquire());
+        assertFalse(semaphore.tryAcquire());
+    }
+}
@@ -0,0 +1,355 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.lang3.concurrent;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.beans.PropertyChangeEvent;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.commons.lang3.AbstractLangTest;
+import org.apache.commons.lang3.concurrent.FailureRateCircuitBreaker.Permission;
+import org.apache.commons.lang3.concurrent.FailureRateCircuitBreaker.State;
+import org.apache.commons.lang3.function.FailableCallable;
+import org.apache.commons.lang3.function.FailableSupplier;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests {@link FailureRateCircuitBreaker}.
+ */
+public class FailureRateCircuitBreakerTest extends AbstractLangTest {
+
+    /**
+     * A circuit breaker with a manual clock.
+     */
+    private static final class TestCircuitBreaker extends FailureRateCircuitBreaker {
+
+        private long time;
+
+        private final List<State> transitions = new ArrayList<>();
+
+        TestCircuitBreaker(final FailureRateCircuitBreaker.Builder builder) {
+            super(builder);
+            addChangeListener(this::stateChanged);
+        }
+
+        TestCircuitBreaker at(final long millis) {
+            time = TimeUnit.MILLISECONDS.toNanos(millis);
+            return this;
+        }
+
+        void fail(final long durationNanos, final Throwable throwable) {
+            recordFailure(permit(this), durationNanos, throwable);
+        }
+
+        @Override
+        long nanoTime() {
+            return time;
+        }
+
+        private void stateChanged(final PropertyChangeEvent event) {
+            assertSame(this, event.getSource());
+            assertEquals(FailureRateCircuitBreaker.PROPERTY_NAME, event.getPropertyName());
+            transitions.add((State) event.getNewValue());
+        }
+
+        void succeed(final long durationNanos) {
+            recordSuccess(permit(this), durationNanos);
+        }
+    }
+
+    /** Constant for the duration of a slow call, in nanoseconds. */
+    private static final long SLOW = TimeUnit.MILLISECONDS.toNanos(100);
+
+    /**
+     * Creates a circuit breaker opening on half the calls failing, or slower than 100 milliseconds, over a second and at least 4 calls, open for 5
+     * seconds, with 2 probe calls for at most 10 seconds.
+     *
+     * @return the circuit breaker
+     */
+    private static TestCircuitBreaker createBreaker() {
+        return new TestCircuitBreaker(FailureRateCircuitBreaker.builder()
+            .failureRateThreshold(0.5)
+            .slowCallDuration(100, TimeUnit.MILLISECONDS)
+            .slowCallRateThreshold(0.5)
+            .window(1, TimeUnit.SECONDS)
+            .buckets(10)
+            .minimumCalls(4)
+            .openDuration(5, TimeUnit.SECONDS)
+            .halfOpenCalls(2)
+            .halfOpenDuration(10, TimeUnit.SECONDS));
+    }
+
+    /**
+     * Asks a circuit breaker for a permission which must be granted.
+     *
+     * @param breaker the circuit breaker
+     * @return the permission
+     */
+    private static Permission permit(final FailureRateCircuitBreaker breaker) {
+        final Permission permission = breaker.tryAcquirePermission();
+        assertNotNull(permission);
+        return permission;
+    }
+
+    /**
+     * Opens a circuit breaker by recording failed calls.
+     *
+     * @param breaker the circuit breaker
+     */
+    private static void trip(final TestCircuitBreaker breaker) {
+        for (int i = 0; i < 4; i++) {
+            breaker.fail(0, new IllegalStateException());
+        }
+        assertTrue(breaker.isOpen());
+    }
+
+    @Test
+    public void testBuilder() {
+        final FailureRateCircuitBreaker.Builder builder = FailureRateCircuitBreaker.builder();
+        assertThrows(IllegalArgumentException.class, () -> builder.failureRateThreshold(0));
+        assertThrows(IllegalArgumentException.class, () -> builder.failureRateThreshold(1.5));
+        assertThrows(IllegalArgumentException.class, () -> builder.slowCallRateThreshold(0));
+        assertThrows(IllegalArgumentException.class, () -> builder.slowCallDuration(0, TimeUnit.SECONDS));
+        assertThrows(NullPointerException.class, () -> builder.slowCallDuration(1, null));
+        assertThrows(IllegalArgumentException.class, () -> builder.window(-1, TimeUnit.SECONDS));
+        assertThrows(IllegalArgumentException.class, () -> builder.openDuration(0, TimeUnit.SECONDS));
+        assertThrows(IllegalArgumentException.class, () -> builder.buckets(0));
+        assertThrows(IllegalArgumentException.class, () -> builder.minimumCalls(0));
+        assertThrows(IllegalArgumentException.class, () -> builder.halfOpenCalls(0));
+        assertThrows(IllegalArgumentException.class, () -> builder.halfOpenDuration(0, TimeUnit.SECONDS));
+        assertThrows(NullPointerException.class, () -> builder.failurePredicate(null));
+        final FailureRateCircuitBreaker breaker = builder.build();
+        assertTrue(breaker.isClosed());
+        assertFalse(breaker.isOpen());
+        assertEquals(0, breaker.getFailureRate());
+        assertEquals(0, breaker.getSlowCallRate());
+        assertNotNull(breaker.tryAcquirePermission());
+        assertThrows(NullPointerException.class, () -> breaker.recordSuccess(null, 0));
+        assertThrows(NullPointerException.class, () -> breaker.recordFailure(null, 0, new IllegalStateException()));
+    }
+
+    @Test
+    public void testDecorateCallable() throws IOException {
+        final TestCircuitBreaker breaker = createBreaker();
+        final FailableCallable<String, IOException> callable = breaker.decorateCallable(() -> {
+            breaker.time += SLOW;
+            return "slow";
+        });
+        for (int i = 0; i < 3; i++) {
+            assertEquals("slow", callable.call());
+        }
+        assertEquals(1, breaker.getSlowCallRate());
+        assertEquals(0, breaker.getFailureRate());
+        // the window still counts the 4 calls, 300 milliseconds later
+        assertEquals("slow", callable.call());
+        assertTrue(breaker.isOpen());
+        assertThrows(CircuitBreakingException.class, callable::call);
+        assertThrows(NullPointerException.class, () -> breaker.decorateCallable(null));
+    }
+
+    @Test
+    public void testDecorateSupplier() throws IOException {
+        final TestCircuitBreaker breaker = createBreaker();
+        final FailableSupplier<String, IOException> failing = breaker.decorateSupplier(() -> {
+            throw new IOException("failed");
+        });
+        final FailableSupplier<String, IOException> succeeding = breaker.decorateSupplier(() -> "ok");
+        assertThrows(IOException.class, failing::get);
+        assertThrows(IOException.class, failing::get);
+        assertEquals(1, breaker.getFailureRate());
+        assertEquals("ok", succeeding.get());
+        assertTrue(breaker.isClosed());
+        assertThrows(IOException.class, failing::get);
+        assertTrue(breaker.isOpen());
+        assertThrows(CircuitBreakingException.class, succeeding::get);
+        assertThrows(NullPointerException.class, () -> breaker.decorateSupplier(null));
+    }
+
+    @Test
+    public void testFailurePredicate() {
+        final TestCircuitBreaker breaker = new TestCircuitBreaker(FailureRateCircuitBreaker.builder()
+            .minimumCalls(2)
+            .failurePredicate(IOException.class::isInstance));
+        breaker.fail(0, new IllegalArgumentException());
+        breaker.fail(0, new IllegalArgumentException());
+        assertTrue(breaker.isClosed());
+        assertEquals(0, breaker.getFailureRate());
+        breaker.fail(0, new IOException());
+        breaker.fail(0, new IOException());
+        assertTrue(breaker.isOpen());
+    }
+
+    @Test
+    public void testHalfOpenCloses() {
+        final TestCircuitBreaker breaker = createBreaker();
+        trip(breaker);
+        breaker.at(4999);
+        assertNull(breaker.tryAcquirePermission());
+        assertTrue(breaker.isOpen());
+        breaker.at(5000);
+        final Permission probe1 = permit(breaker);
+        assertEquals(State.HALF_OPEN, breaker.getState());
+        final Permission probe2 = permit(breaker);
+        // only 2 probe calls
+        assertNull(breaker.tryAcquirePermission());
+        breaker.recordSuccess(probe1, 0);
+        assertEquals(State.HALF_OPEN, breaker.getState());
+        assertNull(breaker.tryAcquirePermission());
+        breaker.recordSuccess(probe2, SLOW - 1);
+        assertTrue(breaker.isClosed());
+        // the failures before the circuit breaker opened are forgotten
+        assertEquals(0, breaker.getFailureRate());
+        breaker.fail(0, new IllegalStateException());
+        breaker.succeed(0);
+        breaker.succeed(0);
+        breaker.succeed(0);
+        assertTrue(breaker.isClosed());
+        assertEquals(0.25, breaker.getFailureRate());
+        assertEquals(Arrays.asList(State.OPEN, State.HALF_OPEN, State.CLOSED), breaker.transitions);
+    }
+
+    @Test
+    public void testHalfOpenOpens() {
+        final TestCircuitBreaker breaker = createBreaker();
+        trip(breaker);
+        breaker.at(5000);
+        final Permission probe1 = permit(breaker);
+        final Permission probe2 = permit(breaker);
+        breaker.recordSuccess(probe1, SLOW);
+        assertEquals(1, breaker.getSlowCallRate());
+        // half the probe calls were slow
+        breaker.recordSuccess(probe2, 0);
+        assertTrue(breaker.isOpen());
+        breaker.at(9999);
+        assertNull(breaker.tryAcquirePermission());
+        breaker.at(10000);
+        assertNotNull(breaker.tryAcquirePermission());
+        assertEquals(Arrays.asList(State.OPEN, State.HALF_OPEN, State.OPEN, State.HALF_OPEN), breaker.transitions);
+    }
+
+    @Test
+    public void testHalfOpenTimeout() {
+        final TestCircuitBreaker breaker = createBreaker();
+        trip(breaker);
+        breaker.at(5000);
+        breaker.succeed(0);
+        final Permission probe = permit(breaker);
+        // the second probe call does not record its outcome
+        breaker.at(14_999);
+        assertNull(breaker.tryAcquirePermission());
+        assertEquals(State.HALF_OPEN, breaker.getState());
+        breaker.at(15_000);
+        assertNull(breaker.tryAcquirePermission());
+        assertTrue(breaker.isOpen());
+        // its outcome is ignored once recorded
+        breaker.recordSuccess(probe, 0);
+        assertTrue(breaker.isOpen());
+        breaker.at(20_000);
+        assertNotNull(breaker.tryAcquirePermission());
+        assertEquals(Arrays.asList(State.OPEN, State.HALF_OPEN, State.OPEN, State.HALF_OPEN), breaker.transitions);
+    }
+
+    @Test
+    public void testMinimumCalls() {
+        final TestCircuitBreaker breaker = createBreaker();
+        for (int i = 0; i < 3; i++) {
+            breaker.fail(SLOW, new IllegalStateException());
+        }
+        assertTrue(breaker.isClosed());
+        assertEquals(1, breaker.getFailureRate());
+        assertEquals(1, breaker.getSlowCallRate());
+        assertTrue(breaker.transitions.isEmpty());
+    }
+
+    @Test
+    public void testOpenClose() {
+        final TestCircuitBreaker breaker = createBreaker();
+        breaker.open();
+        breaker.open();
+        assertTrue(breaker.isOpen());
+        assertNull(breaker.tryAcquirePermission());
+        breaker.close();
+        breaker.close();
+        assertTrue(breaker.isClosed());
+        assertNotNull(breaker.tryAcquirePermission());
+        assertEquals(Arrays.asList(State.OPEN, State.CLOSED), breaker.transitions);
+    }
+
+    @Test
+    public void testOutcomesOfOtherStatesIgnored() {
+        final TestCircuitBreaker breaker = createBreaker();
+        final Permission stale = permit(breaker);
+        trip(breaker);
+        breaker.recordFailure(stale, SLOW, new IllegalStateException());
+        breaker.at(5000);
+        final Permission probe1 = permit(breaker);
+        final Permission probe2 = permit(breaker);
+        // the calls permitted before the circuit breaker opened are not probe calls
+        breaker.recordFailure(stale, SLOW, new IllegalStateException());
+        breaker.recordFailure(stale, SLOW, new IllegalStateException());
+        assertEquals(State.HALF_OPEN, breaker.getState());
+        assertEquals(0, breaker.getFailureRate());
+        breaker.recordSuccess(probe1, 0);
+        breaker.recordSuccess(probe2, 0);
+        assertTrue(breaker.isClosed());
+        // and neither the calls permitted before it closed
+        breaker.recordFailure(stale, 0, new IllegalStateException());
+        breaker.recordFailure(probe1, 0, new IllegalStateException());
+        assertEquals(0, breaker.getFailureRate());
+        assertEquals(Arrays.asList(State.OPEN, State.HALF_OPEN, State.CLOSED), breaker.transitions);
+    }
+
+    @Test
+    public void testSlidingWindow() {
+        final TestCircuitBreaker breaker = createBreaker();
+        breaker.fail(0, new IllegalStateException());
+        breaker.fail(0, new IllegalStateException());
+        breaker.at(500).succeed(0);
+        breaker.at(999);
+        assertEquals(2.0 / 3, breaker.getFailureRate(), 0.001);
+        // the failures of the first bucket slide out of the window
+        breaker.at(1000).fail(0, new IllegalStateException());
+        assertEquals(0.5, breaker.getFailureRate());
+        assertTrue(breaker.isClosed());
+        breaker.at(1400).succeed(0);
+        breaker.at(1450).fail(0, new IllegalStateException());
+        assertTrue(breaker.isOpen());
+        assertEquals(Arrays.asList(State.OPEN), breaker.transitions);
+    }
+
+    @Test
+    public void testSlowCalls() {
+        final TestCircuitBreaker breaker = createBreaker();
+        breaker.succeed(SLOW - 1);
+        breaker.succeed(SLOW - 1);
+        breaker.succeed(SLOW);
+        assertEquals(1.0 / 3, breaker.getSlowCallRate(), 0.001);
+        breaker.fail(SLOW, new IllegalStateException());
+        assertTrue(breaker.isOpen());
+    }
+}
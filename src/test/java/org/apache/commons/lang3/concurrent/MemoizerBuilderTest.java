@@ -0,0 +1,257 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.lang3.concurrent;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.apache.commons.lang3.AbstractLangTest;
+import org.apache.commons.lang3.concurrent.Memoizer.EvictionCause;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests {@link Memoizer.Builder}.
+ */
+public class MemoizerBuilderTest extends AbstractLangTest {
+
+    /**
+     * A memoizer with a manual clock.
+     */
+    private static final class TestMemoizer extends Memoizer<Integer, String> {
+
+        private long time;
+
+        TestMemoizer(final Memoizer.Builder<Integer, String> builder) {
+            super(builder);
+        }
+
+        @Override
+        long nanoTime() {
+            return time;
+        }
+    }
+
+    private final List<Integer> calls = Collections.synchronizedList(new ArrayList<>());
+
+    private final List<String> evictions = new ArrayList<>();
+
+    private TestMemoizer memoizer;
+
+    /**
+     * Creates a builder of a memoizer calculating in 5 nanoseconds, recording its calls and evictions.
+     *
+     * @return the builder
+     */
+    private Memoizer.Builder<Integer, String> builder() {
+        return Memoizer.<Integer, String>builder()
+            .function(i -> {
+                calls.add(i);
+                if (memoizer != null) {
+                    memoizer.time += 5;
+                }
+                return "v" + i;
+            })
+            .evictionListener((key, value, cause) -> evictions.add(key + "=" + value + " " + cause));
+    }
+
+    @Test
+    public void testBuilder() {
+        final Memoizer.Builder<Integer, String> builder = Memoizer.builder();
+        assertThrows(NullPointerException.class, builder::build);
+        assertThrows(NullPointerException.class, () -> builder.computable(null));
+        assertThrows(NullPointerException.class, () -> builder.function(null));
+        assertThrows(NullPointerException.class, () -> builder.evictionListener(null));
+        assertThrows(IllegalArgumentException.class, () -> builder.maximumSize(0));
+        assertThrows(IllegalArgumentException.class, () -> builder.expireAfterWrite(0, TimeUnit.SECONDS));
+        assertThrows(IllegalArgumentException.class, () -> builder.expireAfterAccess(-1, TimeUnit.SECONDS));
+        assertThrows(NullPointerException.class, () -> builder.expireAfterAccess(1, null));
+    }
+
+    @Test
+    public void testExpireAfterAccess() throws InterruptedException {
+        memoizer = new TestMemoizer(builder().expireAfterAccess(10, TimeUnit.NANOSECONDS));
+        memoizer.compute(1);
+        memoizer.time = 14;
+        assertEquals("v1", memoizer.compute(1));
+        memoizer.time = 23;
+        assertEquals("v1", memoizer.compute(1));
+        assertEquals(Arrays.asList(1), calls);
+        memoizer.time = 33;
+        assertEquals("v1", memoizer.compute(1));
+        assertEquals(Arrays.asList(1, 1), calls);
+        assertEquals(Arrays.asList("1=v1 EXPIRED"), evictions);
+    }
+
+    @Test
+    public void testExpireAfterAccessPastHotResult() throws InterruptedException {
+        memoizer = new TestMemoizer(builder().expireAfterAccess(50, TimeUnit.NANOSECONDS));
+        // the result of 0 is calculated first and returned all along, so it stays at the head of the calculation order
+        memoizer.compute(0);
+        for (int i = 1; i <= 200; i++) {
+            memoizer.compute(0);
+            memoizer.compute(i);
+        }
+        assertEquals(1, Collections.frequency(calls, 0));
+        // each calculation takes 5 nanoseconds, so only the last 10 results are live, the clean-ups lag a few results behind
+        assertTrue(memoizer.getEvictionCount() >= 180, () -> "evictions: " + memoizer.getEvictionCount());
+    }
+
+    @Test
+    public void testExpireAfterWrite() throws InterruptedException {
+        memoizer = new TestMemoizer(builder().expireAfterWrite(10, TimeUnit.NANOSECONDS));
+        memoizer.compute(1);
+        // calculated at 5, expires at 15
+        memoizer.time = 14;
+        assertEquals("v1", memoizer.compute(1));
+        memoizer.compute(2);
+        assertEquals(Arrays.asList(1, 2), calls);
+        memoizer.time = 15;
+        assertEquals("v1", memoizer.compute(1));
+        assertEquals(Arrays.asList(1, 2, 1), calls);
+        // the expired result of 1 was replaced, the result of 2 expires at 29
+        memoizer.time = 29;
+        memoizer.compute(3);
+        assertEquals(Arrays.asList("1=v1 EXPIRED", "2=v2 EXPIRED"), evictions);
+        assertEquals(2, memoizer.getEvictionCount());
+    }
+
+    @Test
+    public void testMaximumSize() throws InterruptedException {
+        memoizer = new TestMemoizer(builder().maximumSize(2));
+        memoizer.compute(1);
+        memoizer.compute(2);
+        // 1 is returned again, so 2 is evicted first
+        memoizer.compute(1);
+        memoizer.compute(3);
+        assertEquals(Arrays.asList("2=v2 SIZE"), evictions);
+        memoizer.compute(1);
+        memoizer.compute(3);
+        assertEquals(Arrays.asList(1, 2, 3), calls);
+        memoizer.compute(2);
+        assertEquals(2, memoizer.getEvictionCount());
+        assertEquals(Arrays.asList(1, 2, 3, 2), calls);
+    }
+
+    @Test
+    public void testRecalculate() throws InterruptedException {
+        final AtomicInteger failures = new AtomicInteger(1);
+        final Memoizer<Integer, String> recalculating = Memoizer.<Integer, String>builder()
+            .computable(i -> {
+                if (failures.getAndDecrement() > 0) {
+                    throw new IllegalArgumentException();
+                }
+                return "v" + i;
+            })
+            .recalculate(true)
+            .maximumSize(10)
+            .build();
+        assertThrows(IllegalArgumentException.class, () -> recalculating.compute(1));
+        assertEquals("v1", recalculating.compute(1));
+        assertEquals("v1", recalculating.compute(1));
+        assertEquals(2, recalculating.getMissCount());
+        assertEquals(1, recalculating.getHitCount());
+        assertEquals(0, recalculating.getEvictionCount());
+    }
+
+    @Test
+    public void testSingleFlight() throws InterruptedException {
+        final CountDownLatch started = new CountDownLatch(1);
+        final CountDownLatch release = new CountDownLatch(1);
+        final AtomicInteger calculations = new AtomicInteger();
+        final Memoizer<Integer, Object> shared = Memoizer.<Integer, Object>builder()
+            .computable(i -> {
+                calculations.incrementAndGet();
+                started.countDown();
+                release.await();
+                return new Object();
+            })
+            .maximumSize(10)
+            .expireAfterWrite(1, TimeUnit.HOURS)
+            .build();
+        final Object[] results = new Object[4];
+        final Thread[] threads = new Thread[results.length];
+        for (int i = 0; i < threads.length; i++) {
+            final int index = i;
+            threads[i] = new Thread(() -> {
+                try {
+                    results[index] = shared.compute(1);
+                } catch (final InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            });
+            threads[i].start();
+            if (i == 0) {
+                started.await();
+            }
+        }
+        release.countDown();
+        for (final Thread thread : threads) {
+            thread.join();
+        }
+        assertEquals(1, calculations.get());
+        for (final Object result : results) {
+            assertSame(results[0], result);
+        }
+        assertEquals(1, shared.getMissCount());
+        assertEquals(results.length - 1, shared.getHitCount());
+    }
+
+    @Test
+    public void testStatistics() throws InterruptedException {
+        memoizer = new TestMemoizer(builder());
+        assertEquals(0, memoizer.getHitCount());
+        assertEquals(0, memoizer.getMissCount());
+        memoizer.compute(1);
+        memoizer.compute(1);
+        memoizer.compute(2);
+        memoizer.compute(1);
+        assertEquals(2, memoizer.getHitCount());
+        assertEquals(2, memoizer.getMissCount());
+        assertEquals(10, memoizer.getTotalLoadTime(TimeUnit.NANOSECONDS));
+        assertEquals(0, memoizer.getTotalLoadTime(TimeUnit.SECONDS));
+        assertEquals(0, memoizer.getEvictionCount());
+    }
+
+    @Test
+    public void testWeakValues() throws InterruptedException {
+        final Memoizer<Integer, Object> weak = Memoizer.<Integer, Object>builder()
+            .computable(i -> new Object())
+            .weakValues()
+            .evictionListener((key, value, cause) -> evictions.add(key + "=" + value + " " + cause))
+            .build();
+        Object value = weak.compute(1);
+        assertSame(value, weak.compute(1));
+        value = null;
+        for (int i = 0; i < 100 && weak.getMissCount() == 1; i++) {
+            System.gc();
+            // calculates the result again once it is reclaimed
+            weak.compute(1);
+        }
+        assertEquals(2, weak.getMissCount());
+        assertEquals(Arrays.asList("1=null COLLECTED"), evictions);
+    }
+}
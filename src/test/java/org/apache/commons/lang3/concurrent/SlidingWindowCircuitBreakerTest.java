@@ -0,0 +1,217 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.lang3.concurrent;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.commons.lang3.AbstractLangTest;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests {@link SlidingWindowCircuitBreaker}.
+ */
+public class SlidingWindowCircuitBreakerTest extends AbstractLangTest {
+
+    /**
+     * A circuit breaker with a manual clock.
+     */
+    private static final class SlidingWindowCircuitBreakerTestImpl extends SlidingWindowCircuitBreaker {
+
+        private long currentTime;
+
+        SlidingWindowCircuitBreakerTestImpl(final int openingThreshold, final long openingInterval, final int closingThreshold,
+                final long closingInterval) {
+            super(openingThreshold, openingInterval, TimeUnit.SECONDS, closingThreshold, closingInterval, TimeUnit.SECONDS);
+        }
+
+        SlidingWindowCircuitBreakerTestImpl at(final long time) {
+            currentTime = time;
+            return this;
+        }
+
+        @Override
+        long nanoTime() {
+            return currentTime;
+        }
+    }
+
+    /** Constant for the opening threshold. */
+    private static final int OPENING_THRESHOLD = 10;
+
+    /** Constant for the closing threshold. */
+    private static final int CLOSING_THRESHOLD = 5;
+
+    /** Constant for the factor for converting nanoseconds. */
+    private static final long NANO_FACTOR = 1000L * 1000L * 1000L;
+
+    /** Constant for a bucket of a 1 second interval divided in 10 buckets. */
+    private static final long BUCKET = NANO_FACTOR / 10;
+
+    @Test
+    public void testChangeEvents() {
+        final SlidingWindowCircuitBreakerTestImpl breaker = new SlidingWindowCircuitBreakerTestImpl(OPENING_THRESHOLD, 1, CLOSING_THRESHOLD, 1);
+        final List<Boolean> changes = new ArrayList<>();
+        breaker.addChangeListener(evt -> changes.add((Boolean) evt.getNewValue()));
+        long time = 10 * NANO_FACTOR;
+        for (int i = 0; i <= OPENING_THRESHOLD; i++) {
+            breaker.at(time += 1000).incrementAndCheckState();
+        }
+        breaker.at(time + NANO_FACTOR).checkState();
+        breaker.open();
+        breaker.close();
+        assertEquals(Arrays.asList(Boolean.TRUE, Boolean.FALSE, Boolean.TRUE, Boolean.FALSE), changes);
+    }
+
+    @Test
+    public void testClose() {
+        final SlidingWindowCircuitBreakerTestImpl breaker = new SlidingWindowCircuitBreakerTestImpl(OPENING_THRESHOLD, 2, CLOSING_THRESHOLD, 1);
+        long time = 10 * NANO_FACTOR;
+        for (int i = 0; i <= OPENING_THRESHOLD; i++, time += 1000) {
+            breaker.at(time).incrementAndCheckState();
+        }
+        assertTrue(breaker.isOpen());
+        breaker.close();
+        assertTrue(breaker.isClosed());
+        // the events before closing are not counted
+        assertTrue(breaker.at(time + 1000).incrementAndCheckState());
+        assertEquals(1, breaker.getEventCount());
+    }
+
+    @Test
+    public void testClosingWhenThresholdReached() {
+        final SlidingWindowCircuitBreakerTestImpl breaker = new SlidingWindowCircuitBreakerTestImpl(OPENING_THRESHOLD, 1, CLOSING_THRESHOLD, 1);
+        final long start = 10 * NANO_FACTOR;
+        breaker.at(start).open();
+        for (int i = 0; i < CLOSING_THRESHOLD; i++) {
+            assertFalse(breaker.at(start + i * BUCKET).incrementAndCheckState());
+        }
+        assertFalse(breaker.at(start + 9 * BUCKET).incrementAndCheckState());
+        // a whole closing interval must pass
+        assertFalse(breaker.at(start + NANO_FACTOR - 1).checkState());
+        assertEquals(6, breaker.getEventCount());
+        // the first event slid out of the window, but there are still enough events
+        assertFalse(breaker.at(start + NANO_FACTOR).checkState());
+        assertEquals(5, breaker.getEventCount());
+        assertTrue(breaker.at(start + NANO_FACTOR + BUCKET).checkState());
+    }
+
+    @Test
+    public void testConcurrentIncrements() throws InterruptedException {
+        final int threadCount = 8;
+        final int increments = 10_000;
+        final SlidingWindowCircuitBreaker breaker = new SlidingWindowCircuitBreaker(threadCount * increments, 1, TimeUnit.HOURS);
+        final CountDownLatch latch = new CountDownLatch(1);
+        final Thread[] threads = new Thread[threadCount];
+        for (int i = 0; i < threadCount; i++) {
+            threads[i] = new Thread(() -> {
+                try {
+                    latch.await();
+                } catch (final InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                for (int j = 0; j < increments; j++) {
+                    breaker.incrementAndCheckState();
+                }
+            });
+            threads[i].start();
+        }
+        latch.countDown();
+        for (final Thread thread : threads) {
+            thread.join();
+        }
+        assertTrue(breaker.isClosed());
+        assertEquals(threadCount * increments, breaker.getEventCount());
+        assertFalse(breaker.incrementAndCheckState());
+    }
+
+    @Test
+    public void testConstructor() {
+        final SlidingWindowCircuitBreaker breaker = new SlidingWindowCircuitBreaker(OPENING_THRESHOLD, 2, TimeUnit.SECONDS, CLOSING_THRESHOLD);
+        assertEquals(OPENING_THRESHOLD, breaker.getOpeningThreshold());
+        assertEquals(CLOSING_THRESHOLD, breaker.getClosingThreshold());
+        assertEquals(2 * NANO_FACTOR, breaker.getOpeningInterval());
+        assertEquals(2 * NANO_FACTOR, breaker.getClosingInterval());
+        assertTrue(breaker.isClosed());
+        assertEquals(0, breaker.getEventCount());
+        assertThrows(IllegalArgumentException.class, () -> new SlidingWindowCircuitBreaker(1, 0, TimeUnit.SECONDS));
+        assertThrows(IllegalArgumentException.class, () -> new SlidingWindowCircuitBreaker(1, 1, TimeUnit.SECONDS, 1, 0, TimeUnit.SECONDS));
+        assertThrows(IllegalArgumentException.class, () -> new SlidingWindowCircuitBreaker(1, 1, TimeUnit.SECONDS, 1, 1, TimeUnit.SECONDS, 0));
+    }
+
+    @Test
+    public void testNegativeNanoTime() {
+        final SlidingWindowCircuitBreaker breaker = new SlidingWindowCircuitBreaker(OPENING_THRESHOLD, 1, TimeUnit.SECONDS, CLOSING_THRESHOLD) {
+            @Override
+            long nanoTime() {
+                // System.nanoTime() has an arbitrary origin
+                return -10 * NANO_FACTOR;
+            }
+        };
+        for (int i = 0; i < OPENING_THRESHOLD; i++) {
+            assertTrue(breaker.incrementAndCheckState());
+        }
+        assertEquals(OPENING_THRESHOLD, breaker.getEventCount());
+        assertFalse(breaker.incrementAndCheckState());
+    }
+
+    @Test
+    public void testOpeningAcrossIntervals() {
+        final SlidingWindowCircuitBreakerTestImpl breaker = new SlidingWindowCircuitBreakerTestImpl(OPENING_THRESHOLD, 1, CLOSING_THRESHOLD, 1);
+        final long start = 10 * NANO_FACTOR;
+        // half of the events at the end of a second, half at the start of the next one: a tumbling interval would not count them together
+        for (int i = 0; i < 6; i++) {
+            assertTrue(breaker.at(start + 9 * BUCKET + i).incrementAndCheckState());
+        }
+        for (int i = 0; i < 4; i++) {
+            assertTrue(breaker.at(start + NANO_FACTOR + i).incrementAndCheckState());
+        }
+        assertFalse(breaker.at(start + NANO_FACTOR + 4).incrementAndCheckState());
+        assertTrue(breaker.isOpen());
+    }
+
+    @Test
+    public void testOpeningWhenThresholdReachedThroughBatch() {
+        final SlidingWindowCircuitBreakerTestImpl breaker = new SlidingWindowCircuitBreakerTestImpl(OPENING_THRESHOLD, 1, CLOSING_THRESHOLD, 1);
+        assertTrue(breaker.at(NANO_FACTOR).incrementAndCheckState(OPENING_THRESHOLD));
+        assertFalse(breaker.at(NANO_FACTOR + 1).incrementAndCheckState(1));
+    }
+
+    @Test
+    public void testWindowSlides() {
+        final SlidingWindowCircuitBreakerTestImpl breaker = new SlidingWindowCircuitBreakerTestImpl(OPENING_THRESHOLD, 1, CLOSING_THRESHOLD, 1);
+        final long start = 10 * NANO_FACTOR;
+        // one event per bucket never exceeds the threshold
+        for (int i = 0; i < 100; i++) {
+            assertTrue(breaker.at(start + i * BUCKET).incrementAndCheckState());
+        }
+        assertEquals(OPENING_THRESHOLD, breaker.getEventCount());
+        // the events of the buckets out of the window are not counted
+        assertEquals(5, breaker.at(start + 104 * BUCKET).getEventCount());
+        assertEquals(0, breaker.at(start + 1000 * BUCKET).getEventCount());
+        assertTrue(breaker.incrementAndCheckState());
+        assertEquals(1, breaker.getEventCount());
+    }
+}
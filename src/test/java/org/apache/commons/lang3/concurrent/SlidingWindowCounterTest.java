@@ -0,0 +1,85 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.lang3.concurrent;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.apache.commons.lang3.AbstractLangTest;
+import org.apache.commons.lang3.concurrent.SlidingWindowCounter.Snapshot;
+import org.apache.commons.lang3.concurrent.SlidingWindowCounter.Window;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests {@link SlidingWindowCounter}.
+ */
+public class SlidingWindowCounterTest extends AbstractLangTest {
+
+    /**
+     * Adds to both counters of the bucket of a time.
+     */
+    private static void add(final SlidingWindowCounter counter, final Window window, final long now, final long first, final long second) {
+        final Snapshot snapshot = counter.snapshot(window, now);
+        assertTrue(counter.prepare(snapshot));
+        counter.add(snapshot, 0, first);
+        counter.add(snapshot, 1, second);
+    }
+
+    @Test
+    public void testIntervals() {
+        // buckets of 10 nanoseconds, intervals of 2 and 4 buckets
+        final SlidingWindowCounter counter = new SlidingWindowCounter(10, 4, 2, 2, 4);
+        final Window window = counter.firstWindow(100);
+        add(counter, window, 100, 1, 10);
+        add(counter, window, 115, 2, 20);
+        add(counter, window, 125, 4, 40);
+        Snapshot snapshot = counter.snapshot(window, 139);
+        assertSame(snapshot, counter.snapshot(window, 131));
+        assertEquals(4, counter.count(snapshot, 0, 0));
+        assertEquals(40, counter.count(snapshot, 0, 1));
+        assertEquals(7, counter.count(snapshot, 1, 0));
+        add(counter, window, 139, 8, 80);
+        assertEquals(12, counter.count(snapshot, 0, 0));
+        assertEquals(15, counter.count(snapshot, 1, 0));
+        assertEquals(150, counter.count(snapshot, 1, 1));
+        // the ring wraps, the slot of the first bucket is reset
+        add(counter, window, 140, 16, 160);
+        snapshot = counter.snapshot(window, 140);
+        assertEquals(24, counter.count(snapshot, 0, 0));
+        assertEquals(30, counter.count(snapshot, 1, 0));
+    }
+
+    @Test
+    public void testNextWindow() {
+        final SlidingWindowCounter counter = new SlidingWindowCounter(10, 4, 1, 4);
+        final Window window = counter.firstWindow(100);
+        add(counter, window, 105, 1, 0);
+        final Window next = counter.nextWindow(window, 108);
+        assertEquals(108, next.getStart());
+        Snapshot snapshot = counter.snapshot(next, 110);
+        assertSame(next, snapshot.getWindow());
+        assertEquals(0, counter.count(snapshot, 0, 0));
+        // a thread which read the time before the new window counts nothing
+        assertFalse(counter.prepare(counter.snapshot(next, 90)));
+        snapshot = counter.snapshot(next, 110);
+        assertTrue(counter.prepare(snapshot));
+        counter.add(snapshot, 0, 3);
+        assertEquals(3, counter.count(snapshot, 0, 0));
+    }
+}
@@ -0,0 +1,129 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.lang3.concurrent;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.commons.lang3.AbstractLangTest;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests {@link SlidingWindowRateLimiter}.
+ */
+public class SlidingWindowRateLimiterTest extends AbstractLangTest {
+
+    /**
+     * A rate limiter with a manual clock, advanced by sleeping.
+     */
+    private static final class TestSlidingWindowRateLimiter extends SlidingWindowRateLimiter {
+
+        private long time;
+
+        private final List<Long> sleeps = new ArrayList<>();
+
+        TestSlidingWindowRateLimiter(final int limit) {
+            super(limit, 1, TimeUnit.SECONDS);
+        }
+
+        @Override
+        long nanoTime() {
+            return time;
+        }
+
+        @Override
+        void sleepNanos(final long nanos) {
+            sleeps.add(nanos);
+            time += nanos;
+        }
+    }
+
+    private static final long MILLIS = TimeUnit.MILLISECONDS.toNanos(1);
+
+    @Test
+    public void testConstructor() {
+        assertThrows(IllegalArgumentException.class, () -> new SlidingWindowRateLimiter(0, 1, TimeUnit.SECONDS));
+        assertThrows(IllegalArgumentException.class, () -> new SlidingWindowRateLimiter(1, 0, TimeUnit.SECONDS));
+        assertThrows(NullPointerException.class, () -> new SlidingWindowRateLimiter(1, 1, null));
+        final SlidingWindowRateLimiter limiter = new SlidingWindowRateLimiter(10, 1, TimeUnit.SECONDS);
+        assertEquals(10, limiter.getLimit());
+        assertEquals(10, limiter.getMaximumPermits());
+        assertEquals(1000 * MILLIS, limiter.getWindowNanos());
+        assertEquals(10, limiter.getAvailablePermits());
+    }
+
+    @Test
+    public void testNoBurstAcrossWindows() {
+        final TestSlidingWindowRateLimiter limiter = new TestSlidingWindowRateLimiter(10);
+        limiter.time = 999 * MILLIS;
+        assertTrue(limiter.tryAcquire(10));
+        limiter.time = 1000 * MILLIS;
+        // a fixed window would grant 10 more permits
+        assertFalse(limiter.tryAcquire());
+        limiter.time = 1500 * MILLIS;
+        assertEquals(5, limiter.getAvailablePermits());
+        assertTrue(limiter.tryAcquire(5));
+        assertFalse(limiter.tryAcquire());
+        // windows without permits are forgotten
+        limiter.time = 3500 * MILLIS;
+        assertEquals(10, limiter.getAvailablePermits());
+    }
+
+    @Test
+    public void testTryAcquire() {
+        final TestSlidingWindowRateLimiter limiter = new TestSlidingWindowRateLimiter(10);
+        assertTrue(limiter.tryAcquire(4));
+        assertTrue(limiter.tryAcquire(6));
+        assertFalse(limiter.tryAcquire());
+        assertEquals(0, limiter.getAvailablePermits());
+        assertThrows(IllegalArgumentException.class, () -> limiter.tryAcquire(0));
+        assertThrows(IllegalArgumentException.class, () -> limiter.tryAcquire(11));
+        // the clock may be negative
+        final TestSlidingWindowRateLimiter negative = new TestSlidingWindowRateLimiter(10);
+        negative.time = -1;
+        assertTrue(negative.tryAcquire(10));
+        negative.time = 0;
+        assertFalse(negative.tryAcquire());
+    }
+
+    @Test
+    public void testTryAcquireTimeout() throws InterruptedException {
+        final TestSlidingWindowRateLimiter limiter = new TestSlidingWindowRateLimiter(10);
+        limiter.time = 5000 * MILLIS;
+        assertTrue(limiter.tryAcquire(10));
+        limiter.time = 5500 * MILLIS;
+        // waiting for the next window, where 80% of this window still counts
+        assertFalse(limiter.tryAcquire(2, 699, TimeUnit.MILLISECONDS));
+        assertTrue(limiter.sleeps.isEmpty());
+        assertTrue(limiter.tryAcquire(2, 700, TimeUnit.MILLISECONDS));
+        assertEquals(Arrays.asList(700 * MILLIS), limiter.sleeps);
+        // waiting for the previous window to slide out
+        limiter.sleeps.clear();
+        assertTrue(limiter.tryAcquire(1, 1, TimeUnit.SECONDS));
+        assertEquals(Arrays.asList(100 * MILLIS), limiter.sleeps);
+        limiter.acquire(10);
+        // all the permits of this window must slide out
+        assertEquals(8000 * MILLIS, limiter.time);
+    }
+}
@@ -0,0 +1,87 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.lang3.concurrent;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks {@link AtomicTimedSemaphore} against {@link TimedSemaphore} with many threads acquiring permits from the same semaphore.
+ * <p>
+ * The limit is high enough for the permits to be acquired without blocking, so that the benchmark measures the cost of acquiring a permit under
+ * contention. Run with {@code mvn -Pbenchmark -Dbenchmark=TimedSemaphoreBenchmark}, the number of threads can be set with {@code -t}.
+ * </p>
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+@Threads(64)
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class TimedSemaphoreBenchmark {
+
+    private static final int LIMIT = Integer.MAX_VALUE;
+
+    private TimedSemaphore timedSemaphore;
+
+    private AtomicTimedSemaphore atomicTimedSemaphore;
+
+    @Benchmark
+    public void atomicAcquire() throws InterruptedException {
+        atomicTimedSemaphore.acquire();
+    }
+
+    @Benchmark
+    public boolean atomicTryAcquire() {
+        return atomicTimedSemaphore.tryAcquire();
+    }
+
+    @Setup
+    public void setup() {
+        timedSemaphore = new TimedSemaphore(100, TimeUnit.MILLISECONDS, LIMIT);
+        atomicTimedSemaphore = new AtomicTimedSemaphore(100, TimeUnit.MILLISECONDS, LIMIT);
+    }
+
+    @TearDown
+    public void tearDown() {
+        timedSemaphore.shutdown();
+        atomicTimedSemaphore.shutdown();
+    }
+
+    @Benchmark
+    public void timedAcquire() throws InterruptedException {
+        timedSemaphore.acquire();
+    }
+
+    @Benchmark
+    public boolean timedTryAcquire() {
+        return timedSemaphore.tryAcquire();
+    }
+}
@@ -0,0 +1,154 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.lang3.concurrent;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.apache.commons.lang3.AbstractLangTest;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests {@link TokenBucketRateLimiter}.
+ */
+public class TokenBucketRateLimiterTest extends AbstractLangTest {
+
+    /**
+     * A rate limiter with a manual clock, advanced by sleeping.
+     */
+    private static final class TestTokenBucketRateLimiter extends TokenBucketRateLimiter {
+
+        private long time;
+
+        private final List<Long> sleeps = new ArrayList<>();
+
+        TestTokenBucketRateLimiter(final int capacity, final int refillPermits, final long period, final TimeUnit unit) {
+            super(capacity, refillPermits, period, unit);
+        }
+
+        @Override
+        long nanoTime() {
+            return time;
+        }
+
+        @Override
+        void sleepNanos(final long nanos) {
+            sleeps.add(nanos);
+            time += nanos;
+        }
+    }
+
+    private static final long MILLIS = TimeUnit.MILLISECONDS.toNanos(1);
+
+    @Test
+    public void testAcquire() throws InterruptedException {
+        final TestTokenBucketRateLimiter limiter = new TestTokenBucketRateLimiter(10, 5, 1, TimeUnit.SECONDS);
+        limiter.acquire(10);
+        limiter.acquire();
+        limiter.acquire(5);
+        assertEquals(Arrays.asList(200 * MILLIS, 1000 * MILLIS), limiter.sleeps);
+        assertEquals(0, limiter.getAvailablePermits());
+    }
+
+    @Test
+    public void testConcurrentTryAcquire() throws InterruptedException {
+        final TokenBucketRateLimiter limiter = new TokenBucketRateLimiter(100, 1, 1, TimeUnit.HOURS);
+        final AtomicInteger acquired = new AtomicInteger();
+        final CountDownLatch latch = new CountDownLatch(1);
+        final Thread[] threads = new Thread[8];
+        for (int i = 0; i < threads.length; i++) {
+            threads[i] = new Thread(() -> {
+                try {
+                    latch.await();
+                    for (int j = 0; j < 50; j++) {
+                        if (limiter.tryAcquire()) {
+                            acquired.incrementAndGet();
+                        }
+                    }
+                } catch (final InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            });
+            threads[i].start();
+        }
+        latch.countDown();
+        for (final Thread thread : threads) {
+            thread.join();
+        }
+        assertEquals(100, acquired.get());
+    }
+
+    @Test
+    public void testConstructor() {
+        assertThrows(IllegalArgumentException.class, () -> new TokenBucketRateLimiter(0, 1, 1, TimeUnit.SECONDS));
+        assertThrows(IllegalArgumentException.class, () -> new TokenBucketRateLimiter(1, 0, 1, TimeUnit.SECONDS));
+        assertThrows(IllegalArgumentException.class, () -> new TokenBucketRateLimiter(1, 1, 0, TimeUnit.SECONDS));
+        assertThrows(IllegalArgumentException.class, () -> new TokenBucketRateLimiter(1, 2, 1, TimeUnit.NANOSECONDS));
+        assertThrows(NullPointerException.class, () -> new TokenBucketRateLimiter(1, 1, 1, null));
+        final TokenBucketRateLimiter limiter = new TokenBucketRateLimiter(10, 4, 1, TimeUnit.SECONDS);
+        assertEquals(10, limiter.getCapacity());
+        assertEquals(10, limiter.getMaximumPermits());
+        assertEquals(250 * MILLIS, limiter.getNanosPerPermit());
+        assertEquals(10, limiter.getAvailablePermits());
+    }
+
+    @Test
+    public void testTryAcquire() {
+        final TestTokenBucketRateLimiter limiter = new TestTokenBucketRateLimiter(10, 5, 1, TimeUnit.SECONDS);
+        assertEquals(10, limiter.getAvailablePermits());
+        assertTrue(limiter.tryAcquire(10));
+        assertFalse(limiter.tryAcquire());
+        assertEquals(0, limiter.getAvailablePermits());
+        limiter.time += 199 * MILLIS;
+        assertFalse(limiter.tryAcquire());
+        limiter.time += MILLIS;
+        assertTrue(limiter.tryAcquire());
+        limiter.time += 600 * MILLIS;
+        assertFalse(limiter.tryAcquire(4));
+        assertEquals(3, limiter.getAvailablePermits());
+        assertTrue(limiter.tryAcquire(3));
+        // the bucket does not hold more than its capacity
+        limiter.time += TimeUnit.HOURS.toNanos(1);
+        assertEquals(10, limiter.getAvailablePermits());
+        assertTrue(limiter.tryAcquire(10));
+        assertFalse(limiter.tryAcquire());
+        assertThrows(IllegalArgumentException.class, () -> limiter.tryAcquire(0));
+        assertThrows(IllegalArgumentException.class, () -> limiter.tryAcquire(11));
+    }
+
+    @Test
+    public void testTryAcquireTimeout() throws InterruptedException {
+        final TestTokenBucketRateLimiter limiter = new TestTokenBucketRateLimiter(10, 5, 1, TimeUnit.SECONDS);
+        assertTrue(limiter.tryAcquire(10, 0, TimeUnit.SECONDS));
+        // the permits are not available before the timeout, so the call does not wait
+        assertFalse(limiter.tryAcquire(3, 500, TimeUnit.MILLISECONDS));
+        assertTrue(limiter.sleeps.isEmpty());
+        assertTrue(limiter.tryAcquire(2, 500, TimeUnit.MILLISECONDS));
+        assertEquals(Arrays.asList(400 * MILLIS), limiter.sleeps);
+        assertTrue(limiter.tryAcquire(1, Long.MAX_VALUE, TimeUnit.DAYS));
+        assertThrows(IllegalArgumentException.class, () -> limiter.tryAcquire(11, 1, TimeUnit.DAYS));
+    }
+}
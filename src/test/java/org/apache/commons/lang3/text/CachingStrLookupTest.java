@@ -0,0 +1,194 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.lang3.text;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.commons.lang3.AbstractLangTest;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests {@link CachingStrLookup}.
+ */
+@Deprecated
+public class CachingStrLookupTest extends AbstractLangTest {
+
+    /**
+     * A caching lookup with a manual clock, recording the batches of {@link #lookupAll(Set)}.
+     */
+    private static final class TestCachingStrLookup extends CachingStrLookup<String> {
+
+        private long time;
+
+        private final List<Set<String>> batches = new ArrayList<>();
+
+        TestCachingStrLookup(final StrLookup<String> lookup, final long timeToLive, final long negativeTimeToLive, final int maximumSize) {
+            super(lookup, timeToLive, negativeTimeToLive, TimeUnit.NANOSECONDS, maximumSize);
+        }
+
+        @Override
+        protected Map<String, String> lookupAll(final Set<String> keys) {
+            batches.add(keys);
+            return super.lookupAll(keys);
+        }
+
+        @Override
+        long nanoTime() {
+            return time;
+        }
+    }
+
+    private final Map<String, String> values = new HashMap<>();
+
+    private final List<String> lookups = new ArrayList<>();
+
+    private final StrLookup<String> countingLookup = new StrLookup<String>() {
+
+        @Override
+        public String lookup(final String key) {
+            lookups.add(key);
+            return values.get(key);
+        }
+    };
+
+    @BeforeEach
+    public void setUp() {
+        values.put("animal", "fox");
+        values.put("target", "dog");
+    }
+
+    @Test
+    public void testConstructor() {
+        assertThrows(NullPointerException.class, () -> new CachingStrLookup<>(null, 1, TimeUnit.SECONDS, 1));
+        assertThrows(NullPointerException.class, () -> new CachingStrLookup<>(countingLookup, 1, null, 1));
+        assertThrows(IllegalArgumentException.class, () -> new CachingStrLookup<>(countingLookup, -1, TimeUnit.SECONDS, 1));
+        assertThrows(IllegalArgumentException.class, () -> new CachingStrLookup<>(countingLookup, 1, -1, TimeUnit.SECONDS, 1));
+        assertThrows(IllegalArgumentException.class, () -> new CachingStrLookup<>(countingLookup, 1, TimeUnit.SECONDS, 0));
+        assertThrows(NullPointerException.class, () -> new CachingStrLookup<>(countingLookup, null, TimeUnit.SECONDS, 1));
+        assertEquals(5, new CachingStrLookup<>(countingLookup, 1, TimeUnit.SECONDS, 5).getMaximumSize());
+    }
+
+    @Test
+    public void testMaximumSize() {
+        final TestCachingStrLookup lookup = new TestCachingStrLookup(countingLookup, 100, 100, 2);
+        lookup.lookup("animal");
+        for (int i = 0; i < 10; i++) {
+            // animal is looked up again before each one-off key, so the sweep evicts the one-off keys
+            assertEquals("fox", lookup.lookup("animal"));
+            lookup.lookup("key" + i);
+            assertEquals(2, lookup.size());
+        }
+        assertEquals(1, Collections.frequency(lookups, "animal"));
+        lookup.clear();
+        assertEquals(0, lookup.size());
+    }
+
+    @Test
+    public void testNegativeCaching() {
+        final TestCachingStrLookup lookup = new TestCachingStrLookup(countingLookup, 100, 10, 10);
+        assertNull(lookup.lookup("missing"));
+        lookup.time = 9;
+        assertNull(lookup.lookup("missing"));
+        assertEquals(1, lookups.size());
+        lookup.time = 10;
+        assertNull(lookup.lookup("missing"));
+        assertEquals(2, lookups.size());
+
+        final TestCachingStrLookup noNegative = new TestCachingStrLookup(countingLookup, 100, 0, 10);
+        lookups.clear();
+        assertNull(noNegative.lookup("missing"));
+        assertNull(noNegative.lookup("missing"));
+        assertEquals("fox", noNegative.lookup("animal"));
+        assertEquals("fox", noNegative.lookup("animal"));
+        assertEquals(Arrays.asList("missing", "missing", "animal"), lookups);
+        assertEquals(1, noNegative.size());
+    }
+
+    @Test
+    public void testPrefetch() {
+        final TestCachingStrLookup lookup = new TestCachingStrLookup(countingLookup, 100, 100, 10);
+        lookup.lookup("animal");
+        final StrSubstitutor substitutor = new StrSubstitutor();
+        substitutor.setEnableSubstitutionInVariables(true);
+        final StrSubstitutor.Template template = substitutor.compile("The ${animal} jumps over the ${target} ${target} ${missing} ${${nested}}.");
+        // the name of the last variable is only known when replacing
+        lookup.prefetch(template);
+        assertEquals(1, lookup.batches.size());
+        assertEquals(Arrays.asList("target", "missing"), new ArrayList<>(lookup.batches.get(0)));
+        assertEquals(Arrays.asList("animal", "target", "missing"), lookups);
+        lookups.clear();
+        assertEquals("The fox jumps over the dog dog ${missing} ${${nested}}.", template.replace(lookup));
+        assertEquals(Arrays.asList("nested", "${nested}"), lookups);
+        // everything is cached
+        lookups.clear();
+        lookup.prefetch(template);
+        assertEquals(1, lookup.batches.size());
+        lookup.time = 100;
+        lookup.prefetch(Arrays.asList("animal", "target"));
+        assertEquals(2, lookup.batches.size());
+        assertEquals(Arrays.asList("animal", "target"), lookups);
+    }
+
+    @Test
+    public void testTimeToLive() {
+        final TestCachingStrLookup lookup = new TestCachingStrLookup(countingLookup, 10, 10, 10);
+        final StrSubstitutor substitutor = new StrSubstitutor(lookup);
+        assertEquals("The fox jumps over the fox.", substitutor.replace("The ${animal} jumps over the ${animal}."));
+        lookup.time = 5;
+        assertEquals("fox", lookup.lookup("animal"));
+        assertEquals(1, lookups.size());
+        values.put("animal", "cat");
+        lookup.time = 10;
+        assertEquals("cat", lookup.lookup("animal"));
+        lookup.time = 15;
+        assertEquals("cat", lookup.lookup("animal"));
+        assertEquals(2, lookups.size());
+    }
+
+    @Test
+    public void testTimeToLiveFunction() {
+        final CachingStrLookup<String> lookup = new CachingStrLookup<String>(countingLookup,
+                (key, value) -> key.equals("animal") ? 10 : value == null ? -1 : 0, TimeUnit.NANOSECONDS, 10) {
+
+            @Override
+            long nanoTime() {
+                return 0;
+            }
+        };
+        assertEquals("fox", lookup.lookup("animal"));
+        assertEquals("fox", lookup.lookup("animal"));
+        // a time to live of zero looks the key up every time
+        assertEquals("dog", lookup.lookup("target"));
+        assertEquals("dog", lookup.lookup("target"));
+        assertEquals(Arrays.asList("animal", "target", "target"), lookups);
+        assertEquals(1, lookup.size());
+        assertThrows(IllegalArgumentException.class, () -> lookup.lookup("missing"));
+        assertNull(lookup.lookup(null));
+    }
+}
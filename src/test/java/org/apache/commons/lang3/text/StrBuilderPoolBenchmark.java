@@ -0,0 +1,81 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.lang3.text;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.CharacterCodingException;
+import java.nio.charset.CharsetEncoder;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks building a response of about 4 KB and encoding it to a byte buffer, with a new {@link StrBuilder} and {@link String#getBytes} against a
+ * pooled builder and {@link StrBuilder#writeTo(ByteBuffer, CharsetEncoder)}.
+ * <p>
+ * Run with {@code mvn -Pbenchmark -Dbenchmark=StrBuilderPoolBenchmark}.
+ * </p>
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Thread)
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@SuppressWarnings("deprecation") // deliberate use of deprecated code
+public class StrBuilderPoolBenchmark {
+
+    private final StrBuilderPool pool = StrBuilderPool.threadLocal(1, 64 * 1024);
+
+    private final CharsetEncoder encoder = StandardCharsets.UTF_8.newEncoder();
+
+    private final ByteBuffer output = ByteBuffer.allocate(16 * 1024);
+
+    private static StrBuilder build(final StrBuilder builder) {
+        for (int i = 0; i < 100; i++) {
+            builder.append("<item id=\"").append(i).append("\">some item text</item>").appendNewLine();
+        }
+        return builder;
+    }
+
+    @Benchmark
+    public ByteBuffer newBuilder() {
+        output.clear();
+        return output.put(build(new StrBuilder()).toString().getBytes(StandardCharsets.UTF_8));
+    }
+
+    @Benchmark
+    public ByteBuffer pooledBuilder() throws CharacterCodingException {
+        output.clear();
+        final StrBuilder builder = pool.borrow();
+        try {
+            build(builder).writeTo(output, encoder);
+        } finally {
+            pool.release(builder);
+        }
+        return output;
+    }
+}
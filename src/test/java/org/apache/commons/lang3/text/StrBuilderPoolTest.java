@@ -0,0 +1,115 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.lang3.text;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.apache.commons.lang3.AbstractLangTest;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests {@link StrBuilderPool}.
+ */
+@Deprecated
+public class StrBuilderPoolTest extends AbstractLangTest {
+
+    private static void testPool(final StrBuilderPool pool) {
+        final StrBuilder first = pool.borrow();
+        final StrBuilder second = pool.borrow();
+        assertNotSame(first, second);
+        first.setNullText("null").setNewLineText("\n").append("first");
+        pool.release(first);
+        final StrBuilder borrowed = pool.borrow();
+        assertSame(first, borrowed);
+        assertEquals(0, borrowed.length());
+        assertNull(borrowed.getNullText());
+        assertNull(borrowed.getNewLineText());
+        // the pool holds two builders at most
+        final StrBuilder third = pool.borrow();
+        pool.release(borrowed);
+        pool.release(second);
+        pool.release(third);
+        assertSame(second, pool.borrow());
+        assertSame(borrowed, pool.borrow());
+        assertNotSame(third, pool.borrow());
+        // builders over the maximum retained capacity are not pooled
+        final StrBuilder large = pool.borrow();
+        large.ensureCapacity(200);
+        pool.release(large);
+        assertNotSame(large, pool.borrow());
+    }
+
+    @Test
+    public void testApply() {
+        final StrBuilderPool pool = StrBuilderPool.shared(2, 100);
+        final AtomicReference<StrBuilder> used = new AtomicReference<>();
+        assertEquals("ab", pool.apply(builder -> {
+            used.set(builder);
+            return builder.append('a').append('b').toString();
+        }));
+        assertSame(used.get(), pool.borrow());
+        assertThrows(IllegalStateException.class, () -> pool.apply(builder -> {
+            used.set(builder);
+            throw new IllegalStateException();
+        }));
+        assertSame(used.get(), pool.borrow());
+        assertThrows(NullPointerException.class, () -> pool.apply(null));
+    }
+
+    @Test
+    public void testFactories() {
+        assertThrows(IllegalArgumentException.class, () -> StrBuilderPool.shared(0, 100));
+        assertThrows(IllegalArgumentException.class, () -> StrBuilderPool.threadLocal(1, 0));
+        final StrBuilderPool pool = StrBuilderPool.threadLocal(3, 100);
+        assertEquals(3, pool.getMaximumPoolSize());
+        assertEquals(100, pool.getMaximumRetainedCapacity());
+        assertThrows(NullPointerException.class, () -> pool.release(null));
+    }
+
+    @Test
+    public void testShared() throws InterruptedException {
+        final StrBuilderPool pool = StrBuilderPool.shared(2, 100);
+        testPool(pool);
+        // builders released by a thread are borrowed by others
+        final StrBuilder builder = pool.borrow();
+        final Thread thread = new Thread(() -> pool.release(builder));
+        thread.start();
+        thread.join();
+        assertSame(builder, pool.borrow());
+    }
+
+    @Test
+    public void testThreadLocal() throws InterruptedException {
+        final StrBuilderPool pool = StrBuilderPool.threadLocal(2, 100);
+        testPool(pool);
+        // builders released by a thread are only borrowed by that thread
+        final StrBuilder builder = pool.borrow();
+        pool.release(builder);
+        final AtomicReference<StrBuilder> borrowed = new AtomicReference<>();
+        final Thread thread = new Thread(() -> borrowed.set(pool.borrow()));
+        thread.start();
+        thread.join();
+        assertNotSame(builder, borrowed.get());
+        assertSame(builder, pool.borrow());
+    }
+}
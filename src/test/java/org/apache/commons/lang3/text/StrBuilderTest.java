@@ -28,12 +28,19 @@
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.io.Reader;
 import java.io.StringReader;
 import java.io.StringWriter;
 import java.io.Writer;
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
 import java.nio.CharBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.CharacterCodingException;
+import java.nio.charset.StandardCharsets;
 
 import org.apache.commons.lang3.AbstractLangTest;
 import org.apache.commons.lang3.ArrayUtils;
@@ -1924,4 +1931,50 @@ void testInsertIntInt() {
         assertEquals("a123bc", sb.toString());
     }
 
+    @Test
+    void testWriteToByteBuffer() throws IOException {
+        final StrBuilder sb = new StrBuilder("caf\u00e9 \uD840\uDC00");
+        final String expected = sb.toString();
+        final ByteBuffer buffer = ByteBuffer.allocate(64);
+        buffer.put((byte) 1);
+        assertEquals(10, sb.writeTo(buffer, StandardCharsets.UTF_8.newEncoder()));
+        assertEquals(11, buffer.position());
+        assertEquals(expected, new String(buffer.array(), 1, 10, StandardCharsets.UTF_8));
+        // the encoder is reset, and flushed
+        final ByteBuffer utf16 = ByteBuffer.allocate(64);
+        assertEquals(expected.getBytes(StandardCharsets.UTF_16).length, sb.writeTo(utf16, StandardCharsets.UTF_16.newEncoder()));
+        assertArrayEquals(expected.getBytes(StandardCharsets.UTF_16), ArrayUtils.subarray(utf16.array(), 0, utf16.position()));
+
+        final ByteBuffer small = ByteBuffer.allocate(9);
+        assertThrows(BufferOverflowException.class, () -> sb.writeTo(small, StandardCharsets.UTF_8.newEncoder()));
+        assertEquals(0, small.position());
+        assertThrows(CharacterCodingException.class, () -> sb.writeTo(buffer, StandardCharsets.US_ASCII.newEncoder()));
+        assertEquals(11, buffer.position());
+        assertEquals(0, new StrBuilder().writeTo(buffer, StandardCharsets.UTF_8.newEncoder()));
+        assertThrows(NullPointerException.class, () -> sb.writeTo((ByteBuffer) null, StandardCharsets.UTF_8.newEncoder()));
+        assertThrows(NullPointerException.class, () -> sb.writeTo(buffer, null));
+    }
+
+    @Test
+    void testWriteToChannel() throws IOException {
+        final StrBuilder sb = new StrBuilder();
+        for (int i = 0; i < 5000; i++) {
+            sb.append("caf\u00e9 \uD840\uDC00 ").append(i);
+        }
+        final ByteArrayOutputStream out = new ByteArrayOutputStream();
+        final long written = sb.writeTo(Channels.newChannel(out), StandardCharsets.UTF_8.newEncoder());
+        assertArrayEquals(sb.toString().getBytes(StandardCharsets.UTF_8), out.toByteArray());
+        assertEquals(out.size(), written);
+
+        out.reset();
+        final StrBuilder short16 = new StrBuilder("\u00e9");
+        assertEquals(4, short16.writeTo(Channels.newChannel(out), StandardCharsets.UTF_16.newEncoder()));
+        assertArrayEquals("\u00e9".getBytes(StandardCharsets.UTF_16), out.toByteArray());
+        out.reset();
+        assertEquals(0, new StrBuilder().writeTo(Channels.newChannel(out), StandardCharsets.UTF_8.newEncoder()));
+        assertEquals(0, out.size());
+        assertThrows(CharacterCodingException.class, () -> sb.writeTo(Channels.newChannel(out), StandardCharsets.US_ASCII.newEncoder()));
+        assertThrows(NullPointerException.class, () -> sb.writeTo((WritableByteChannel) null, StandardCharsets.UTF_8.newEncoder()));
+    }
+
 }
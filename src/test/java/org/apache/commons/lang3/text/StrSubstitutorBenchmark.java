@@ -0,0 +1,111 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.lang3.text;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks {@link StrSubstitutor} variable replacement.
+ * <p>
+ * Run with {@code mvn -Pbenchmark -Dbenchmark=StrSubstitutorBenchmark}.
+ * </p>
+ */
+@Deprecated
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Thread)
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class StrSubstitutorBenchmark {
+
+    @Param({ "4", "64" })
+    private int variables;
+
+    private Map<String, String> values;
+
+    private StrSubstitutor substitutor;
+
+    private String template;
+
+    private String nestedTemplate;
+
+    private StrSubstitutor.Template compiledTemplate;
+
+    private StrSubstitutor.Template compiledNestedTemplate;
+
+    private StrLookup<String> lookup;
+
+    @Benchmark
+    public String compiled() {
+        return compiledTemplate.replace(lookup);
+    }
+
+    @Benchmark
+    public String compiledNested() {
+        return compiledNestedTemplate.replace(lookup);
+    }
+
+    @Benchmark
+    public String replace() {
+        return substitutor.replace(template);
+    }
+
+    @Benchmark
+    public String replaceNested() {
+        return substitutor.replace(nestedTemplate);
+    }
+
+    @Benchmark
+    public String replaceStatic() {
+        return StrSubstitutor.replace(template, values);
+    }
+
+    @Setup
+    public void setUp() {
+        values = new HashMap<>();
+        for (int i = 0; i < variables; i++) {
+            values.put("var" + i, "value" + i);
+        }
+        values.put("nested", "var0");
+        substitutor = new StrSubstitutor(values);
+        substitutor.setEnableSubstitutionInVariables(true);
+        final StringBuilder builder = new StringBuilder();
+        for (int i = 0; i < variables; i++) {
+            builder.append("Some literal text ${var").append(i).append("} and an escaped $${var").append(i).append("}. ");
+        }
+        template = builder.toString();
+        nestedTemplate = template + "${${nested}} ${missing:-default}";
+        lookup = StrLookup.mapLookup(values);
+        compiledTemplate = substitutor.compile(template);
+        compiledNestedTemplate = substitutor.compile(nestedTemplate);
+    }
+}
@@ -25,11 +25,15 @@
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import java.io.IOException;
+import java.io.StringWriter;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.Properties;
+import java.util.Random;
 
 import org.apache.commons.lang3.AbstractLangTest;
+import org.apache.commons.lang3.RandomStringUtils;
 import org.apache.commons.lang3.SystemProperties;
 import org.apache.commons.lang3.mutable.MutableObject;
 import org.junit.jupiter.api.AfterEach;
@@ -154,6 +158,83 @@ public void tearDown() {
         values = null;
     }
 
+    private static void testCompileLikeReplace(final StrSubstitutor sub, final String chars) throws IOException {
+        final Random random = new Random(1);
+        final char[] charArray = chars.toCharArray();
+        for (int i = 0; i < 20_000; i++) {
+            final Map<String, String> map = new HashMap<>();
+            map.put("a", RandomStringUtils.random(random.nextInt(5), 0, 0, false, false, charArray, random));
+            map.put("b", RandomStringUtils.random(random.nextInt(3), 0, 0, false, false, "ab".toCharArray(), random));
+            map.put("ab", RandomStringUtils.random(random.nextInt(5), 0, 0, false, false, charArray, random));
+            sub.setVariableResolver(StrLookup.mapLookup(map));
+            sub.setEnableSubstitutionInVariables(random.nextBoolean());
+            sub.setPreserveEscapes(random.nextBoolean());
+            final String source = RandomStringUtils.random(random.nextInt(13), 0, 0, false, false, charArray, random);
+            final StrSubstitutor.Template template = sub.compile(source);
+            final String message = source + " / " + map + " / " + sub.isEnableSubstitutionInVariables() + " / " + sub.isPreserveEscapes();
+            String expected;
+            try {
+                expected = sub.replace(source);
+            } catch (final IllegalStateException e) {
+                expected = e.getMessage();
+            }
+            String actual;
+            try {
+                actual = template.replace(map);
+                assertEquals(actual, template.replace(new StringBuilder(), StrLookup.mapLookup(map)).toString(), message);
+            } catch (final IllegalStateException e) {
+                actual = e.getMessage();
+            }
+            assertEquals(expected, actual, message);
+        }
+    }
+
+    @Test
+    public void testCompile() throws IOException {
+        values.put("empty", "");
+        values.put("nested", "${animal} and ${target}");
+        final StrSubstitutor.Template template = new StrSubstitutor().compile("The ${animal} jumps over the ${target}${empty}. ${undefined:-1234}, ${nested}.");
+        assertEquals("The quick brown fox jumps over the lazy dog. 1234, quick brown fox and lazy dog.", template.replace(values));
+        assertEquals("The ${animal} jumps over the ${target}${empty}. 1234, ${nested}.", template.replace((StrLookup<?>) null));
+        final StringWriter writer = new StringWriter();
+        assertSame(writer, template.replace(writer, StrLookup.mapLookup(values)));
+        assertEquals(template.replace(values), writer.toString());
+        assertEquals("The ${animal} jumps over the ${target}${empty}. ${undefined:-1234}, ${nested}.", template.toString());
+        assertEquals(template.toString(), template.getSource());
+        assertThrows(NullPointerException.class, () -> new StrSubstitutor().compile(null));
+        assertThrows(NullPointerException.class, () -> template.replace(null, StrLookup.noneLookup()));
+    }
+
+    @Test
+    public void testCompileCyclic() {
+        final Map<String, String> map = new HashMap<>();
+        map.put("animal", "${critter}");
+        map.put("critter", "${animal}");
+        final StrSubstitutor.Template template = new StrSubstitutor().compile("The ${animal} jumps.");
+        final IllegalStateException expected = assertThrows(IllegalStateException.class, () -> new StrSubstitutor(map).replace(template.getSource()));
+        final IllegalStateException actual = assertThrows(IllegalStateException.class, () -> template.replace(map));
+        assertEquals(expected.getMessage(), actual.getMessage());
+    }
+
+    @Test
+    public void testCompileEscapedByValue() {
+        // The end of a value escapes a variable reference right after it.
+        final Map<String, String> map = new HashMap<>();
+        map.put("a", "x$");
+        map.put("b", "y");
+        final StrSubstitutor sub = new StrSubstitutor(map);
+        assertEquals(sub.replace("${a}${b}"), sub.compile("${a}${b}").replace(map));
+        sub.setPreserveEscapes(true);
+        assertEquals(sub.replace("${a}${b}"), sub.compile("${a}${b}").replace(map));
+    }
+
+    @Test
+    public void testCompileLikeReplace() throws IOException {
+        testCompileLikeReplace(new StrSubstitutor(), "${}:-ab");
+        testCompileLikeReplace(new StrSubstitutor((StrLookup<?>) null, "<", ">", '!', "|"), "<>!|ab$");
+        testCompileLikeReplace(new StrSubstitutor(null, StrMatcher.charMatcher('%'), StrMatcher.charSetMatcher("%;"), '%', null), "%;ab");
+    }
+
     /**
      * Tests constructor.
      */
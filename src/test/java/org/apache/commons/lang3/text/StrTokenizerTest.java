@@ -29,10 +29,16 @@
 import static org.junit.jupiter.api.Assertions.assertFalse;
 
 
+import java.io.IOException;
+import java.io.Reader;
+import java.io.StringReader;
+import java.nio.CharBuffer;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
 import java.util.NoSuchElementException;
+import java.util.Random;
 
 import org.apache.commons.lang3.AbstractLangTest;
 import org.apache.commons.lang3.ArrayUtils;
@@ -48,6 +54,30 @@ public class StrTokenizerTest extends AbstractLangTest {
 
     private static final String TSV_SIMPLE_FIXTURE = "A\tb\tc";
 
+    /**
+     * A Reader that returns a few chars at a time, to split the input at every possible boundary.
+     */
+    private static final class ChunkedReader extends Reader {
+
+        private final Reader reader;
+        private final Random random;
+
+        ChunkedReader(final String input, final Random random) {
+            this.reader = new StringReader(input);
+            this.random = random;
+        }
+
+        @Override
+        public void close() throws IOException {
+            reader.close();
+        }
+
+        @Override
+        public int read(final char[] cbuf, final int off, final int len) throws IOException {
+            return reader.read(cbuf, off, Math.min(len, 1 + random.nextInt(7)));
+        }
+    }
+
     private void checkClone(final StrTokenizer tokenizer) {
         assertNotSame(StrTokenizer.getCSVInstance(), tokenizer);
         assertNotSame(StrTokenizer.getTSVInstance(), tokenizer);
@@ -805,6 +835,64 @@ protected List<String> tokenize(final char[] chars, final int offset, final int
         assertEquals("a", tkn.next());
     }
 
+    @Test
+    public void testTokenizeOffset() {
+        assertEquals(Arrays.asList("a", "b"), new StrTokenizer().tokenize("x a b y".toCharArray(), 2, 3));
+    }
+
+    @Test
+    public void testTokenizeRecords() throws IOException {
+        final String input = "a,\"b\nc\",d\r\n\ne, \"f\"\"\",g";
+        final List<List<String>> records = new ArrayList<>();
+        final StrTokenizer tokenizer = StrTokenizer.getCSVInstance("x,y");
+        assertEquals(3, tokenizer.tokenizeRecords(new StringReader(input), records::add));
+        assertEquals(Arrays.asList(Arrays.asList("a", "b\nc", "d"), Collections.emptyList(), Arrays.asList("e", "f\"", "g")), records);
+        records.clear();
+        assertEquals(3, tokenizer.tokenizeRecords(CharBuffer.wrap(input + "\n"), records::add));
+        assertEquals(Arrays.asList(Arrays.asList("a", "b\nc", "d"), Collections.emptyList(), Arrays.asList("e", "f\"", "g")), records);
+        // A quote inside an unquoted token is a plain char.
+        records.clear();
+        assertEquals(2, tokenizer.tokenizeRecords(new StringReader("a\"b,c\n\"d\""), records::add));
+        assertEquals(Arrays.asList(Arrays.asList("a\"b", "c"), Collections.singletonList("d")), records);
+        assertEquals(0, tokenizer.tokenizeRecords(new StringReader(""), records::add));
+        // The tokenizer itself is unchanged.
+        assertEquals(Arrays.asList("x", "y"), tokenizer.getTokenList());
+    }
+
+    @Test
+    public void testTokenizeRecordsInChunks() throws IOException {
+        final Random random = new Random(1);
+        final List<List<String>> expected = new ArrayList<>();
+        final StringBuilder input = new StringBuilder();
+        for (int i = 0; i < 2_000; i++) {
+            final List<String> fields = new ArrayList<>();
+            final int fieldCount = 1 + random.nextInt(5);
+            for (int j = 0; j < fieldCount; j++) {
+                final StringBuilder field = new StringBuilder();
+                // Some records are longer than the initial buffer.
+                final int length = i % 500 == 0 ? 10_000 : random.nextInt(8);
+                for (int k = 0; k < length; k++) {
+                    field.append("ab,\"\n\t ".charAt(random.nextInt(7)));
+                }
+                fields.add(field.toString());
+                if (j > 0) {
+                    input.append(',');
+                }
+                if (field.length() > 0 && field.toString().trim().equals(field.toString()) && field.indexOf(",") < 0 && field.indexOf("\"") < 0
+                        && field.indexOf("\n") < 0) {
+                    input.append(field);
+                } else {
+                    input.append('"').append(field.toString().replace("\"", "\"\"")).append('"');
+                }
+            }
+            input.append(random.nextBoolean() ? "\n" : "\r\n");
+            expected.add(fields);
+        }
+        final List<List<String>> records = new ArrayList<>();
+        assertEquals(expected.size(), StrTokenizer.getCSVInstance().tokenizeRecords(new ChunkedReader(input.toString(), random), records::add));
+        assertEquals(expected, records);
+    }
+
     @Test
     public void testToString() {
         final StrTokenizer tkn = new StrTokenizer("a b c d e");
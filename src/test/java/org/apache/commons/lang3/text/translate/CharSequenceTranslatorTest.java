@@ -0,0 +1,215 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.lang3.text.translate;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.FilterReader;
+import java.io.IOException;
+import java.io.Reader;
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.io.Writer;
+import java.nio.CharBuffer;
+import java.util.Random;
+
+import org.apache.commons.lang3.AbstractLangTest;
+import org.apache.commons.lang3.StringEscapeUtils;
+import org.apache.commons.lang3.StringUtils;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests {@link CharSequenceTranslator}.
+ */
+@Deprecated
+public class CharSequenceTranslatorTest extends AbstractLangTest {
+
+    /**
+     * Reads at most a given number of chars at a time.
+     */
+    private static final class ChunkedReader extends FilterReader {
+
+        private final int chunk;
+
+        ChunkedReader(final String input, final int chunk) {
+            super(new StringReader(input));
+            this.chunk = chunk;
+        }
+
+        @Override
+        public int read(final char[] cbuf, final int off, final int len) throws IOException {
+            return super.read(cbuf, off, Math.min(len, chunk));
+        }
+    }
+
+    private static String randomText(final Random random, final int length) {
+        final String[] pieces = { "a", "Z", " ", "<", ">", "&", "\"", "'", "\\", "\n", "\t", "&amp;", "&lt;", "&#65;", "&#x1F600;", "&nbsp;", "&eacute;",
+            "\\n", "\\u00e9", "\\t", "\u00e9", "\u00a0", "\ud83d\ude00", "\ud800", "&#", "&" };
+        final StringBuilder builder = new StringBuilder(length + 16);
+        while (builder.length() < length) {
+            builder.append(pieces[random.nextInt(pieces.length)]);
+        }
+        return builder.toString();
+    }
+
+    /**
+     * Creates a translator offering every code point to the given translators in turn, without skipping any chars.
+     */
+    private static CharSequenceTranslator oneCharAtATime(final CharSequenceTranslator... translators) {
+        return new CharSequenceTranslator() {
+            @Override
+            public int translate(final CharSequence input, final int index, final Writer out) throws IOException {
+                for (final CharSequenceTranslator translator : translators) {
+                    final int consumed = translator.translate(input, index, out);
+                    if (consumed != 0) {
+                        return consumed;
+                    }
+                }
+                return 0;
+            }
+        };
+    }
+
+    private static String translate(final CharSequenceTranslator translator, final Reader reader) throws IOException {
+        final StringWriter writer = new StringWriter();
+        translator.translateStream(reader, writer);
+        return writer.toString();
+    }
+
+    @Test
+    public void testAsciiSkips() {
+        final CharSequenceTranslator.AsciiSkips skips = StringEscapeUtils.ESCAPE_HTML4.asciiSkips();
+        assertTrue(skips.contains('a'));
+        assertTrue(skips.contains('\''));
+        assertFalse(skips.contains('&'));
+        assertFalse(skips.contains('<'));
+        assertFalse(skips.contains('\u00e9'));
+        assertFalse(StringEscapeUtils.UNESCAPE_JAVA.asciiSkips().contains('\\'));
+        assertTrue(StringEscapeUtils.UNESCAPE_JAVA.asciiSkips().contains('u'));
+        assertSame(CharSequenceTranslator.AsciiSkips.NONE, new UnicodeEscaper().asciiSkips());
+        assertSame(CharSequenceTranslator.AsciiSkips.NONE, oneCharAtATime(StringEscapeUtils.ESCAPE_HTML4).asciiSkips());
+    }
+
+    @Test
+    public void testBulkCopyLikeOneCharAtATime() {
+        final CharSequenceTranslator[] translators = { StringEscapeUtils.ESCAPE_HTML4, StringEscapeUtils.UNESCAPE_HTML4, StringEscapeUtils.ESCAPE_XML10,
+            StringEscapeUtils.ESCAPE_XML11, StringEscapeUtils.UNESCAPE_XML, StringEscapeUtils.ESCAPE_JAVA, StringEscapeUtils.UNESCAPE_JAVA,
+            StringEscapeUtils.ESCAPE_ECMASCRIPT, StringEscapeUtils.ESCAPE_JSON, new UnicodeUnpairedSurrogateRemover(), NumericEntityEscaper.between(0x20, 0x40) };
+        final String input = randomText(new Random(11), 20_000);
+        for (final CharSequenceTranslator translator : translators) {
+            final String expected = oneCharAtATime(translator).translate(input);
+            assertEquals(expected, translator.translate(input));
+            assertEquals(expected, translator.translate(new StringBuilder(input)));
+            assertEquals(expected, translator.translate(CharBuffer.wrap(input)));
+            assertEquals(expected, translator.translate(CharBuffer.wrap(("." + input).toCharArray(), 1, input.length()).slice()));
+        }
+        // the aggregate only offers chars to the children that may translate them
+        final CharSequenceTranslator[] children = { new LookupTranslator(EntityArrays.BASIC_ESCAPE()), new LookupTranslator(EntityArrays.ISO8859_1_ESCAPE()),
+            new LookupTranslator(EntityArrays.HTML40_EXTENDED_ESCAPE()), new OctalUnescaper(), JavaUnicodeEscaper.outsideOf(32, 0x7f) };
+        assertEquals(oneCharAtATime(children).translate(input), new AggregateTranslator(children).translate(input));
+    }
+
+    @Test
+    public void testSubclassDeclaringMayTranslateIsSkipped() {
+        final LookupTranslator translator = new LookupTranslator(new String[][] { { "<", "&lt;" } }) {
+            @Override
+            protected boolean mayTranslate(final char c) {
+                return c == 'a' || super.mayTranslate(c);
+            }
+
+            @Override
+            public int translate(final CharSequence input, final int index, final Writer out) throws IOException {
+                if (input.charAt(index) == 'a') {
+                    out.write('A');
+                    return 1;
+                }
+                return super.translate(input, index, out);
+            }
+        };
+        assertFalse(translator.asciiSkips().contains('a'));
+        assertTrue(translator.asciiSkips().contains('b'));
+        assertEquals("A&lt;bA", translator.translate("a<ba"));
+    }
+
+    @Test
+    public void testSubclassTranslatingMoreIsNotSkipped() {
+        final LookupTranslator translator = new LookupTranslator(new String[][] { { "<", "&lt;" } }) {
+            @Override
+            public int translate(final CharSequence input, final int index, final Writer out) throws IOException {
+                if (input.charAt(index) == 'a') {
+                    out.write('A');
+                    return 1;
+                }
+                return super.translate(input, index, out);
+            }
+        };
+        assertSame(CharSequenceTranslator.AsciiSkips.NONE, translator.asciiSkips());
+        assertEquals("A&lt;bA", translator.translate("a<ba"));
+        assertEquals("A&lt;bA", translator.with(new OctalUnescaper()).translate("a<ba"));
+    }
+
+    @Test
+    public void testReaderLikeCharSequence() throws IOException {
+        final CharSequenceTranslator[] translators = { StringEscapeUtils.ESCAPE_HTML4, StringEscapeUtils.UNESCAPE_HTML4, StringEscapeUtils.ESCAPE_XML10,
+            StringEscapeUtils.UNESCAPE_XML, StringEscapeUtils.ESCAPE_JAVA, StringEscapeUtils.UNESCAPE_JAVA, StringEscapeUtils.ESCAPE_CSV, StringEscapeUtils.UNESCAPE_CSV,
+            new UnicodeUnpairedSurrogateRemover() };
+        final Random random = new Random(7);
+        final String input = randomText(random, 50_000);
+        for (final CharSequenceTranslator translator : translators) {
+            final String expected = translator.translate(input);
+            assertEquals(expected, translate(translator, new StringReader(input)));
+            for (final int chunk : new int[] { 1, 3, 1000, 8191 }) {
+                assertEquals(expected, translate(translator, new ChunkedReader(input, chunk)), () -> "chunk " + chunk);
+            }
+        }
+    }
+
+    @Test
+    public void testReaderLongLookupKeyAcrossBuffers() throws IOException {
+        final String key = StringUtils.repeat('k', 3000) + "!";
+        final LookupTranslator translator = new LookupTranslator(new String[][] { { key, "K" }, { "k", "x" } });
+        for (final int prefix : new int[] { 0, 1, 8191, 8192, 12_000 }) {
+            final String input = StringUtils.repeat('.', prefix) + key + StringUtils.repeat('k', 10) + key;
+            final String expected = translator.translate(input);
+            assertEquals(StringUtils.repeat('.', prefix) + "K" + StringUtils.repeat('x', 10) + "K", expected);
+            assertEquals(expected, translate(translator, new StringReader(input)), () -> "prefix " + prefix);
+            assertEquals(expected, translate(translator, new ChunkedReader(input, 4096)), () -> "prefix " + prefix);
+        }
+    }
+
+    @Test
+    public void testReaderNull() {
+        assertThrows(NullPointerException.class, () -> StringEscapeUtils.ESCAPE_JAVA.translateStream(null, new StringWriter()));
+        assertThrows(NullPointerException.class, () -> StringEscapeUtils.ESCAPE_JAVA.translateStream(new StringReader(""), null));
+    }
+
+    @Test
+    public void testReaderSurrogatePairAcrossBuffers() throws IOException {
+        final CharSequenceTranslator translator = JavaUnicodeEscaper.above(0x7f);
+        for (final int prefix : new int[] { 0, 8190, 8191, 8192, 16_383 }) {
+            final String input = StringUtils.repeat('a', prefix) + "\ud83d\ude00b\ud83d\ude00";
+            final String expected = translator.translate(input);
+            assertEquals(StringUtils.repeat('a', prefix) + "\\uD83D\\uDE00b\\uD83D\\uDE00", expected);
+            assertEquals(expected, translate(translator, new StringReader(input)), () -> "prefix " + prefix);
+            assertEquals(expected, translate(translator, new ChunkedReader(input, 1)), () -> "prefix " + prefix);
+        }
+    }
+}
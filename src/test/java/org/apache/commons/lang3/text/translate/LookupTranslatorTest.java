@@ -40,6 +40,35 @@ public void testBasicLookup() throws IOException {
         assertEquals("two", out.toString(), "Incorrect value");
     }
 
+    @Test
+    public void testLongestMatch() throws IOException {
+        final LookupTranslator lt = new LookupTranslator(new String[][] { { "a", "1" }, { "abc", "3" }, { "abcde", "5" }, { "b", "B" }, { "x", "X1" },
+            { "x", "X2" } });
+        assertEquals("5", translate(lt, "abcde", 0, 5));
+        assertEquals("3", translate(lt, "abcdX", 0, 3));
+        assertEquals("1", translate(lt, "abX", 0, 1));
+        assertEquals("3", translate(lt, "zabc", 1, 3));
+        assertEquals("B", translate(lt, "abc", 1, 1));
+        assertEquals("X2", translate(lt, "x", 0, 1));
+        assertEquals("", translate(lt, "cab", 0, 0));
+        assertEquals("1B3", lt.translate("ababc"));
+        assertEquals("", new LookupTranslator().translate(""));
+        assertEquals("abc", new LookupTranslator((CharSequence[][]) null).translate("abc"));
+    }
+
+    @Test
+    public void testMatchesLikeSubstringLookup() {
+        // Overlapping keys of every length from EntityArrays.
+        final LookupTranslator lt = new LookupTranslator(EntityArrays.HTML40_EXTENDED_UNESCAPE());
+        assertEquals("\u0391\u03b1&Alpha&alpha\u2660", lt.translate("&Alpha;&alpha;&Alpha&alpha&spades;"));
+    }
+
+    private String translate(final LookupTranslator lt, final String input, final int index, final int consumed) throws IOException {
+        final StringWriter out = new StringWriter();
+        assertEquals(consumed, lt.translate(input, index, out), "Incorrect code point consumption");
+        return out.toString();
+    }
+
     // Tests: https://issues.apache.org/jira/browse/LANG-882
     @Test
     public void testLang882() throws IOException {
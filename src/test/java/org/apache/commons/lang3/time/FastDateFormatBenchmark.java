@@ -0,0 +1,119 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.lang3.time;
+
+import java.text.ParseException;
+import java.util.Date;
+import java.util.Locale;
+import java.util.TimeZone;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks {@link FastDatePrinter} and {@link FastDateParser} through {@link FastDateFormat}.
+ * <p>
+ * Run with {@code mvn -Pbenchmark -Dbenchmark=FastDateFormatBenchmark}.
+ * </p>
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Thread)
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class FastDateFormatBenchmark {
+
+    @Param({ "yyyy-MM-dd'T'HH:mm:ss.SSSZ", "EEE, dd MMM yyyy HH:mm:ss zzz" })
+    private String pattern;
+
+    private FastDateFormat format;
+
+    private long millis;
+
+    private Date date;
+
+    private String formatted;
+
+    private StringBuilder buffer;
+
+    private long[] column;
+
+    private StringBuilder columnBuffer;
+
+    @Benchmark
+    public StringBuilder formatColumn() {
+        columnBuffer.setLength(0);
+        return format.format(column, ",", columnBuffer);
+    }
+
+    @Benchmark
+    public String[] formatColumnToArray() {
+        return format.format(column);
+    }
+
+    @Benchmark
+    public String formatDate() {
+        return format.format(date);
+    }
+
+    @Benchmark
+    public String formatMillis() {
+        return format.format(millis);
+    }
+
+    @Benchmark
+    public StringBuilder formatMillisToBuffer() {
+        buffer.setLength(0);
+        return format.format(millis, buffer);
+    }
+
+    @Benchmark
+    public FastDateFormat getInstance() {
+        return FastDateFormat.getInstance(pattern, TimeZones.GMT, Locale.US);
+    }
+
+    @Benchmark
+    public Date parse() throws ParseException {
+        return format.parse(formatted);
+    }
+
+    @Setup
+    public void setUp() {
+        format = FastDateFormat.getInstance(pattern, TimeZone.getTimeZone("America/New_York"), Locale.US);
+        millis = 1_700_000_000_123L;
+        date = new Date(millis);
+        formatted = format.format(millis);
+        buffer = new StringBuilder(64);
+        // One timestamp a minute, a day of an access log spread over a few columns.
+        column = new long[1024];
+        for (int i = 0; i < column.length; i++) {
+            column[i] = millis + i * 60_000L;
+        }
+        columnBuffer = new StringBuilder(column.length * 64);
+    }
+}
@@ -21,6 +21,8 @@
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertNotSame;
 import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.junit.jupiter.api.Assertions.fail;
 
 import java.text.FieldPosition;
@@ -41,6 +43,7 @@
 import java.util.concurrent.atomic.AtomicLongArray;
 
 import org.apache.commons.lang3.AbstractLangTest;
+import org.apache.commons.lang3.util.CacheStatistics;
 import org.junit.jupiter.api.Test;
 import org.junitpioneer.jupiter.DefaultLocale;
 import org.junitpioneer.jupiter.DefaultTimeZone;
@@ -209,6 +212,30 @@ public void test_getInstance_String_TimeZone_Locale() {
         assertEquals(Locale.GERMANY, format3.getLocale());
     }
 
+    @Test
+    public void testCacheMaximumSize() {
+        final int maximumSize = FastDateFormat.getCacheMaximumSize();
+        assertEquals(Integer.MAX_VALUE, maximumSize);
+        try {
+            FastDateFormat.setCacheMaximumSize(8);
+            assertEquals(8, FastDateFormat.getCacheMaximumSize());
+            final CacheStatistics before = FastDateFormat.getCacheStatistics();
+            final FastDateFormat hot = FastDateFormat.getInstance("yyyy-MM-dd", TimeZones.GMT, Locale.US);
+            for (int i = 0; i < 50; i++) {
+                assertSame(hot, FastDateFormat.getInstance("yyyy-MM-dd", TimeZones.GMT, Locale.US));
+                FastDateFormat.getInstance("yyyy-MM-dd '" + i + "'", TimeZones.GMT, Locale.US);
+            }
+            final CacheStatistics after = FastDateFormat.getCacheStatistics();
+            assertTrue(after.getSize() <= 8, after::toString);
+            assertTrue(after.getHitCount() - before.getHitCount() >= 50, after::toString);
+            assertTrue(after.getMissCount() - before.getMissCount() >= 50, after::toString);
+            assertTrue(after.getEvictionCount() - before.getEvictionCount() >= 43, after::toString);
+            assertThrows(IllegalArgumentException.class, () -> FastDateFormat.setCacheMaximumSize(0));
+        } finally {
+            FastDateFormat.setCacheMaximumSize(maximumSize);
+        }
+    }
+
     @Test
     public void testCheckDefaults() {
         final FastDateFormat format = FastDateFormat.getInstance();
@@ -16,6 +16,7 @@
  */
 package org.apache.commons.lang3.time;
 
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotEquals;
@@ -495,6 +496,52 @@ public void testParseNumerics(final TriFunction<String, TimeZone, Locale, DatePa
         assertEquals(cal.getTime(), fdf.parse("20030210153320989"));
     }
 
+    /**
+     * Tests that numeric patterns, which are parsed without a Calendar, parse like the Calendar based parse.
+     */
+    @Test
+    public void testParseNumericsLikeCalendar() {
+        final String[] patterns = { "yyyy-MM-dd'T'HH:mm:ss.SSSZ", "yyyy-MM-dd'T'HH:mm:ss.SSSX", "yyyy-MM-dd'T'HH:mm:ss.SSSXX",
+            "yyyy-MM-dd'T'HH:mm:ss.SSSXXX", "yyyyMMddHHmmssSSS", "yy/M/d k:m", "dd.MM.yyyy", "yyyy-MM-dd HH:mm ZZ" };
+        final String[] sources = { "2003-02-10T15:33:20.989+0100", "2003-02-10T15:33:20.989-05", "2003-02-10T15:33:20.989Z",
+            "2003-02-10T15:33:20.989+05:30", "2003-02-10T15:33:20.989+2400", "2003-02-10T15:33:20.989+0160", "2003-13-32T25:61:61.1001+0000",
+            "2003-00-00T00:00:00.000-0000", "1582-10-15T00:00:00.000+0000", "1583-01-01T00:00:00.000+0000", "1583-01-01T00:00:00.000+0000 trailing",
+            "20030210153320989", "200302101533209", "03/2/10 24:33", "3/12/31 1:2", "99/1/1 0:0", "10.02.2003", "10.2.2003", " 10.02.2003",
+            "10.02.\u0662\u0660\u0660\u0663", "2003-02-10 15:33 +05:30", "2003-02-10 15:33 Z", "2003-02-10 15:33 UTC", "", "garbage" };
+        final TimeZone[] timeZones = { TimeZones.GMT, NEW_YORK, INDIA, TimeZone.getTimeZone("GMT+05:30"), FastTimeZone.getGmtTimeZone("-08:00"),
+            TimeZone.getTimeZone("Etc/GMT-3") };
+        for (final String pattern : patterns) {
+            for (final TimeZone timeZone : timeZones) {
+                for (final Locale locale : new Locale[] { Locale.US, FastDateParser.JAPANESE_IMPERIAL, new Locale("th", "TH") }) {
+                    final FastDateParser parser = new FastDateParser(pattern, timeZone, locale);
+                    for (final String source : sources) {
+                        for (final int index : new int[] { 0, 1 }) {
+                            final String message = pattern + ", " + timeZone.getID() + ", " + locale + ", '" + source + "', " + index;
+                            final ParsePosition expectedPos = new ParsePosition(index);
+                            final Calendar cal = Calendar.getInstance(timeZone, locale);
+                            cal.clear();
+                            Date expected;
+                            try {
+                                expected = parser.parse(source, expectedPos, cal) ? cal.getTime() : null;
+                            } catch (final IllegalArgumentException e) {
+                                assertThrows(e.getClass(), () -> parser.parse(source, new ParsePosition(index)), message);
+                                continue;
+                            }
+                            final ParsePosition actualPos = new ParsePosition(index);
+                            assertEquals(expected, parser.parse(source, actualPos), message);
+                            if (expected != null) {
+                                assertEquals(expectedPos.getIndex(), actualPos.getIndex(), message);
+                                if (index == 0) {
+                                    assertEquals(expected, assertDoesNotThrow(() -> parser.parse(source)), message);
+                                }
+                            }
+                        }
+                    }
+                }
+            }
+        }
+    }
+
     @Test
     public void testParseOffset() {
         final DateParser parser = getInstance(YMD_SLASH);
@@ -16,18 +16,23 @@
  */
 package org.apache.commons.lang3.time;
 
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import java.io.Serializable;
+import java.nio.BufferOverflowException;
+import java.nio.CharBuffer;
 import java.text.FieldPosition;
 import java.text.SimpleDateFormat;
 import java.util.Calendar;
 import java.util.Date;
 import java.util.GregorianCalendar;
 import java.util.Locale;
+import java.util.Random;
+import java.util.SimpleTimeZone;
 import java.util.TimeZone;
 
 import org.apache.commons.lang3.AbstractLangTest;
@@ -215,6 +220,68 @@ public void testFormat() {
         assertEquals(sdf.format(date2).replace("2003 03 03 03", "2003 2003 03 2003"), fdf.format(date2));
     }
 
+    @Test
+    public void testFormatMillisLikeCalendar() {
+        final String[] patterns = { "yyyy-MM-dd'T'HH:mm:ss.SSSZ", "yyyy-MM-dd'T'HH:mm:ss.SSSX", "yyyy-MM-dd'T'HH:mm:ss.SSSXX",
+            "yyyy-MM-dd'T'HH:mm:ss.SSSXXX", "yyyyMMddHHmmssSSS", "yy/M/d k:m h K a", "dd.MM.yyyy", "yyyy-MM-dd HH:mm ZZ", "EEE, dd MMM yyyy D u",
+            "y LLLL L MMMM", "yyyy-MM-dd HH:mm zzz", "yyyy-'W'ww-u F W" };
+        final TimeZone[] timeZones = { TimeZones.GMT, NEW_YORK, INDIA, TimeZone.getTimeZone("GMT+05:30"), FastTimeZone.getGmtTimeZone("-08:00"),
+            TimeZone.getTimeZone("Etc/GMT-3"), TimeZone.getTimeZone("Australia/Lord_Howe"), new SimpleTimeZone(3_600_000, "Europe/Paris") };
+        final Random random = new Random(42);
+        final long[] millis = new long[64 + 2 * 80];
+        final long[] fixed = { 0, -1, 1, 1_044_891_200_989L, 1_046_934_000_000L, 1_047_193_200_000L, 1_047_196_799_999L, 1_047_196_800_000L,
+            1_067_752_800_000L, 1_067_756_400_000L, -12_219_292_800_000L, -12_219_292_800_001L, -12_219_379_200_000L, -62_135_596_800_000L,
+            253_402_300_799_999L, 315_537_897_599_999L, Long.MAX_VALUE, Long.MIN_VALUE };
+        System.arraycopy(fixed, 0, millis, 0, fixed.length);
+        for (int i = fixed.length; i < 64; i++) {
+            millis[i] = random.nextLong() % 4_000_000_000_000L + 1_000_000_000_000L;
+        }
+        // Walk across the New York daylight saving transitions of 2003 to exercise the cached offset.
+        for (int i = 0; i < 80; i++) {
+            millis[64 + i] = 1_049_526_000_000L + i * 37 * 60_000L;
+            millis[64 + 80 + i] = 1_067_061_600_000L + i * 37 * 60_000L;
+        }
+        for (final String pattern : patterns) {
+            for (final TimeZone timeZone : timeZones) {
+                for (final Locale locale : new Locale[] { Locale.US, SWEDEN, FastDateParser.JAPANESE_IMPERIAL, new Locale("th", "TH") }) {
+                    final DatePrinter printer = getInstance(pattern, timeZone, locale);
+                    for (final long millis1 : millis) {
+                        final String message = pattern + ", " + timeZone.getID() + ", " + locale + ", " + millis1;
+                        final Calendar cal = Calendar.getInstance(timeZone, locale);
+                        cal.setTimeInMillis(millis1);
+                        final String expected = printer.format(cal);
+                        assertEquals(expected, printer.format(millis1), message);
+                        assertEquals(expected, printer.format(new Date(millis1)), message);
+                        assertEquals(expected, printer.format(millis1, new StringBuilder()).toString(), message);
+                        assertEquals(expected, printer.format(millis1, new StringBuffer()).toString(), message);
+                    }
+                }
+            }
+        }
+    }
+
+    @Test
+    public void testFormatMillisArray() {
+        final long[] millis = { 1_049_526_000_000L, 1_049_526_000_001L, 1_049_612_400_000L, -12_219_292_800_000L, 1_049_626_800_000L, 0 };
+        for (final String pattern : new String[] { "yyyy-MM-dd'T'HH:mm:ss.SSSZ", "EEE, dd MMM yyyy HH:mm:ss zzz", "YYYY-'W'ww" }) {
+            final DatePrinter printer = getInstance(pattern, NEW_YORK, Locale.US);
+            final String[] expected = new String[millis.length];
+            for (int i = 0; i < millis.length; i++) {
+                expected[i] = printer.format(millis[i]);
+            }
+            assertArrayEquals(expected, printer.format(millis));
+            assertEquals(String.join(", ", expected), printer.format(millis, ", ", new StringBuilder()).toString());
+            assertEquals(String.join("", expected), printer.format(millis, null, new StringBuilder()).toString());
+            final CharBuffer buffer = printer.format(millis, "\n", CharBuffer.allocate(1024));
+            buffer.flip();
+            assertEquals(String.join("\n", expected), buffer.toString());
+        }
+        final DatePrinter printer = getInstance(YYYY_MM_DD);
+        assertArrayEquals(new String[0], printer.format(new long[0]));
+        assertEquals("", printer.format(new long[0], ",", new StringBuilder()).toString());
+        assertThrows(BufferOverflowException.class, () -> printer.format(millis, ",", CharBuffer.allocate(8)));
+    }
+
     @Test
     public void testHourFormats() {
         final Calendar calendar = Calendar.getInstance();
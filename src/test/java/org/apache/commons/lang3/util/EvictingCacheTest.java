@@ -0,0 +1,143 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.lang3.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.commons.lang3.AbstractLangTest;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests {@link EvictingCache}.
+ */
+public class EvictingCacheTest extends AbstractLangTest {
+
+    @Test
+    public void testBounded() {
+        final EvictingCache<Integer, String> cache = new EvictingCache<>(10);
+        for (int i = 0; i < 100; i++) {
+            cache.computeIfAbsent(i, String::valueOf);
+            assertTrue(cache.size() <= 10, () -> String.valueOf(cache.size()));
+        }
+        assertEquals(10, cache.size());
+        assertEquals(0, cache.getStatistics().getHitCount());
+        assertEquals(100, cache.getStatistics().getMissCount());
+        assertEquals(90, cache.getStatistics().getEvictionCount());
+    }
+
+    @Test
+    public void testConcurrentAccess() throws InterruptedException {
+        final EvictingCache<Integer, String> cache = new EvictingCache<>(16);
+        final ExecutorService pool = Executors.newFixedThreadPool(4);
+        try {
+            for (int t = 0; t < 4; t++) {
+                pool.submit(() -> {
+                    for (int i = 0; i < 10_000; i++) {
+                        final int key = i % 64;
+                        assertEquals(String.valueOf(key), cache.computeIfAbsent(key, String::valueOf));
+                    }
+                });
+            }
+        } finally {
+            pool.shutdown();
+            assertTrue(pool.awaitTermination(30, TimeUnit.SECONDS));
+        }
+        assertTrue(cache.size() <= 16, () -> String.valueOf(cache.size()));
+        assertEquals(40_000, cache.getStatistics().getHitCount() + cache.getStatistics().getMissCount());
+    }
+
+    @Test
+    public void testFrequentlyUsedEntriesSurvive() {
+        final EvictingCache<String, Object> cache = new EvictingCache<>(4);
+        final Object hot = cache.computeIfAbsent("hot", k -> new Object());
+        for (int i = 0; i < 100; i++) {
+            assertSame(hot, cache.computeIfAbsent("hot", k -> new Object()));
+            cache.computeIfAbsent("cold" + i, k -> new Object());
+        }
+        assertSame(hot, cache.computeIfAbsent("hot", k -> new Object()));
+        assertEquals(101, cache.getStatistics().getHitCount());
+        assertEquals(101, cache.getStatistics().getMissCount());
+    }
+
+    @Test
+    public void testHitsAndMisses() {
+        final EvictingCache<String, Object> cache = new EvictingCache<>();
+        assertEquals(EvictingCache.UNBOUNDED, cache.getMaximumSize());
+        final Object value = cache.computeIfAbsent("a", k -> new Object());
+        assertSame(value, cache.computeIfAbsent("a", k -> new Object()));
+        assertNotSame(value, cache.computeIfAbsent("b", k -> new Object()));
+        assertEquals(1, cache.getStatistics().getHitCount());
+        assertEquals(2, cache.getStatistics().getMissCount());
+        assertEquals(0, cache.getStatistics().getEvictionCount());
+        assertEquals(2, cache.size());
+        cache.clear();
+        assertEquals(0, cache.size());
+        assertNotSame(value, cache.computeIfAbsent("a", k -> new Object()));
+    }
+
+    @Test
+    public void testPutGetRemove() {
+        final EvictingCache<String, Object> cache = new EvictingCache<>(2);
+        final Object a = new Object();
+        assertNull(cache.get("a"));
+        cache.put("a", a);
+        assertSame(a, cache.get("a"));
+        assertFalse(cache.remove("a", new Object()));
+        assertTrue(cache.remove("a", a));
+        assertNull(cache.get("a"));
+        cache.put("a", a);
+        cache.put("b", new Object());
+        cache.put("c", new Object());
+        assertEquals(2, cache.size());
+        assertEquals(1, cache.getStatistics().getEvictionCount());
+        assertEquals(1, cache.getStatistics().getHitCount());
+        assertEquals(2, cache.getStatistics().getMissCount());
+        assertThrows(NullPointerException.class, () -> cache.put("d", null));
+        assertThrows(NullPointerException.class, () -> cache.computeIfAbsent("d", k -> null));
+    }
+
+    @Test
+    public void testSetMaximumSize() {
+        final EvictingCache<Integer, String> cache = new EvictingCache<>();
+        for (int i = 0; i < 100; i++) {
+            cache.computeIfAbsent(i, String::valueOf);
+        }
+        assertEquals(100, cache.size());
+        cache.setMaximumSize(5);
+        assertEquals(5, cache.getMaximumSize());
+        assertEquals(5, cache.size());
+        assertEquals(95, cache.getStatistics().getEvictionCount());
+        assertThrows(IllegalArgumentException.class, () -> cache.setMaximumSize(-1));
+        assertThrows(IllegalArgumentException.class, () -> new EvictingCache<>(-1));
+        cache.setMaximumSize(0);
+        assertEquals(0, cache.size());
+        assertEquals("1", cache.computeIfAbsent(1, String::valueOf));
+        cache.put(2, "2");
+        assertEquals(0, cache.size());
+        assertEquals(0, cache.getStatistics().getSize());
+    }
+}